@@ -0,0 +1,139 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.PricesServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Utilidades comunes de los benchmarks: arranque del servicio sobre H2 embebido y generación
+ * de un catálogo sintético de tarifas.
+ * <p>
+ * El catálogo generado tiene {@value #TARIFFS_PER_PRODUCT} tarifas solapadas por producto (cadena 1),
+ * escalonadas cada 30 días con 60 días de vigencia y prioridades alternas, de forma que cada consulta
+ * compite entre dos tarifas como en un producto real con promociones.
+ * </p>
+ */
+public final class BenchmarkContext {
+
+    public static final long BRAND_ID = 1L;
+    public static final int TARIFFS_PER_PRODUCT = 10;
+    public static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    /**
+     * Misma base de datos H2 en memoria que {@link #start}, vista desde R2DBC.
+     */
+    public static final String R2DBC_URL = "r2dbc:h2:mem:///benchmark";
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Arranca el servicio completo sobre una base de datos H2 en memoria.
+     *
+     * @param properties Propiedades adicionales ({@code clave=valor}) para el escenario.
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "prices.change-feed.poll-interval=PT1H"));
+        defaults.addAll(List.of(properties));
+        return new SpringApplicationBuilder(PricesServiceApplication.class)
+                .properties(defaults.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Inserta {@code rows} tarifas sintéticas con una única sentencia {@code INSERT ... SELECT}.
+     * <p>
+     * Se eliminan los triggers del changelog: el catálogo sintético no necesita invalidaciones y, con
+     * millones de filas, el trigger por fila dominaría el tiempo de preparación. En PostgreSQL (base de
+     * datos dedicada a la prueba) la tabla se vacía antes y se analiza después para que el planificador
+     * parta de estadísticas reales.
+     * </p>
+     */
+    public static void generatePrices(JdbcTemplate jdbcTemplate, int rows) {
+        if (isPostgres(jdbcTemplate)) {
+            for (String operation : List.of("insert", "update", "delete")) {
+                jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_prices_changes_" + operation + " ON prices");
+            }
+            jdbcTemplate.execute("TRUNCATE prices");
+            jdbcTemplate.update("""
+                    INSERT INTO prices (brand_id, product_id, start_date, end_date, price_list, priority, price, currency)
+                    SELECT 1,
+                           (x - 1) / 10 + 1,
+                           TIMESTAMP '2025-01-01 00:00:00' + (x % 10) * 30 * INTERVAL '1 day',
+                           TIMESTAMP '2025-01-01 00:00:00' + ((x % 10) * 30 + 60) * INTERVAL '1 day',
+                           x % 10 + 1,
+                           x % 3,
+                           10 + x % 100,
+                           'EUR'
+                    FROM generate_series(1, ?) AS x""", rows);
+            jdbcTemplate.execute("ANALYZE prices");
+            return;
+        }
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_prices_changes");
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, product_id, start_date, end_date, price_list, priority, price, currency)
+                SELECT 1,
+                       (X - 1) / 10 + 1,
+                       DATEADD('DAY', MOD(X, 10) * 30, TIMESTAMP '2025-01-01 00:00:00'),
+                       DATEADD('DAY', MOD(X, 10) * 30 + 60, TIMESTAMP '2025-01-01 00:00:00'),
+                       MOD(X, 10) + 1,
+                       MOD(X, 3),
+                       10 + MOD(X, 100),
+                       'EUR'
+                FROM SYSTEM_RANGE(1, ?)""", rows);
+    }
+
+    private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    /**
+     * Número de productos generados para un tamaño de catálogo.
+     */
+    public static int products(int rows) {
+        return Math.max(1, rows / TARIFFS_PER_PRODUCT);
+    }
+
+    /**
+     * Claves de consulta aleatorias (producto y fecha) precalculadas para no medir su generación.
+     */
+    public static final class LookupKeys {
+
+        private final long[] productIds;
+        private final LocalDateTime[] dates;
+
+        public LookupKeys(int products, int size, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            this.productIds = new long[size];
+            this.dates = new LocalDateTime[size];
+            for (int i = 0; i < size; i++) {
+                productIds[i] = random.nextLong(1, products + 1L);
+                dates[i] = BASE_DATE.plusMinutes(random.nextLong(0, 330L * 24 * 60));
+            }
+        }
+
+        public int size() {
+            return productIds.length;
+        }
+
+        public long productId(int i) {
+            return productIds[i];
+        }
+
+        public LocalDateTime date(int i) {
+            return dates[i];
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PriceJdbcPersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia y asignación por consulta de {@link PricePersistenceAdapter} (JPA + MapStruct) frente a
+ * {@link PriceJdbcPersistenceAdapter} (proyección directa). Con {@code -prof gc}, comparar
+ * {@code gc.alloc.rate.norm} (bytes por operación).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PriceAdapterBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryPort jpaAdapter;
+    private PriceRepositoryPort jdbcAdapter;
+    private BenchmarkContext.LookupKeys keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.generatePrices(context.getBean(JdbcTemplate.class), rows);
+        PriceJdbcRepository priceJdbcRepository = context.getBean(PriceJdbcRepository.class);
+        jpaAdapter = new PricePersistenceAdapter(context.getBean(PriceJpaRepository.class),
+                context.getBean(PriceEntityMapper.class), priceJdbcRepository, false);
+        jdbcAdapter = new PriceJdbcPersistenceAdapter(priceJdbcRepository, false);
+        keys = new BenchmarkContext.LookupKeys(BenchmarkContext.products(rows), 4096, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Price> jpa(PriceRepositoryBenchmark.Cursor cursor) {
+        int i = cursor.next(keys.size());
+        return jpaAdapter.findPriceByPriority(keys.date(i), keys.productId(i), BenchmarkContext.BRAND_ID);
+    }
+
+    @Benchmark
+    public Optional<Price> jdbc(PriceRepositoryBenchmark.Cursor cursor) {
+        int i = cursor.next(keys.size());
+        return jdbcAdapter.findPriceByPriority(keys.date(i), keys.productId(i), BenchmarkContext.BRAND_ID);
+    }
+}
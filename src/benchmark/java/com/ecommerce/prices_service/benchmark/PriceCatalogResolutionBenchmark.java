@@ -0,0 +1,104 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
+import com.ecommerce.prices_service.application.services.PriceExportService;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Escalado de {@link PriceExportService#resolveCatalog} con el número de hilos del pool.
+ * <p>
+ * Las tarifas siguen el reparto de {@link BenchmarkContext#generatePrices} y el puerto de salida las
+ * devuelve ya cargadas, de modo que solo se mide la resolución en memoria (la parte paralela). Con
+ * {@code workers=1} se obtiene la referencia secuencial; la aceleración de cada nivel es el cociente
+ * de tiempos frente a ella. El número de particiones es fijo ({@link #PARTITIONS}, el valor por defecto
+ * de {@code prices.export.partitions}) para que todos los niveles repartan exactamente el mismo trabajo.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PriceCatalogResolutionBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final int PARTITIONS = 64;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int workers;
+
+    @Param({"1000000", "10000000"})
+    private int rows;
+
+    @Param({"1", "4"})
+    private int instants;
+
+    private PriceExportService service;
+    private List<LocalDateTime> dates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Price> prices = new ArrayList<>(rows);
+        for (long x = 1; x <= rows; x++) {
+            prices.add(price(x));
+        }
+        PriceExportPort port = new PriceExportPort() {
+            @Override
+            public long forEachWinningPrice(Long brandId, LocalDateTime date, Consumer<Price> consumer) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Price> findPricesOverlapping(LocalDateTime from, LocalDateTime to) {
+                return prices;
+            }
+        };
+        service = new PriceExportService(port, PARTITIONS, workers);
+        dates = new ArrayList<>(instants);
+        for (int i = 0; i < instants; i++) {
+            dates.add(BenchmarkContext.BASE_DATE.plusDays(45 + i * 60L).plusHours(i * 6L));
+        }
+    }
+
+    @Benchmark
+    public List<PriceCatalogSnapshot> resolveCatalog() {
+        return service.resolveCatalog(dates);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+    }
+
+    /**
+     * Misma fila que genera {@link BenchmarkContext#generatePrices} para {@code X = x}.
+     */
+    private static Price price(long x) {
+        LocalDateTime start = BenchmarkContext.BASE_DATE.plusDays(x % 10 * 30);
+        return new Price(x, BenchmarkContext.BRAND_ID, (x - 1) / 10 + 1, (int) (x % 10) + 1,
+                start, start.plusDays(60), BigDecimal.valueOf(1000 + x % 100 * 100, 2), EUR, (int) (x % 3));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.memory.PriceColumnStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memoria por tarifa y latencia de consulta de {@link PriceColumnStore} frente a conservar las tarifas
+ * como {@link Price} agrupados por clave.
+ * <p>
+ * Los datos siguen el reparto de {@link BenchmarkContext#generatePrices} y se generan en memoria, sin
+ * base de datos. Los bytes retenidos por fila de cada estructura (medidos con JOL recorriendo el grafo
+ * completo) se imprimen al preparar cada tamaño.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g", "-Djdk.attach.allowAttachSelf=true"})
+public class PriceColumnStoreBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private static final Comparator<Price> KEY_ORDER = Comparator
+            .comparing(Price::priority, Comparator.reverseOrder())
+            .thenComparing(Price::id, Comparator.reverseOrder());
+
+    private static final Comparator<Price> WINNER = Comparator
+            .comparing(Price::priority)
+            .thenComparing(Price::id);
+
+    @Param({"100000", "1000000", "10000000"})
+    private int rows;
+
+    private PriceColumnStore columnStore;
+    private Map<PriceKey, List<Price>> records;
+    private BenchmarkContext.LookupKeys keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PriceColumnStore.Builder builder = PriceColumnStore.builder();
+        records = HashMap.newHashMap(BenchmarkContext.products(rows));
+        List<Price> product = new ArrayList<>(10);
+        for (long x = 1; x <= rows; x++) {
+            product.add(price(x));
+            if (x % 10 == 0 || x == rows) {
+                product.sort(KEY_ORDER);
+                product.forEach(builder::add);
+                records.put(PriceKey.of(product.getFirst()), List.copyOf(product));
+                product.clear();
+            }
+        }
+        columnStore = builder.build();
+        keys = new BenchmarkContext.LookupKeys(BenchmarkContext.products(rows), 4096, 42);
+
+        System.out.printf("%n[memoria] filas=%d  Price agrupados=%.1f B/fila  columnas=%.1f B/fila%n", rows,
+                (double) GraphLayout.parseInstance(records).totalSize() / rows,
+                (double) GraphLayout.parseInstance(columnStore).totalSize() / rows);
+    }
+
+    @Benchmark
+    public Optional<Price> records(PriceRepositoryBenchmark.Cursor cursor) {
+        int i = cursor.next(keys.size());
+        LocalDateTime date = keys.date(i);
+        return records.getOrDefault(new PriceKey(BenchmarkContext.BRAND_ID, keys.productId(i)), List.of()).stream()
+                .filter(price -> price.isApplicableAt(date))
+                .max(WINNER);
+    }
+
+    @Benchmark
+    public Optional<Price> columns(PriceRepositoryBenchmark.Cursor cursor) {
+        int i = cursor.next(keys.size());
+        return columnStore.findPriceByPriority(keys.date(i), keys.productId(i), BenchmarkContext.BRAND_ID);
+    }
+
+    /**
+     * Misma fila que genera {@link BenchmarkContext#generatePrices} para {@code X = x}.
+     */
+    private static Price price(long x) {
+        LocalDateTime start = BenchmarkContext.BASE_DATE.plusDays(x % 10 * 30);
+        return new Price(x, BenchmarkContext.BRAND_ID, (x - 1) / 10 + 1, (int) (x % 10) + 1,
+                start, start.plusDays(60), BigDecimal.valueOf(1000 + x % 100 * 100, 2), EUR, (int) (x % 3));
+    }
+}
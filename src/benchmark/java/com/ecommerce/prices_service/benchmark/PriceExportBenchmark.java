@@ -0,0 +1,89 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportación en streaming ({@code GET /prices/export}) de la tarifa ganadora de cada producto de una cadena.
+ * <p>
+ * Mide el tiempo de un recorrido completo del cursor y, como comprobación de que el resultado no se
+ * materializa, el crecimiento máximo de heap durante el recorrido, que se imprime al final de cada
+ * iteración y debe mantenerse estable con el tamaño del catálogo.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PriceExportBenchmark {
+
+    private static final LocalDateTime DATE = BenchmarkContext.BASE_DATE.plusDays(45);
+
+    @Param({"1000000", "5000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PriceExportPort priceExportPort;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private long baseline;
+    private long peak;
+    private long exported;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.generatePrices(context.getBean(JdbcTemplate.class), rows);
+        priceExportPort = context.getBean(PriceExportPort.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetHeap() {
+        System.gc();
+        baseline = memory.getHeapMemoryUsage().getUsed();
+        peak = baseline;
+    }
+
+    @Benchmark
+    public long forEachWinningPrice() {
+        long[] seen = {0};
+        exported = priceExportPort.forEachWinningPrice(BenchmarkContext.BRAND_ID, DATE, price -> {
+            if (++seen[0] % 10_000 == 0) {
+                peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+            }
+        });
+        return exported;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n[heap] filas=%d  exportadas=%d  crecimiento máximo=%d MB%n",
+                rows, exported, (peak - baseline) / (1024 * 1024));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
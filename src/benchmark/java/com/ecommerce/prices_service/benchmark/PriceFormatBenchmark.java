@@ -0,0 +1,102 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tamaño y coste de codificación de las respuestas en JSON, CBOR y Smile.
+ * <p>
+ * Se mide {@link PriceBatchResponseDTO} (un lote de {@code items} tarifas; con 1 equivale a la respuesta
+ * unitaria) con los mismos mapeadores por defecto que registra {@code WebMvcConfig}. Los bytes de cada
+ * formato se imprimen al preparar el estado; con {@code -prof gc}, {@code gc.alloc.rate.norm} muestra
+ * la memoria asignada por respuesta.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceFormatBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "500"})
+    private int items;
+
+    private PriceBatchResponseDTO response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        List<PriceQuery> queries = new ArrayList<>(items);
+        Map<PriceQuery, Price> resolved = new HashMap<>();
+        for (int i = 0; i < items; i++) {
+            LocalDateTime start = BenchmarkContext.BASE_DATE.plusDays(i % 30);
+            PriceQuery query = new PriceQuery(start.plusHours(12), 35_455L + i, BenchmarkContext.BRAND_ID);
+            queries.add(query);
+            resolved.put(query, new Price((long) i, BenchmarkContext.BRAND_ID, 35_455L + i, i % 4 + 1,
+                    start, start.plusDays(60).minusSeconds(1), BigDecimal.valueOf(1000 + i * 7L, 2), EUR, i % 3));
+        }
+        response = new PriceRestMapper().toBatchResponse(queries, resolved);
+
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        writer = mapper.writerFor(PriceBatchResponseDTO.class);
+        reader = mapper.readerFor(PriceBatchResponseDTO.class);
+        encoded = writer.writeValueAsBytes(response);
+
+        if (!reader.readValue(encoded).equals(response)) {
+            throw new IllegalStateException("El formato " + format + " no reproduce el DTO original");
+        }
+        System.out.printf("%n[tamaño] formato=%s  items=%d  bytes=%d (%.1f B/tarifa)%n",
+                format, items, encoded.length, (double) encoded.length / items);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public PriceBatchResponseDTO decode() {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.entity.PriceEntity;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Etapas en memoria de una consulta, medidas de forma aislada: hidratación del dominio desde la
+ * entidad, validación del record {@link Price}, mapeo a DTO y serialización JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceMappingBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private final PriceEntityMapper priceEntityMapper = new PriceEntityMapperImpl();
+    private final PriceRestMapper priceRestMapper = new PriceRestMapper();
+
+    private PriceEntity entity;
+    private Price price;
+    private PriceResponseDTO dto;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        entity = new PriceEntity(1L, 1L, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        price = priceEntityMapper.toDomain(entity);
+        dto = priceRestMapper.toResponse(price);
+        writer = JsonMapper.builder().build().writerFor(PriceResponseDTO.class);
+    }
+
+    @Benchmark
+    public Price entityToDomain() {
+        return priceEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Price priceValidation() {
+        return new Price(entity.getId(), entity.getBrandId(), entity.getProductId(), entity.getPriceList(),
+                entity.getStartDate(), entity.getEndDate(), entity.getPrice(), EUR, entity.getPriority());
+    }
+
+    @Benchmark
+    public PriceResponseDTO domainToResponse() {
+        return priceRestMapper.toResponse(price);
+    }
+
+    @Benchmark
+    public byte[] responseSerialization() {
+        return writer.writeValueAsBytes(dto);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.entity.PriceEntity;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Etapa de consulta: {@link PriceJpaRepository#findTopPrice} sobre H2 embebido con catálogos de
+ * distinto tamaño, incluyendo la transacción de solo lectura y la hidratación de la entidad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PriceRepositoryBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PriceJpaRepository priceJpaRepository;
+    private BenchmarkContext.LookupKeys keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.generatePrices(context.getBean(JdbcTemplate.class), rows);
+        priceJpaRepository = context.getBean(PriceJpaRepository.class);
+        keys = new BenchmarkContext.LookupKeys(BenchmarkContext.products(rows), 4096, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<PriceEntity> findTopPrice(Cursor cursor) {
+        int i = cursor.next(keys.size());
+        return priceJpaRepository.findTopPrice(keys.date(i), keys.productId(i), BenchmarkContext.BRAND_ID);
+    }
+
+    /**
+     * Posición independiente por hilo dentro de las claves precalculadas.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int size) {
+            position = (position + 1) % size;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceJsonEncoder;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cuerpo de {@code GET /api/v1/prices} para una tarifa servida desde la caché de tramos: DTO + Jackson
+ * en cada petición frente al JSON precalculado de {@link PriceJsonEncoder}. Con {@code -prof gc},
+ * {@code gc.alloc.rate.norm} muestra los bytes asignados por respuesta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceResponseBenchmark {
+
+    private final PriceRestMapper priceRestMapper = new PriceRestMapper();
+
+    private Price price;
+    private PriceSegment segment;
+    private ObjectWriter writer;
+    private PriceJsonEncoder encoder;
+
+    @Setup
+    public void setUp() {
+        price = new Price(2L, 1L, 35455L, 2, LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30), new BigDecimal("25.45"), Currency.getInstance("EUR"), 1);
+        segment = new PriceSegment(price.startDate(), price.endDate(), price);
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        writer = jsonMapper.writerFor(PriceResponseDTO.class);
+        encoder = new PriceJsonEncoder(priceRestMapper, jsonMapper);
+    }
+
+    @Benchmark
+    public byte[] dtoSerialization() {
+        return writer.writeValueAsBytes(priceRestMapper.toResponse(price));
+    }
+
+    @Benchmark
+    public byte[] preSerialized() {
+        return encoder.encode(segment);
+    }
+}
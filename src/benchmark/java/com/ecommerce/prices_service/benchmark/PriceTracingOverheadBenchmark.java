@@ -0,0 +1,55 @@
+package com.ecommerce.prices_service.benchmark;
+
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import com.ecommerce.prices_service.infrastructure.observability.PriceStageMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste por petición de la instrumentación por etapas: abrir la traza, registrar todas las etapas y
+ * publicarlas en timers con histograma de Prometheus. Se compara con las mismas llamadas fuera de una
+ * petición trazada (caso de los componentes invocados desde jobs o lotes), que deben ser casi gratuitas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceTracingOverheadBenchmark {
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final PriceStageMetrics stageMetrics =
+            new PriceStageMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+
+    @Benchmark
+    public PriceRequestTrace tracedRequest() {
+        PriceRequestTrace trace = PriceRequestTrace.begin();
+        for (Stage stage : STAGES) {
+            PriceRequestTrace.record(stage, System.nanoTime());
+        }
+        PriceRequestTrace.end();
+        stageMetrics.record(trace, PriceStageMetrics.Outcome.FOUND);
+        return trace;
+    }
+
+    @Benchmark
+    public void untracedCalls() {
+        for (Stage stage : STAGES) {
+            PriceRequestTrace.record(stage, System.nanoTime());
+        }
+    }
+}
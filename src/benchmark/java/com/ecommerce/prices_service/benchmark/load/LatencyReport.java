@@ -0,0 +1,123 @@
+package com.ecommerce.prices_service.benchmark.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramas de latencia de una etapa de carga, separados por resultado HTTP.
+ * <p>
+ * Las latencias se registran en microsegundos. Las respuestas 429 (limitador de concurrencia lleno) y 503
+ * (circuit breaker abierto) se cuentan y miden aparte: son rápidas por definición y, mezcladas
+ * con las 200, ocultarían el deterioro real de la latencia al acercarse a la saturación.
+ * </p>
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String label;
+    private final long target;
+    private final Histogram ok = newHistogram();
+    private final Histogram rejected = newHistogram();
+    private final Histogram unavailable = newHistogram();
+    private final Histogram all = newHistogram();
+    private final LongAdder errors = new LongAdder();
+    private long elapsedNanos;
+
+    /**
+     * @param label  Nombre de la etapa (modo y nivel de carga).
+     * @param target Tasa objetivo en peticiones/s (modo abierto) o 0 si no aplica.
+     */
+    LatencyReport(String label, long target) {
+        this.label = label;
+        this.target = target;
+    }
+
+    /**
+     * Registra una respuesta. {@code status == 0} indica error de red o timeout del cliente.
+     */
+    void record(int status, long latencyNanos) {
+        long micros = Math.min(Math.max(latencyNanos / 1_000, 1), HIGHEST_TRACKABLE_MICROS);
+        all.recordValue(micros);
+        if (status >= 200 && status < 300) {
+            ok.recordValue(micros);
+        } else if (status == 429) {
+            rejected.recordValue(micros);
+        } else if (status == 503) {
+            unavailable.recordValue(micros);
+        } else {
+            errors.increment();
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    double throughput() {
+        return all.getTotalCount() * 1_000_000_000d / Math.max(elapsedNanos, 1);
+    }
+
+    /**
+     * Una etapa se considera saturada si no alcanza el 95 % de la tasa objetivo o si más del 1 %
+     * de las peticiones se rechaza (429/503) o falla.
+     */
+    boolean saturated() {
+        long total = Math.max(all.getTotalCount(), 1);
+        long failed = rejected.getTotalCount() + unavailable.getTotalCount() + errors.sum();
+        return (target > 0 && throughput() < target * 0.95) || failed * 100 > total;
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-16s %9s %10s %8s %8s %8s %10s %10s %10s %10s %5s%n",
+                "etapa", "peticiones", "req/s", "429", "503", "errores", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "sat");
+    }
+
+    /**
+     * Imprime una fila resumen. Los percentiles corresponden a las respuestas 2xx.
+     */
+    void printRow(PrintStream out) {
+        out.printf("%-16s %9d %10.0f %8d %8d %8d %10.2f %10.2f %10.2f %10.2f %5s%n",
+                label, all.getTotalCount(), throughput(),
+                rejected.getTotalCount(), unavailable.getTotalCount(), errors.sum(),
+                millis(ok.getValueAtPercentile(50)), millis(ok.getValueAtPercentile(99)),
+                millis(ok.getValueAtPercentile(99.9)), millis(ok.getMaxValue()),
+                saturated() ? "SI" : "");
+    }
+
+    /**
+     * Escribe la distribución completa (formato {@code .hgrm}) de cada resultado en {@code directory}
+     * para poder representarla con el HdrHistogram plotter.
+     */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        write(directory.resolve(label + "-2xx.hgrm"), ok);
+        write(directory.resolve(label + "-429.hgrm"), rejected);
+        write(directory.resolve(label + "-503.hgrm"), unavailable);
+        write(directory.resolve(label + "-all.hgrm"), all);
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000d);
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000d;
+    }
+}
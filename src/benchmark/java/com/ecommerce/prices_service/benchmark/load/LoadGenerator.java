@@ -0,0 +1,120 @@
+package com.ecommerce.prices_service.benchmark.load;
+
+import com.ecommerce.prices_service.benchmark.BenchmarkContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga HTTP contra {@code GET /api/v1/prices} (o su variante reactiva) basado en hilos virtuales.
+ * <p>
+ * Soporta dos modelos:
+ * <ul>
+ *   <li><b>Abierto:</b> las peticiones se lanzan a tasa fija según un calendario, independientemente
+ *   de cuánto tarde el servidor. La latencia se mide desde el instante <i>planificado</i>, por lo que
+ *   las esperas que el propio generador acumula cuentan como latencia (sin omisión coordinada).</li>
+ *   <li><b>Cerrado:</b> N clientes concurrentes que encadenan petición tras respuesta. Útil para
+ *   medir el throughput máximo, pero subestima las colas cuando el servidor se satura.</li>
+ * </ul>
+ * </p>
+ */
+final class LoadGenerator {
+
+    private final HttpClient client;
+    private final URI[] uris;
+    private final String authorization;
+    private final Duration timeout;
+
+    LoadGenerator(int port, String path, String token, BenchmarkContext.LookupKeys keys, Duration timeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(timeout)
+                .build();
+        this.authorization = "Bearer " + token;
+        this.timeout = timeout;
+        this.uris = new URI[keys.size()];
+        for (int i = 0; i < uris.length; i++) {
+            uris[i] = URI.create("http://localhost:" + port + path + "?applicationDate="
+                    + keys.date(i).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                    + "&productId=" + keys.productId(i)
+                    + "&brandId=" + BenchmarkContext.BRAND_ID);
+        }
+    }
+
+    /**
+     * Lanza {@code rate} peticiones por segundo durante {@code duration} (modelo abierto).
+     */
+    LatencyReport openLoop(String label, int rate, Duration duration) {
+        LatencyReport report = new LatencyReport(label, rate);
+        long interval = 1_000_000_000L / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * interval;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                URI uri = uris[(int) (i % uris.length)];
+                executor.execute(() -> send(uri, intended, report));
+            }
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Mantiene {@code concurrency} clientes encadenando peticiones durante {@code duration}
+     * (modelo cerrado).
+     */
+    LatencyReport closedLoop(String label, int concurrency, Duration duration) {
+        LatencyReport report = new LatencyReport(label, 0);
+        AtomicLong sequence = new AtomicLong();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                executor.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        send(uris[(int) (sequence.getAndIncrement() % uris.length)], now, report);
+                    }
+                });
+            }
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void send(URI uri, long intendedNanos, LatencyReport report) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", authorization)
+                .timeout(timeout)
+                .GET()
+                .build();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        report.record(status, System.nanoTime() - intendedNanos);
+    }
+}
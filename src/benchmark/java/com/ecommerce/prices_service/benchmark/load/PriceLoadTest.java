@@ -0,0 +1,146 @@
+package com.ecommerce.prices_service.benchmark.load;
+
+import com.ecommerce.prices_service.benchmark.BenchmarkContext;
+import com.ecommerce.prices_service.infrastructure.config.HmacJwtKeys;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prueba de carga extremo a extremo de un pod: arranca el servicio sobre H2 embebido (o sobre un
+ * PostgreSQL dedicado), genera el catálogo sintético y recorre una escalera de cargas contra
+ * {@code GET /api/v1/prices}, reportando p50/p99/p99.9 por etapa e identificando el punto de saturación.
+ * <p>
+ * Por defecto el camino bloqueante se ejecuta sin caché de tramos ni agrupación <i>single-flight</i>,
+ * de modo que cada petición llega a la base de datos igual que en el camino R2DBC y la comparación
+ * entre ambos mide el coste por conexión y no la tasa de aciertos de la caché.
+ * </p>
+ * <p>
+ * Ejemplo (todo en localhost):
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.ecommerce.prices_service.benchmark.load.PriceLoadTest \
+ *     -Dbenchmark.args="--mode=open --rates=1000,2000,4000,8000 --max-limit=200 --pool-size=50"
+ * </pre>
+ * Opciones ({@code --clave=valor}):
+ * <ul>
+ *   <li>{@code mode}: {@code open} (tasa fija, por defecto) o {@code closed} (N clientes).</li>
+ *   <li>{@code rates}: tasas objetivo en peticiones/s del modo abierto.</li>
+ *   <li>{@code concurrency}: clientes concurrentes del modo cerrado.</li>
+ *   <li>{@code duration} / {@code warmup}: duración ISO-8601 de cada etapa y del calentamiento.</li>
+ *   <li>{@code rows}: tamaño del catálogo sintético.</li>
+ *   <li>{@code max-limit}: techo del limitador de concurrencia adaptativo {@code priceService}.</li>
+ *   <li>{@code pool-size}: {@code spring.datasource.hikari.maximum-pool-size} (y el pool R2DBC con {@code reactive}).</li>
+ *   <li>{@code reactive}: carga contra {@code GET /api/v1/prices/reactive} (R2DBC) en lugar del camino bloqueante.</li>
+ *   <li>{@code caches}: {@code true} mantiene la caché de tramos y el single-flight del camino bloqueante.</li>
+ *   <li>{@code postgres-url} / {@code postgres-user} / {@code postgres-password}: URL JDBC de un PostgreSQL
+ *       dedicado (su tabla {@code prices} se vacía); ambos caminos usan el índice GiST de {@code validity}.</li>
+ *   <li>{@code set}: propiedad Spring adicional {@code clave=valor} (repetible).</li>
+ *   <li>{@code output}: directorio de las distribuciones {@code .hgrm}.</li>
+ * </ul>
+ * Para comparar ambos caminos por conexión se ejecuta la misma escalera con y sin {@code --reactive},
+ * con el mismo {@code pool-size} y la misma {@code postgres-url}: con H2 embebido la base de datos
+ * comparte CPU con el servicio y no hay E/S de red, justo lo que el camino no bloqueante evita esperar.
+ * </p>
+ */
+public final class PriceLoadTest {
+
+    private PriceLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> properties = new ArrayList<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair[0].equals("set")) {
+                properties.add(pair[1]);
+            } else {
+                options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+            }
+        }
+
+        String mode = options.getOrDefault("mode", "open");
+        int[] levels = parseLevels(mode.equals("closed")
+                ? options.getOrDefault("concurrency", "25,50,100,200,400")
+                : options.getOrDefault("rates", "500,1000,2000,4000,8000"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT15S"));
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000000"));
+        Path output = Path.of(options.getOrDefault("output", "target/load-test"));
+
+        properties.add("prices.limiter.max-limit=" + options.getOrDefault("max-limit", "200"));
+        properties.add("spring.datasource.hikari.maximum-pool-size=" + options.getOrDefault("pool-size", "50"));
+        boolean reactive = Boolean.parseBoolean(options.getOrDefault("reactive", "false"));
+        String postgresUrl = options.get("postgres-url");
+        if (postgresUrl != null) {
+            properties.add("spring.datasource.url=" + postgresUrl);
+            properties.add("spring.datasource.username=" + options.getOrDefault("postgres-user", "postgres"));
+            properties.add("spring.datasource.password=" + options.getOrDefault("postgres-password", ""));
+            properties.add("prices.repository.jpa.validity-range=true");
+        }
+        if (reactive) {
+            properties.add("prices.reactive.enabled=true");
+            properties.add("prices.reactive.r2dbc.pool.max-size=" + options.getOrDefault("pool-size", "50"));
+            if (postgresUrl != null) {
+                properties.add("prices.reactive.r2dbc.url=" + postgresUrl.replaceFirst("^jdbc:", "r2dbc:"));
+                properties.add("prices.reactive.r2dbc.username=" + options.getOrDefault("postgres-user", "postgres"));
+                properties.add("prices.reactive.r2dbc.password=" + options.getOrDefault("postgres-password", ""));
+            } else {
+                properties.add("prices.reactive.r2dbc.url=" + BenchmarkContext.R2DBC_URL);
+            }
+        }
+        if (!Boolean.parseBoolean(options.getOrDefault("caches", "false"))) {
+            properties.add("prices.cache.segments.enabled=false");
+            properties.add("prices.single-flight.enabled=false");
+        }
+
+        try (ConfigurableApplicationContext context = BenchmarkContext.start(properties.toArray(String[]::new))) {
+            BenchmarkContext.generatePrices(context.getBean(JdbcTemplate.class), rows);
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            String secret = context.getEnvironment().getRequiredProperty("prices.security.jwt-secret");
+            Duration total = duration.multipliedBy(levels.length).plus(warmup);
+            String token = HmacJwtKeys.mintToken(secret, "load-test", total.plusHours(1));
+
+            String path = reactive ? "/api/v1/prices/reactive" : "/api/v1/prices";
+            LoadGenerator generator = new LoadGenerator(port, path, token,
+                    new BenchmarkContext.LookupKeys(BenchmarkContext.products(rows), 65_536, 42),
+                    Duration.parse(options.getOrDefault("timeout", "PT10S")));
+
+            System.out.printf("Catálogo: %d tarifas | límite máx.: %s | hikari: %s | modo: %s | camino: %s | base: %s | cachés: %s%n",
+                    rows,
+                    context.getEnvironment().getProperty("prices.limiter.max-limit"),
+                    context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size"), mode,
+                    reactive ? "r2dbc" : "bloqueante", postgresUrl != null ? "postgresql" : "h2",
+                    context.getEnvironment().getProperty("prices.cache.segments.enabled"));
+
+            // Calentamiento: JIT, pool de conexiones y cachés; no se reporta
+            if (mode.equals("closed")) {
+                generator.closedLoop("warmup", levels[0], warmup);
+            } else {
+                generator.openLoop("warmup", levels[0], warmup);
+            }
+
+            LatencyReport.printHeader(System.out);
+            for (int level : levels) {
+                LatencyReport report = mode.equals("closed")
+                        ? generator.closedLoop("closed-" + level, level, duration)
+                        : generator.openLoop("open-" + level, level, duration);
+                report.printRow(System.out);
+                report.writeDistributions(output);
+            }
+        }
+    }
+
+    private static int[] parseLevels(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.prices_service.application.ports.in;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de entrada para la exportación masiva de tarifas vigentes.
+ */
+public interface ExportPricesUseCase {
+
+    /**
+     * Entrega, producto a producto, la tarifa ganadora de una cadena en un instante dado.
+     * <p>
+     * Las tarifas se entregan a medida que se leen, sin materializar el catálogo completo en memoria.
+     * </p>
+     *
+     * @param brandId   Identificador de la cadena.
+     * @param date      Instante para el que se resuelven las tarifas.
+     * @param sink      Receptor de cada {@link Price} ganador, en orden de producto.
+     * @return Número de tarifas entregadas.
+     */
+    long exportWinningPrices(Long brandId, LocalDateTime date, Consumer<Price> sink);
+
+    /**
+     * Resuelve la tarifa ganadora de todas las cadenas y productos en cada uno de los instantes indicados.
+     * <p>
+     * Las tarifas vigentes en algún punto del rango de instantes se cargan en memoria una sola vez y se
+     * resuelven en paralelo por rangos de producto.
+     * </p>
+     *
+     * @param instants Instantes a resolver; los repetidos se resuelven una vez.
+     * @return Una instantánea por instante, en orden cronológico.
+     */
+    List<PriceCatalogSnapshot> resolveCatalog(List<LocalDateTime> instants);
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.prices_service.application.ports.in;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de entrada no bloqueante para la consulta de la tarifa aplicable.
+ */
+public interface GetPriceReactiveUseCase {
+
+    /**
+     * Equivalente reactivo de {@link GetPriceUseCase#execute}.
+     *
+     * @return {@link Mono} con la tarifa aplicable; falla con {@code PriceNotFoundException} si no existe.
+     */
+    Mono<Price> execute(LocalDateTime date, Long productId, Long brandId);
+}
@@ -1,8 +1,13 @@
 package com.ecommerce.prices_service.application.ports.in;
 
 import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Puerto de entrada para el caso de uso de consulta de precios.
@@ -19,4 +24,48 @@ public interface GetPriceUseCase {
      * @throws PriceNotFoundException si no se encuentra ninguna tarifa.
      */
     Price execute(LocalDateTime date, Long productId, Long brandId);
+
+    /**
+     * Obtiene la tarifa aplicable junto con el tramo temporal durante el cual sigue siendo la ganadora.
+     *
+     * @param date        Fecha de aplicación de la tarifa.
+     * @param productId   Identificador del producto.
+     * @param brandId     Identificador de la cadena.
+     * @return El {@link PriceSegment} que contiene la fecha y la tarifa de mayor prioridad.
+     * @throws PriceNotFoundException si no se encuentra ninguna tarifa.
+     */
+    PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId);
+
+    /**
+     * Devuelve el tramo que contiene la fecha solo si ya se conoce, sin resolverlo: no consulta la base de
+     * datos ni ocupa plazas del limitador. Permite contestar peticiones condicionales antes de resolverlas.
+     *
+     * @param date        Fecha de aplicación de la tarifa.
+     * @param productId   Identificador del producto.
+     * @param brandId     Identificador de la cadena.
+     * @return El tramo conocido, o vacío si habría que resolverlo (por defecto, siempre).
+     */
+    default Optional<PriceSegment> findKnownSegment(LocalDateTime date, Long productId, Long brandId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Resuelve en bloque la tarifa aplicable para varias consultas.
+     *
+     * @param queries Consultas a resolver.
+     * @return Tarifa de mayor prioridad por consulta; las consultas sin tarifa no aparecen en el mapa.
+     */
+    Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries);
+
+    /**
+     * Obtiene la secuencia de tarifas ganadoras de un producto y cadena a lo largo de un rango de fechas.
+     *
+     * @param productId Identificador del producto.
+     * @param brandId   Identificador de la cadena.
+     * @param from      Inicio del rango (inclusivo).
+     * @param to        Fin del rango (inclusivo).
+     * @return Tramos disjuntos y ordenados, recortados al rango; vacía si no hay tarifas aplicables.
+     * @throws DomainValidationException si el inicio del rango es posterior a su fin.
+     */
+    List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
 }
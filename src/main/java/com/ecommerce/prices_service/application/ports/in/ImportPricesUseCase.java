@@ -0,0 +1,47 @@
+package com.ecommerce.prices_service.application.ports.in;
+
+import com.ecommerce.prices_service.domain.model.PriceImportJob;
+import com.ecommerce.prices_service.domain.model.PriceImportReport;
+
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de entrada para la carga masiva de tarifas.
+ */
+public interface ImportPricesUseCase {
+
+    /**
+     * Carga un fichero CSV de tarifas validando cada fila con las invariantes de {@code Price}.
+     * <p>
+     * Formato esperado (con cabecera opcional):
+     * {@code brand_id,product_id,price_list,start_date,end_date,priority,price,currency}.
+     * Las filas inválidas se recogen en el informe sin abortar la carga.
+     * </p>
+     *
+     * @param csv Contenido CSV a cargar.
+     * @return Informe con las filas leídas, insertadas y rechazadas.
+     */
+    PriceImportReport importPrices(Reader csv);
+
+    /**
+     * Encola la carga de un fichero CSV y devuelve inmediatamente su estado inicial.
+     * <p>
+     * El fichero pasa a ser propiedad de la carga, que lo borra al terminar.
+     * </p>
+     *
+     * @param csv Fichero CSV en UTF-8.
+     * @return Carga en estado {@link PriceImportJob.Status#PENDING}.
+     */
+    PriceImportJob submit(Path csv);
+
+    /**
+     * Consulta el estado de una carga encolada con {@link #submit(Path)}.
+     *
+     * @param id Identificador de la carga.
+     * @return Estado actual, o vacío si no existe o ya no se conserva.
+     */
+    Optional<PriceImportJob> findJob(UUID id);
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.prices_service.application.ports.out;
+
+import com.ecommerce.prices_service.domain.model.Price;
+
+import java.util.List;
+
+public interface PriceBulkWriterPort {
+
+    /**
+     * Inserta un bloque de tarifas ya validadas de forma atómica (todo o nada).
+     */
+    void insertAll(List<Price> prices);
+}
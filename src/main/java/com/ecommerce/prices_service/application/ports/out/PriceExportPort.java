@@ -0,0 +1,24 @@
+package com.ecommerce.prices_service.application.ports.out;
+
+import com.ecommerce.prices_service.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface PriceExportPort {
+
+    /**
+     * Recorre la tarifa de mayor prioridad de cada producto de una cadena en la fecha indicada,
+     * en orden de producto y sin cargar el resultado completo en memoria.
+     *
+     * @return Número de tarifas recorridas.
+     */
+    long forEachWinningPrice(Long brandId, LocalDateTime date, Consumer<Price> consumer);
+
+    /**
+     * Recupera todas las tarifas cuya vigencia se solapa con el rango indicado (ambos inclusivos),
+     * ordenadas por producto y cadena.
+     */
+    List<Price> findPricesOverlapping(LocalDateTime from, LocalDateTime to);
+}
@@ -1,8 +1,15 @@
 package com.ecommerce.prices_service.application.ports.out;
 
 import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PriceRepositoryPort {
@@ -11,4 +18,40 @@ public interface PriceRepositoryPort {
      * Busca el precio aplicable con mayor prioridad.
      */
     Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId);
+
+    /**
+     * Busca las tarifas de un producto y cadena cuya vigencia se solapa con el rango indicado (ambos inclusivos).
+     */
+    List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca el precio aplicable junto con el tramo durante el cual sigue siendo el ganador.
+     * <p>
+     * Por defecto se resuelve la tarifa ganadora y se aplanan las tarifas solapadas con su vigencia:
+     * el tramo nunca excede la vigencia de la ganadora, por lo que el resto de tarifas no influye.
+     * Son dos accesos; los adaptadores respaldados por base de datos deben resolverlo en uno.
+     * </p>
+     */
+    default Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        return findPriceByPriority(date, productId, brandId)
+                .flatMap(winner -> PriceTimeline.of(
+                                findPricesBetween(productId, brandId, winner.startDate(), winner.endDate()))
+                        .segmentAt(date));
+    }
+
+    /**
+     * Busca el precio aplicable con mayor prioridad para cada una de las consultas indicadas.
+     * <p>
+     * Las consultas sin tarifa aplicable no aparecen en el resultado. Por defecto se resuelven una a una;
+     * los adaptadores respaldados por base de datos deben resolverlas en un único acceso.
+     * </p>
+     */
+    default Map<PriceQuery, Price> findPricesByPriority(Collection<PriceQuery> queries) {
+        Map<PriceQuery, Price> result = HashMap.newHashMap(queries.size());
+        for (PriceQuery query : queries) {
+            findPriceByPriority(query.date(), query.productId(), query.brandId())
+                    .ifPresent(price -> result.put(query, price));
+        }
+        return result;
+    }
 }
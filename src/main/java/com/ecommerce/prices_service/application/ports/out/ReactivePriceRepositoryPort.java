@@ -0,0 +1,20 @@
+package com.ecommerce.prices_service.application.ports.out;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Variante no bloqueante de {@link PriceRepositoryPort} para la consulta unitaria de tarifas.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Misma selección que {@link PriceRepositoryPort#findPriceByPriority}: la tarifa vigente de mayor
+     * prioridad y, a igualdad, mayor identificador.
+     *
+     * @return {@link Mono} con la tarifa ganadora, o vacío si no hay ninguna vigente.
+     */
+    Mono<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId);
+}
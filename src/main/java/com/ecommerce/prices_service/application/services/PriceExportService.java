@@ -0,0 +1,189 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.in.ExportPricesUseCase;
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
+import com.ecommerce.prices_service.domain.exception.DomainValidationException;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Servicio de aplicación para la exportación del catálogo de tarifas vigentes.
+ * <p>
+ * Delega el recorrido en el puerto de salida, que aplica las mismas reglas de prioridad que la
+ * consulta unitaria pero sobre todos los productos de la cadena en una sola pasada.
+ * </p>
+ * <p>
+ * La resolución del catálogo completo carga una vez las tarifas del rango de instantes, las reparte en
+ * particiones contiguas por rango de producto y las resuelve en un {@link ForkJoinPool} propio, de modo
+ * que el paralelismo no compite con el pool común. Hay más particiones que hilos para que el robo de
+ * tareas compense los rangos con más tarifas. El pool se libera al cerrar el servicio ({@link #close()}),
+ * que Spring invoca al destruir el bean.
+ * </p>
+ */
+public class PriceExportService implements ExportPricesUseCase, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceExportService.class);
+
+    private final PriceExportPort priceExportPort;
+    private final int partitions;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor para la inyección de dependencias del puerto de salida.
+     *
+     * @param priceExportPort Adaptador de persistencia para el recorrido de tarifas.
+     * @param partitions      Número de rangos de producto en que se divide el catálogo.
+     * @param parallelism     Número de hilos que resuelven particiones a la vez.
+     */
+    public PriceExportService(PriceExportPort priceExportPort, int partitions, int parallelism) {
+        if (partitions < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Las particiones y el paralelismo deben ser positivos");
+        }
+        this.priceExportPort = priceExportPort;
+        this.partitions = partitions;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public long exportWinningPrices(Long brandId, LocalDateTime date, Consumer<Price> sink) {
+        return priceExportPort.forEachWinningPrice(brandId, date, sink);
+    }
+
+    @Override
+    public List<PriceCatalogSnapshot> resolveCatalog(List<LocalDateTime> instants) {
+        if (instants == null || instants.isEmpty()) {
+            throw new DomainValidationException("Debe indicarse al menos un instante");
+        }
+        long start = System.nanoTime();
+        List<LocalDateTime> sorted = instants.stream().distinct().sorted().toList();
+        List<Price> prices = priceExportPort.findPricesOverlapping(sorted.getFirst(), sorted.getLast());
+        long loaded = System.nanoTime();
+
+        List<PriceCatalogSnapshot> snapshots = resolve(prices, sorted);
+
+        log.info("Catálogo de precios resuelto: {} tarifas, {} instantes, carga {} ms, resolución {} ms",
+                prices.size(), sorted.size(), (loaded - start) / 1_000_000, (System.nanoTime() - loaded) / 1_000_000);
+        return snapshots;
+    }
+
+    /**
+     * Deja de aceptar resoluciones y espera a que terminen las particiones en curso.
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /**
+     * Resuelve en paralelo unas tarifas ya cargadas y ordenadas por producto y cadena.
+     */
+    List<PriceCatalogSnapshot> resolve(List<Price> prices, List<LocalDateTime> instants) {
+        int[] bounds = partitionBounds(prices, partitions);
+        List<Callable<List<List<Price>>>> tasks = new ArrayList<>(bounds.length - 1);
+        for (int p = 0; p < bounds.length - 1; p++) {
+            int from = bounds[p];
+            int to = bounds[p + 1];
+            tasks.add(() -> resolvePartition(prices, from, to, instants));
+        }
+
+        List<List<Price>> winners = new ArrayList<>(instants.size());
+        for (int i = 0; i < instants.size(); i++) {
+            winners.add(new ArrayList<>());
+        }
+        // Las particiones se concatenan en su orden, por lo que el resultado conserva el de producto
+        for (Future<List<List<Price>>> partition : pool.invokeAll(tasks)) {
+            List<List<Price>> resolved = join(partition);
+            for (int i = 0; i < instants.size(); i++) {
+                winners.get(i).addAll(resolved.get(i));
+            }
+        }
+
+        List<PriceCatalogSnapshot> snapshots = new ArrayList<>(instants.size());
+        for (int i = 0; i < instants.size(); i++) {
+            snapshots.add(new PriceCatalogSnapshot(instants.get(i), winners.get(i)));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Límites de las particiones: tramos de tamaño similar que nunca parten un producto.
+     */
+    static int[] partitionBounds(List<Price> prices, int partitions) {
+        int size = prices.size();
+        int target = Math.max(1, Math.ceilDiv(size, partitions));
+        List<Integer> bounds = new ArrayList<>(partitions + 1);
+        bounds.add(0);
+        int end = 0;
+        while (end < size) {
+            end = Math.min(size, end + target);
+            while (end < size && prices.get(end).productId().equals(prices.get(end - 1).productId())) {
+                end++;
+            }
+            bounds.add(end);
+        }
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Tarifa ganadora de cada clave de la partición en cada instante, con las reglas de {@code findTopPrice}.
+     */
+    private static List<List<Price>> resolvePartition(List<Price> prices, int from, int to, List<LocalDateTime> instants) {
+        List<List<Price>> winners = new ArrayList<>(instants.size());
+        for (int i = 0; i < instants.size(); i++) {
+            winners.add(new ArrayList<>());
+        }
+        int first = from;
+        while (first < to) {
+            int last = first + 1;
+            while (last < to && sameKey(prices.get(first), prices.get(last))) {
+                last++;
+            }
+            for (int i = 0; i < instants.size(); i++) {
+                LocalDateTime instant = instants.get(i);
+                Price winner = null;
+                for (int r = first; r < last; r++) {
+                    Price candidate = prices.get(r);
+                    if (candidate.isApplicableAt(instant)
+                            && (winner == null || PriceTimeline.PRECEDENCE.compare(candidate, winner) > 0)) {
+                        winner = candidate;
+                    }
+                }
+                if (winner != null) {
+                    winners.get(i).add(winner);
+                }
+            }
+            first = last;
+        }
+        return winners;
+    }
+
+    private static boolean sameKey(Price a, Price b) {
+        return a.productId().equals(b.productId()) && a.brandId().equals(b.brandId());
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Resolución del catálogo interrumpida", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error al resolver una partición del catálogo", ex.getCause());
+        }
+    }
+}
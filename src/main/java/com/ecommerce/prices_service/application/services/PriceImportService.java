@@ -0,0 +1,345 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.in.ImportPricesUseCase;
+import com.ecommerce.prices_service.application.ports.out.PriceBulkWriterPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceImportJob;
+import com.ecommerce.prices_service.domain.model.PriceImportReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servicio de aplicación para la carga masiva de tarifas desde CSV.
+ * <p>
+ * Las filas se validan construyendo el record {@link Price}, se agrupan en bloques y se escriben en
+ * paralelo a través del puerto de salida. El número de bloques en vuelo está limitado: cuando se alcanza
+ * el límite, la lectura del fichero se detiene hasta que un bloque termina (back-pressure), por lo que la
+ * memoria consumida no depende del tamaño del fichero. Del detalle de rechazos solo se conservan las primeras
+ * {@code maxRejections} filas; el resto solo se cuenta.
+ * </p>
+ * <p>
+ * Las cargas encoladas con {@link #submit(Path)} se ejecutan de una en una en un hilo propio, y se conserva el
+ * estado de las {@code retainedJobs} más recientes para consultarlo. Mientras una carga se ejecuta, su estado
+ * incluye los contadores de filas leídas, insertadas y rechazadas en el momento de la consulta.
+ * </p>
+ */
+public class PriceImportService implements ImportPricesUseCase, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceImportService.class);
+
+    private static final String HEADER_PREFIX = "brand_id";
+    private static final int FIELDS = 8;
+
+    private final PriceBulkWriterPort priceBulkWriter;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxRejections;
+    private final Map<UUID, PriceImportJob> jobs;
+    private final ExecutorService jobExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("price-import").factory());
+    // Carga en ejecución (como mucho una, por el ejecutor de un solo hilo)
+    private volatile RunningJob runningJob;
+
+    /**
+     * Constructor para la inyección del puerto de escritura y los parámetros de la carga.
+     *
+     * @param priceBulkWriter Adaptador de escritura masiva.
+     * @param chunkSize       Número de tarifas por bloque transaccional.
+     * @param parallelism     Número máximo de bloques escribiéndose a la vez.
+     * @param maxRejections   Número máximo de filas rechazadas que se detallan en el informe.
+     * @param retainedJobs    Número de cargas cuyo estado se conserva.
+     */
+    public PriceImportService(PriceBulkWriterPort priceBulkWriter, int chunkSize, int parallelism,
+                              int maxRejections, int retainedJobs) {
+        this.priceBulkWriter = priceBulkWriter;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxRejections = maxRejections;
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PriceImportJob> eldest) {
+                return size() > retainedJobs;
+            }
+        };
+    }
+
+    @Override
+    public PriceImportJob submit(Path csv) {
+        var job = PriceImportJob.pending(UUID.randomUUID(), Instant.now());
+        update(job);
+        jobExecutor.execute(() -> run(job, csv));
+        log.info("Carga de tarifas {} encolada", job.id());
+        return job;
+    }
+
+    @Override
+    public Optional<PriceImportJob> findJob(UUID id) {
+        PriceImportJob job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        RunningJob running = runningJob;
+        if (job != null && job.status() == PriceImportJob.Status.RUNNING
+                && running != null && running.id().equals(id)) {
+            job = job.running(running.counters().snapshot());
+        }
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Deja de aceptar cargas y espera a que terminen las ya encoladas.
+     */
+    @Override
+    public void close() {
+        jobExecutor.close();
+    }
+
+    private void run(PriceImportJob job, Path csv) {
+        var counters = new Counters(maxRejections);
+        runningJob = new RunningJob(job.id(), counters);
+        update(job.running(counters.snapshot()));
+        try (var reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            update(job.completed(importPrices(reader, counters)));
+        } catch (IOException | RuntimeException ex) {
+            log.error("Carga de tarifas {} fallida", job.id(), ex);
+            update(job.failed(ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName()));
+        } finally {
+            runningJob = null;
+            try {
+                Files.deleteIfExists(csv);
+            } catch (IOException ex) {
+                log.warn("No se pudo borrar el fichero de la carga {}: {}", job.id(), csv, ex);
+            }
+        }
+    }
+
+    private void update(PriceImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+        }
+    }
+
+    @Override
+    public PriceImportReport importPrices(Reader csv) {
+        return importPrices(csv, new Counters(maxRejections));
+    }
+
+    private PriceImportReport importPrices(Reader csv, Counters counters) {
+        long start = System.nanoTime();
+        var inFlight = new Semaphore(parallelism);
+
+        try (var reader = new BufferedReader(csv);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            var chunk = new Chunk(chunkSize);
+            String content;
+            long lineNumber = 0;
+            while ((content = reader.readLine()) != null) {
+                lineNumber++;
+                if (content.isBlank() || (lineNumber == 1 && content.startsWith(HEADER_PREFIX))) {
+                    continue;
+                }
+                counters.read.incrementAndGet();
+                try {
+                    chunk.add(lineNumber, content, parse(content));
+                } catch (RuntimeException ex) {
+                    counters.rejections.add(new PriceImportReport.Rejection(lineNumber, content, reasonOf(ex)));
+                }
+                if (chunk.isFull()) {
+                    submit(executor, inFlight, chunk, counters);
+                    chunk = new Chunk(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(executor, inFlight, chunk, counters);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga de tarifas interrumpida", ex);
+        }
+
+        var report = new PriceImportReport(counters.read.get(), counters.inserted.get(), counters.rejections.count(),
+                counters.rejections.firstByLine(), Duration.ofNanos(System.nanoTime() - start));
+        log.info("Carga de tarifas finalizada: {} leídas, {} insertadas, {} rechazadas en {} ms",
+                report.read(), report.inserted(), report.rejected(), report.elapsed().toMillis());
+        return report;
+    }
+
+    /**
+     * Envía un bloque a escritura bloqueando la lectura si ya hay {@code parallelism} bloques en vuelo.
+     */
+    private void submit(ExecutorService executor, Semaphore inFlight, Chunk chunk, Counters counters)
+            throws InterruptedException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        inFlight.acquire();
+        executor.execute(() -> {
+            try {
+                priceBulkWriter.insertAll(chunk.prices);
+                long total = counters.inserted.addAndGet(chunk.prices.size());
+                log.info("Carga de tarifas en curso: {} insertadas, {} rechazadas", total, counters.rejections.count());
+            } catch (RuntimeException ex) {
+                // El bloque es atómico: si falla, todas sus filas se rechazan
+                String reason = "Error al escribir el bloque: " + reasonOf(ex);
+                for (int i = 0; i < chunk.prices.size(); i++) {
+                    counters.rejections.add(
+                            new PriceImportReport.Rejection(chunk.lines.get(i), chunk.contents.get(i), reason));
+                }
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Construye la tarifa a partir de una línea CSV; las invariantes las aplica el propio record.
+     */
+    private static Price parse(String content) {
+        String[] fields = content.split(",", -1);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Se esperaban " + FIELDS + " columnas y se recibieron " + fields.length);
+        }
+        return new Price(
+                null,
+                Long.valueOf(fields[0].trim()),
+                Long.valueOf(fields[1].trim()),
+                Integer.valueOf(fields[2].trim()),
+                parseDate(fields[3]),
+                parseDate(fields[4]),
+                new BigDecimal(fields[6].trim()),
+                Currency.getInstance(fields[7].trim()),
+                Integer.valueOf(fields[5].trim())
+        );
+    }
+
+    /**
+     * Admite tanto ISO 8601 ({@code 2020-06-14T00:00:00}) como el formato SQL ({@code 2020-06-14 00:00:00}).
+     */
+    private static LocalDateTime parseDate(String field) {
+        return LocalDateTime.parse(field.trim().replace(' ', 'T'));
+    }
+
+    private static String reasonOf(RuntimeException ex) {
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    /**
+     * Contadores de una carga, compartidos entre el hilo que lee el fichero y los que escriben los bloques.
+     */
+    private static final class Counters {
+
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final Rejections rejections;
+
+        private Counters(int maxRejections) {
+            this.rejections = new Rejections(maxRejections);
+        }
+
+        private PriceImportJob.Progress snapshot() {
+            return new PriceImportJob.Progress(read.get(), inserted.get(), rejections.count());
+        }
+    }
+
+    private record RunningJob(UUID id, Counters counters) {
+    }
+
+    /**
+     * Filas rechazadas: cuenta todas y conserva solo las {@code limit} de menor número de línea.
+     * <p>
+     * Los bloques terminan en cualquier orden, por lo que se mantiene un montículo con la mayor línea en la cima
+     * para sustituirla cuando llega un rechazo anterior.
+     * </p>
+     */
+    private static final class Rejections {
+
+        private final int limit;
+        private final PriorityQueue<PriceImportReport.Rejection> kept =
+                new PriorityQueue<>(Comparator.comparingLong(PriceImportReport.Rejection::line).reversed());
+        private long count;
+
+        private Rejections(int limit) {
+            this.limit = limit;
+        }
+
+        private synchronized void add(PriceImportReport.Rejection rejection) {
+            count++;
+            if (kept.size() < limit) {
+                kept.add(rejection);
+            } else if (!kept.isEmpty() && rejection.line() < kept.peek().line()) {
+                kept.poll();
+                kept.add(rejection);
+            }
+        }
+
+        private synchronized long count() {
+            return count;
+        }
+
+        private synchronized List<PriceImportReport.Rejection> firstByLine() {
+            List<PriceImportReport.Rejection> sorted = new ArrayList<>(kept);
+            sorted.sort(Comparator.comparingLong(PriceImportReport.Rejection::line));
+            return sorted;
+        }
+    }
+
+    /**
+     * Bloque de tarifas válidas junto con su línea de origen para poder informar rechazos.
+     */
+    private static final class Chunk {
+
+        private final int capacity;
+        private final List<Price> prices;
+        private final List<Long> lines;
+        private final List<String> contents;
+
+        private Chunk(int capacity) {
+            this.capacity = capacity;
+            this.prices = new ArrayList<>(capacity);
+            this.lines = new ArrayList<>(capacity);
+            this.contents = new ArrayList<>(capacity);
+        }
+
+        private void add(long line, String content, Price price) {
+            prices.add(price);
+            lines.add(line);
+            contents.add(content);
+        }
+
+        private boolean isFull() {
+            return prices.size() >= capacity;
+        }
+
+        private boolean isEmpty() {
+            return prices.isEmpty();
+        }
+    }
+}
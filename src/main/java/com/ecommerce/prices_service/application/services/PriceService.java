@@ -2,10 +2,16 @@ package com.ecommerce.prices_service.application.services;
 
 import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
 import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.exception.DomainValidationException;
 import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
 import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio de aplicación que implementa la lógica de negocio para la gestión de precios.
@@ -46,6 +52,72 @@ public class PriceService implements GetPriceUseCase {
     @Override
     public Price execute(LocalDateTime date, Long productId, Long brandId) {
         return priceRepository.findPriceByPriority(date, productId, brandId)
-                .orElseThrow(() -> new PriceNotFoundException("Precio no encontrado"));
+                .orElseThrow(PriceService::priceNotFound);
+    }
+
+    /**
+     * Ejecuta la búsqueda de la tarifa aplicable devolviendo además su tramo de vigencia efectiva.
+     * <p>
+     * El tramo delimita el intervalo en el que cualquier otra consulta del mismo producto y cadena
+     * obtendría exactamente la misma tarifa, lo que permite reutilizar el resultado.
+     * </p>
+     *
+     * @param date        Instante de tiempo para el cual se requiere validar la vigencia del precio.
+     * @param productId   Identificador único del producto en catálogo.
+     * @param brandId     Identificador de la cadena o grupo empresarial (ej. Zara = 1).
+     * @return {@link PriceSegment} El tramo que contiene la fecha con la tarifa ganadora.
+     * @throws PriceNotFoundException Si no existe ningún registro que coincida con los criterios
+     *                                de búsqueda en el instante proporcionado.
+     */
+    @Override
+    public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+        return priceRepository.findSegmentByPriority(date, productId, brandId)
+                .orElseThrow(PriceService::priceNotFound);
+    }
+
+    /**
+     * Resuelve en bloque las tarifas aplicables delegando en una única consulta de persistencia.
+     * <p>
+     * A diferencia de {@link #execute(LocalDateTime, Long, Long)}, la ausencia de tarifa no es un error:
+     * se refleja por elemento para que un precio inexistente no invalide el lote completo.
+     * </p>
+     *
+     * @param queries Consultas a resolver.
+     * @return Tarifa de mayor prioridad por consulta; las consultas sin tarifa no aparecen en el mapa.
+     */
+    @Override
+    public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+        return priceRepository.findPricesByPriority(queries);
+    }
+
+    /**
+     * Construye la secuencia de tarifas ganadoras de un rango con una única consulta de persistencia.
+     * <p>
+     * Se recuperan las tarifas cuya vigencia se solapa con el rango y se aplanan con el barrido de
+     * {@link PriceTimeline}, que aplica la misma precedencia que {@code findTopPrice}: cualquier instante
+     * del rango obtiene la tarifa de su tramo. Las tarifas fuera del rango no alteran el resultado.
+     * </p>
+     *
+     * @param productId Identificador único del producto en catálogo.
+     * @param brandId   Identificador de la cadena o grupo empresarial.
+     * @param from      Inicio del rango (inclusivo).
+     * @param to        Fin del rango (inclusivo).
+     * @return Tramos ganadores recortados al rango, en orden cronológico.
+     * @throws DomainValidationException Si el inicio del rango es posterior a su fin.
+     */
+    @Override
+    public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new DomainValidationException("La fecha de inicio no puede ser posterior a la de fin");
+        }
+        return PriceTimeline.of(priceRepository.findPricesBetween(productId, brandId, from, to))
+                .segmentsBetween(from, to);
+    }
+
+    /**
+     * Error de tarifa inexistente, común a las variantes bloqueante y reactiva del caso de uso.
+     */
+    static PriceNotFoundException priceNotFound() {
+        return new PriceNotFoundException("Precio no encontrado");
     }
 }
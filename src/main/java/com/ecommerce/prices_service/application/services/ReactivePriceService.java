@@ -0,0 +1,37 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceReactiveUseCase;
+import com.ecommerce.prices_service.application.ports.out.ReactivePriceRepositoryPort;
+import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
+import com.ecommerce.prices_service.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Servicio de aplicación no bloqueante para la consulta de la tarifa aplicable.
+ * <p>
+ * Aplica las mismas reglas que {@link PriceService#execute}: la selección se delega en el puerto de
+ * salida y la ausencia de tarifa se traduce en el mismo {@link PriceNotFoundException}, de modo que
+ * ambos caminos responden igual ante el {@code GlobalExceptionHandler}.
+ * </p>
+ */
+public class ReactivePriceService implements GetPriceReactiveUseCase {
+
+    private final ReactivePriceRepositoryPort priceRepository;
+
+    /**
+     * Constructor para la inyección de dependencias del puerto de salida.
+     *
+     * @param priceRepository Adaptador reactivo para la consulta de tarifas.
+     */
+    public ReactivePriceService(ReactivePriceRepositoryPort priceRepository) {
+        this.priceRepository = priceRepository;
+    }
+
+    @Override
+    public Mono<Price> execute(LocalDateTime date, Long productId, Long brandId) {
+        return priceRepository.findPriceByPriority(date, productId, brandId)
+                .switchIfEmpty(Mono.error(PriceService::priceNotFound));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.prices_service.domain.event;
+
+import com.ecommerce.prices_service.domain.model.PriceKey;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Evento interno que notifica qué series de tarifas han cambiado en la tabla {@code prices}.
+ * <p>
+ * Permite a las vistas derivadas (líneas temporales, índices y cachés) invalidar o reconstruir
+ * únicamente las claves afectadas en lugar de descartar todo su contenido.
+ * </p>
+ */
+public record PricesChangedEvent(Set<PriceKey> keys) {
+
+    public PricesChangedEvent {
+        keys = Set.copyOf(Objects.requireNonNull(keys, "Las claves modificadas son obligatorias"));
+    }
+}
@@ -2,5 +2,6 @@ package com.ecommerce.prices_service.domain.exception;
 
 public class DomainValidationException extends RuntimeException {
     public DomainValidationException(String s) {
+        super(s);
     }
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tarifa ganadora de cada cadena y producto del catálogo en un instante dado.
+ *
+ * @param instant Instante para el que se resolvieron las tarifas.
+ * @param prices  Una tarifa por {@link PriceKey} con tarifa vigente, en orden de producto y cadena.
+ */
+public record PriceCatalogSnapshot(LocalDateTime instant, List<Price> prices) {
+
+    public PriceCatalogSnapshot {
+        Objects.requireNonNull(instant, "El instante de la instantánea no puede ser nulo");
+        prices = List.copyOf(prices);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Estado de una carga masiva de tarifas que se ejecuta en segundo plano.
+ *
+ * @param id          Identificador de la carga.
+ * @param status      Fase en la que se encuentra.
+ * @param submittedAt Instante en el que se aceptó el fichero.
+ * @param progress    Contadores hasta el momento; solo mientras se ejecuta ({@link Status#RUNNING}).
+ * @param report      Informe de la carga; solo cuando ha finalizado ({@link Status#COMPLETED}).
+ * @param error       Motivo del fallo; solo cuando no ha podido completarse ({@link Status#FAILED}).
+ */
+public record PriceImportJob(UUID id, Status status, Instant submittedAt, Progress progress,
+                             PriceImportReport report, String error) {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * Avance de una carga en curso.
+     *
+     * @param read     Filas de datos leídas del fichero.
+     * @param inserted Tarifas ya confirmadas en base de datos.
+     * @param rejected Filas rechazadas, por validación o por fallo de su bloque.
+     */
+    public record Progress(long read, long inserted, long rejected) {
+    }
+
+    public static PriceImportJob pending(UUID id, Instant submittedAt) {
+        return new PriceImportJob(id, Status.PENDING, submittedAt, null, null, null);
+    }
+
+    public PriceImportJob running(Progress progress) {
+        return new PriceImportJob(id, Status.RUNNING, submittedAt, progress, null, null);
+    }
+
+    public PriceImportJob completed(PriceImportReport report) {
+        return new PriceImportJob(id, Status.COMPLETED, submittedAt, null, report, null);
+    }
+
+    public PriceImportJob failed(String error) {
+        return new PriceImportJob(id, Status.FAILED, submittedAt, null, null, error);
+    }
+}
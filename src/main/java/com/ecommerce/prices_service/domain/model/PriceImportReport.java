@@ -0,0 +1,31 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva de tarifas.
+ *
+ * @param read       Número de filas de datos leídas (sin cabecera).
+ * @param inserted   Número de tarifas escritas en base de datos.
+ * @param rejected   Número total de filas rechazadas.
+ * @param rejections Detalle de las primeras filas rechazadas en orden de línea (acotado, puede ser menor que
+ *                   {@code rejected}).
+ * @param elapsed    Duración total de la carga.
+ */
+public record PriceImportReport(long read, long inserted, long rejected, List<Rejection> rejections, Duration elapsed) {
+
+    public PriceImportReport {
+        rejections = List.copyOf(rejections);
+    }
+
+    /**
+     * Fila rechazada durante la carga.
+     *
+     * @param line    Número de línea en el fichero de origen (1 = cabecera).
+     * @param content Contenido original de la línea.
+     * @param reason  Motivo del rechazo.
+     */
+    public record Rejection(long line, String content, String reason) {
+    }
+}
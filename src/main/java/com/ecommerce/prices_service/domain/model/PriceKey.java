@@ -0,0 +1,22 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Clave natural de una serie de tarifas: la combinación cadena + producto.
+ * <p>
+ * Todas las tarifas que comparten clave compiten entre sí por prioridad, por lo que es la
+ * unidad de particionado de índices, cachés e invalidaciones.
+ * </p>
+ */
+public record PriceKey(Long brandId, Long productId) {
+
+    public PriceKey {
+        Objects.requireNonNull(brandId, "El brandId es obligatorio");
+        Objects.requireNonNull(productId, "El productId es obligatorio");
+    }
+
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.brandId(), price.productId());
+    }
+}
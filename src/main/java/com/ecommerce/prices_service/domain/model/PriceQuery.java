@@ -0,0 +1,16 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Criterios de una consulta de tarifa: fecha de aplicación, producto y cadena.
+ */
+public record PriceQuery(LocalDateTime date, Long productId, Long brandId) {
+
+    public PriceQuery {
+        Objects.requireNonNull(date, "La fecha de aplicación es obligatoria");
+        Objects.requireNonNull(productId, "El productId es obligatorio");
+        Objects.requireNonNull(brandId, "El brandId es obligatorio");
+    }
+}
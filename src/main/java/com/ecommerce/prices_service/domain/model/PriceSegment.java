@@ -0,0 +1,89 @@
+package com.ecommerce.prices_service.domain.model;
+
+import com.ecommerce.prices_service.domain.exception.DomainValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Tramo temporal durante el cual una misma tarifa es la ganadora para su {@link PriceKey}.
+ * <p>
+ * El intervalo es semiabierto: {@code from} es inclusivo y {@code to} exclusivo. De este modo
+ * los tramos consecutivos de una línea temporal encajan sin huecos ni solapes, aunque la vigencia
+ * de las tarifas en base de datos sea inclusiva en ambos extremos.
+ * </p>
+ * <p>
+ * Cada tramo lleva además la representación serializada de su tarifa ({@link Encoding}), que el
+ * adaptador de entrada calcula la primera vez que lo sirve y reutiliza mientras el tramo siga en
+ * memoria. No forma parte de la identidad del tramo: {@code equals} y {@code hashCode} la ignoran.
+ * </p>
+ */
+public record PriceSegment(LocalDateTime from, LocalDateTime to, Price price, Encoding encoding) {
+
+    public PriceSegment {
+        Objects.requireNonNull(from, "El inicio del tramo es obligatorio");
+        Objects.requireNonNull(to, "El fin del tramo es obligatorio");
+        Objects.requireNonNull(price, "La tarifa del tramo es obligatoria");
+        Objects.requireNonNull(encoding, "La representación del tramo es obligatoria");
+
+        if (!from.isBefore(to)) {
+            throw new DomainValidationException("El inicio del tramo debe ser anterior a su fin");
+        }
+    }
+
+    public PriceSegment(LocalDateTime from, LocalDateTime to, Price price) {
+        this(from, to, price, new Encoding());
+    }
+
+    public boolean contains(LocalDateTime date) {
+        Objects.requireNonNull(date, "La fecha de aplicación no puede ser nula");
+        return !date.isBefore(from) && date.isBefore(to);
+    }
+
+    /**
+     * Representación serializada de la tarifa; la calcula {@code encoder} solo la primera vez.
+     * El array es compartido entre llamadas y no debe modificarse.
+     */
+    public byte[] encoded(Function<Price, byte[]> encoder) {
+        return encoding.get(price, encoder);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PriceSegment segment
+                && from.equals(segment.from) && to.equals(segment.to) && price.equals(segment.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, price);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSegment[from=" + from + ", to=" + to + ", price=" + price + "]";
+    }
+
+    /**
+     * Hueco para la representación serializada de la tarifa de un tramo. Dos hilos pueden calcularla a la
+     * vez la primera vez; ambos obtienen el mismo contenido y se conserva cualquiera de los dos.
+     */
+    public static final class Encoding {
+
+        private volatile byte[] bytes;
+
+        public boolean isEncoded() {
+            return bytes != null;
+        }
+
+        byte[] get(Price price, Function<Price, byte[]> encoder) {
+            byte[] current = bytes;
+            if (current == null) {
+                current = encoder.apply(price);
+                bytes = current;
+            }
+            return current;
+        }
+    }
+}
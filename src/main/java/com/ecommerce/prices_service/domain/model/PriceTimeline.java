@@ -0,0 +1,174 @@
+package com.ecommerce.prices_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Línea temporal de precios efectivos de una {@link PriceKey}.
+ * <p>
+ * Aplana un conjunto de tarifas solapadas en tramos {@link PriceSegment} disjuntos y ordenados,
+ * donde cada tramo conserva únicamente la tarifa ganadora. Las reglas de precedencia son las mismas
+ * que aplica la consulta {@code findTopPrice}: mayor prioridad y, a igualdad de prioridad, mayor
+ * identificador. Una vez construida, la consulta de la tarifa vigente es una búsqueda binaria.
+ * </p>
+ */
+public final class PriceTimeline {
+
+    /**
+     * Orden de precedencia entre tarifas solapadas (de menor a mayor).
+     */
+    public static final Comparator<Price> PRECEDENCE = Comparator.comparing(Price::priority)
+            .thenComparing(Price::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of());
+
+    private final List<PriceSegment> segments;
+
+    private PriceTimeline(List<PriceSegment> segments) {
+        this.segments = segments;
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye la línea temporal mediante un barrido (sweep-line) sobre los extremos de vigencia.
+     *
+     * @param prices Tarifas de una misma cadena y producto, en cualquier orden.
+     * @return Línea temporal con los tramos ganadores, sin huecos internos artificiales.
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        // El rango de cada tarifa es su posición en el orden de precedencia
+        List<Price> ranked = new ArrayList<>(prices);
+        ranked.sort(PRECEDENCE);
+
+        List<Boundary> boundaries = new ArrayList<>(ranked.size() * 2);
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            Price price = ranked.get(rank);
+            boundaries.add(new Boundary(price.startDate(), rank, true));
+            boundaries.add(new Boundary(exclusiveEnd(price.endDate()), rank, false));
+        }
+        boundaries.sort(Comparator.comparing(Boundary::at));
+
+        List<PriceSegment> result = new ArrayList<>();
+        TreeSet<Integer> active = new TreeSet<>();
+        int i = 0;
+        while (i < boundaries.size()) {
+            LocalDateTime at = boundaries.get(i).at();
+            while (i < boundaries.size() && boundaries.get(i).at().equals(at)) {
+                Boundary boundary = boundaries.get(i++);
+                if (boundary.opens()) {
+                    active.add(boundary.rank());
+                } else {
+                    active.remove(boundary.rank());
+                }
+            }
+            if (active.isEmpty() || i == boundaries.size()) {
+                continue;
+            }
+
+            Price winner = ranked.get(active.last());
+            LocalDateTime next = boundaries.get(i).at();
+            PriceSegment last = result.isEmpty() ? null : result.getLast();
+            if (last != null && last.price() == winner && last.to().equals(at)) {
+                result.set(result.size() - 1, new PriceSegment(last.from(), next, winner));
+            } else {
+                result.add(new PriceSegment(at, next, winner));
+            }
+        }
+        return new PriceTimeline(List.copyOf(result));
+    }
+
+    /**
+     * Localiza el tramo vigente en la fecha indicada mediante búsqueda binaria.
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            PriceSegment segment = segments.get(mid);
+            if (date.isBefore(segment.from())) {
+                high = mid - 1;
+            } else if (!date.isBefore(segment.to())) {
+                low = mid + 1;
+            } else {
+                return Optional.of(segment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Devuelve una nueva línea temporal que incorpora el tramo indicado.
+     * <p>
+     * Los tramos existentes que se solapen con él se descartan, ya que el nuevo tramo refleja
+     * el estado más reciente de las tarifas.
+     * </p>
+     */
+    public PriceTimeline with(PriceSegment segment) {
+        List<PriceSegment> merged = new ArrayList<>(segments.size() + 1);
+        for (PriceSegment existing : segments) {
+            boolean overlaps = existing.from().isBefore(segment.to()) && segment.from().isBefore(existing.to());
+            if (!overlaps) {
+                merged.add(existing);
+            }
+        }
+        merged.add(segment);
+        merged.sort(Comparator.comparing(PriceSegment::from));
+        return new PriceTimeline(List.copyOf(merged));
+    }
+
+    /**
+     * Tramos que intersecan el rango indicado (ambos extremos inclusivos), recortados a sus límites.
+     * <p>
+     * Cada tramo devuelto conserva su tarifa ganadora; el primero empieza como pronto en {@code from} y
+     * el último termina como tarde justo después de {@code to}.
+     * </p>
+     */
+    public List<PriceSegment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = exclusiveEnd(to);
+        List<PriceSegment> result = new ArrayList<>();
+        for (PriceSegment segment : segments) {
+            if (segment.to().isAfter(from) && segment.from().isBefore(end)) {
+                result.add(new PriceSegment(
+                        segment.from().isBefore(from) ? from : segment.from(),
+                        segment.to().isAfter(end) ? end : segment.to(),
+                        segment.price()));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    public Optional<Price> priceAt(LocalDateTime date) {
+        return segmentAt(date).map(PriceSegment::price);
+    }
+
+    public List<PriceSegment> segments() {
+        return segments;
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Convierte el fin inclusivo de una tarifa en el primer instante en el que deja de aplicar.
+     */
+    private static LocalDateTime exclusiveEnd(LocalDateTime endDate) {
+        return LocalDateTime.MAX.equals(endDate) ? endDate : endDate.plusNanos(1);
+    }
+
+    private record Boundary(LocalDateTime at, int rank, boolean opens) {
+    }
+}
@@ -1,26 +1,45 @@
 package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
 
+import com.ecommerce.prices_service.application.ports.in.ExportPricesUseCase;
 import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchRequestDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchResponseDTO;
 import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceTimelineResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceJsonEncoder;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceNdjsonWriter;
 import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.function.Function;
 
 /**
  * Controlador REST que actúa como adaptador de entrada para la gestión de precios.
@@ -32,23 +51,47 @@ import java.time.LocalDateTime;
  */
 @SecurityRequirement(name = "Bearer Authentication")
 @RestController
-@RequestMapping("/api/v1/prices")
+@RequestMapping("/api/v1")
 @Validated
-@Tag(name = "Precios", description = "Consulta de tarifas vigentes mediante")
+@Tag(name = "Precios", description = "Consulta de tarifas vigentes por producto, cadena y fecha de aplicación")
 public class PriceController {
 
+    /**
+     * Tipo MIME de Smile (formato binario de Jackson); Spring no define constante para él.
+     */
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final String NOT_MODIFIED_DESCRIPTION = "La tarifa no ha cambiado respecto al ETag enviado en If-None-Match.";
+    private static final String BAD_REQUEST_DESCRIPTION = "Parámetros de entrada inválidos o reglas de negocio violadas.";
+    private static final String NOT_FOUND_DESCRIPTION = "No se encontró ningún precio para los criterios proporcionados.";
+    private static final String SERVER_ERROR_DESCRIPTION = "Error interno del servidor controlado.";
+
     private final GetPriceUseCase getPriceUseCase;
+    private final ExportPricesUseCase exportPricesUseCase;
     private final PriceRestMapper priceMapper;
+    private final PriceNdjsonWriter priceNdjsonWriter;
+    private final PriceJsonEncoder priceJsonEncoder;
+    private final PriceHttpCachePolicy priceHttpCachePolicy;
 
     /**
-     * Constructor para la inyección de dependencias del caso de uso y el mapper REST.
+     * Constructor para la inyección de dependencias de los casos de uso y los mappers REST.
      *
-     * @param getPriceUseCase Interfaz del caso de uso para obtener precios.
-     * @param priceMapper     Mapper para transformar modelos de dominio a DTOs de respuesta.
+     * @param getPriceUseCase     Interfaz del caso de uso para obtener precios.
+     * @param exportPricesUseCase Interfaz del caso de uso para exportar el catálogo de precios.
+     * @param priceMapper         Mapper para transformar modelos de dominio a DTOs de respuesta.
+     * @param priceNdjsonWriter   Serializador NDJSON para las exportaciones en streaming.
+     * @param priceJsonEncoder    Codificación JSON precalculada de las tarifas.
+     * @param priceHttpCachePolicy Validadores y política de caché HTTP de las tarifas.
      */
-    public PriceController(GetPriceUseCase getPriceUseCase, PriceRestMapper priceMapper) {
+    public PriceController(GetPriceUseCase getPriceUseCase, ExportPricesUseCase exportPricesUseCase,
+                           PriceRestMapper priceMapper, PriceNdjsonWriter priceNdjsonWriter,
+                           PriceJsonEncoder priceJsonEncoder, PriceHttpCachePolicy priceHttpCachePolicy) {
         this.getPriceUseCase = getPriceUseCase;
+        this.exportPricesUseCase = exportPricesUseCase;
         this.priceMapper = priceMapper;
+        this.priceNdjsonWriter = priceNdjsonWriter;
+        this.priceJsonEncoder = priceJsonEncoder;
+        this.priceHttpCachePolicy = priceHttpCachePolicy;
     }
 
     /**
@@ -56,25 +99,98 @@ public class PriceController {
      * <p>
      * El método valida que los parámetros de entrada cumplan con los requisitos de
      * formato y rango antes de delegar la ejecución al caso de uso correspondiente.
+     * El cuerpo se escribe con el JSON precalculado de la tarifa ({@link PriceJsonEncoder}), idéntico a
+     * la serialización del {@link PriceResponseDTO}.
+     * </p>
+     * <p>
+     * La respuesta incluye {@code ETag} y {@code Cache-Control} derivados del tramo de vigencia
+     * ({@link PriceHttpCachePolicy}). Si el {@code If-None-Match} coincide se responde 304 sin cuerpo. La
+     * comprobación se hace antes de resolver la consulta contra los tramos ya conocidos
+     * ({@link GetPriceUseCase#findKnownSegment}), de modo que un 304 de un tramo cacheado no ocupa plazas
+     * del limitador ni conexiones de base de datos; solo si el tramo no se conoce se resuelve primero.
      * </p>
      *
      * @param applicationDate Fecha en la que se desea consultar la vigencia del precio (ISO 8601).
      * @param productId       Identificador numérico positivo del producto.
      * @param brandId         Identificador numérico positivo de la cadena/marca.
-     * @return {@link ResponseEntity} que contiene el {@link PriceResponseDTO} con la información de la tarifa.
+     * @param ifNoneMatch     Validadores de la cabecera {@code If-None-Match}, si la petición es condicional.
+     * @return {@link ResponseEntity} con el {@link PriceResponseDTO} serializado de la tarifa.
      */
     @Operation(
             summary = "Consultar precio aplicable",
             description = "Devuelve la tarifa con mayor prioridad para un producto, cadena y fecha específica. "
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Operación exitosa"),
-            @ApiResponse(responseCode = "400", description = "Parámetros de entrada inválidos o reglas de negocio violadas."),
-            @ApiResponse(responseCode = "404", description = "No se encontró ningún precio para los criterios proporcionados."),
-            @ApiResponse(responseCode = "500", description = "Error interno del servidor controlado.")
+            @ApiResponse(responseCode = "200", description = "Operación exitosa",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PriceResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = NOT_MODIFIED_DESCRIPTION),
+            @ApiResponse(responseCode = "400", description = BAD_REQUEST_DESCRIPTION),
+            @ApiResponse(responseCode = "404", description = NOT_FOUND_DESCRIPTION),
+            @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION)
+    })
+    @GetMapping("/prices")
+    public ResponseEntity<byte[]> getPrice(
+            @Parameter(description = "Fecha de aplicación (Formato ISO 8601)", example = "2026-06-14T16:00:00", required = true)
+            @RequestParam
+            @NotNull(message = "La fecha de aplicación es obligatoria")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @Parameter(description = "ID del producto", example = "35455")
+            @RequestParam
+            @NotNull(message = "El ID de producto es obligatorio")
+            @Positive(message = "El ID de producto debe ser un número positivo")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            Long productId,
+
+            @Parameter(description = "ID de la cadena", example = "1")
+            @RequestParam
+            @NotNull(message = "El ID de cadena es obligatorio")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            @Positive(message = "El ID de cadena debe ser un número positivo")
+            Long brandId,
+
+            @Parameter(description = "ETag de una respuesta anterior; si sigue vigente se responde 304")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+
+        return conditionalPrice(ifNoneMatch, applicationDate, productId, brandId, false, priceJsonEncoder::encode);
+    }
+
+    /**
+     * Variante binaria de {@link #getPrice} para clientes que piden CBOR o Smile en la cabecera {@code Accept}.
+     * <p>
+     * Mismas validaciones, resolución y política de caché; el {@link PriceResponseDTO} lo serializa el
+     * conversor del formato negociado. El {@code ETag} es débil: las tres representaciones son
+     * semánticamente equivalentes y comparten validador, mientras que {@code Vary: Accept} mantiene
+     * separadas sus copias en las cachés.
+     * </p>
+     *
+     * @param applicationDate Fecha en la que se desea consultar la vigencia del precio (ISO 8601).
+     * @param productId       Identificador numérico positivo del producto.
+     * @param brandId         Identificador numérico positivo de la cadena/marca.
+     * @param ifNoneMatch     Validadores de la cabecera {@code If-None-Match}, si la petición es condicional.
+     * @return {@link ResponseEntity} con el {@link PriceResponseDTO} de la tarifa.
+     */
+    @Operation(
+            summary = "Consultar precio aplicable (CBOR / Smile)",
+            description = "Igual que la consulta JSON, codificada en CBOR o Smile según la cabecera Accept. "
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operación exitosa",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = PriceResponseDTO.class)),
+                            @Content(mediaType = APPLICATION_SMILE_VALUE,
+                                    schema = @Schema(implementation = PriceResponseDTO.class))}),
+            @ApiResponse(responseCode = "304", description = NOT_MODIFIED_DESCRIPTION),
+            @ApiResponse(responseCode = "400", description = BAD_REQUEST_DESCRIPTION),
+            @ApiResponse(responseCode = "404", description = NOT_FOUND_DESCRIPTION),
+            @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION)
     })
-    @GetMapping
-    public ResponseEntity<PriceResponseDTO> getPrice(
+    @GetMapping(value = "/prices", produces = {MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PriceResponseDTO> getPriceBinary(
             @Parameter(description = "Fecha de aplicación (Formato ISO 8601)", example = "2026-06-14T16:00:00", required = true)
             @RequestParam
             @NotNull(message = "La fecha de aplicación es obligatoria")
@@ -88,6 +204,135 @@ public class PriceController {
             @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
             Long productId,
 
+            @Parameter(description = "ID de la cadena", example = "1")
+            @RequestParam
+            @NotNull(message = "El ID de cadena es obligatorio")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            @Positive(message = "El ID de cadena debe ser un número positivo")
+            Long brandId,
+
+            @Parameter(description = "ETag de una respuesta anterior; si sigue vigente se responde 304")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+
+        return conditionalPrice(ifNoneMatch, applicationDate, productId, brandId, true, this::toBinaryResponse);
+    }
+
+    /**
+     * Endpoint para consultar la secuencia de tarifas ganadoras de un producto en un rango de fechas.
+     * <p>
+     * Sustituye al muestreo periódico de {@code GET /prices}: las tarifas solapadas con el rango se
+     * recuperan en una única consulta y se aplanan en tramos, de modo que cada instante del rango
+     * obtiene exactamente la tarifa que devolvería {@code GET /prices} para esa fecha.
+     * </p>
+     *
+     * @param productId Identificador numérico positivo del producto.
+     * @param brandId   Identificador numérico positivo de la cadena/marca.
+     * @param from      Inicio del rango, inclusivo (ISO 8601).
+     * @param to        Fin del rango, inclusivo (ISO 8601).
+     * @return {@link ResponseEntity} con el {@link PriceTimelineResponseDTO} del rango.
+     */
+    @Operation(
+            summary = "Consultar la línea temporal de precios",
+            description = "Devuelve los tramos del rango con la tarifa de mayor prioridad aplicable en cada uno. "
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operación exitosa (sin tramos si no hay tarifas en el rango)"),
+            @ApiResponse(responseCode = "400", description = "Parámetros de entrada inválidos o rango invertido."),
+            @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION)
+    })
+    @GetMapping("/prices/timeline")
+    public ResponseEntity<PriceTimelineResponseDTO> getPriceTimeline(
+            @Parameter(description = "ID del producto", example = "35455")
+            @RequestParam
+            @NotNull(message = "El ID de producto es obligatorio")
+            @Positive(message = "El ID de producto debe ser un número positivo")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            Long productId,
+
+            @Parameter(description = "ID de la cadena", example = "1")
+            @RequestParam
+            @NotNull(message = "El ID de cadena es obligatorio")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            @Positive(message = "El ID de cadena debe ser un número positivo")
+            Long brandId,
+
+            @Parameter(description = "Inicio del rango (Formato ISO 8601)", example = "2020-06-14T00:00:00", required = true)
+            @RequestParam
+            @NotNull(message = "La fecha de inicio es obligatoria")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+
+            @Parameter(description = "Fin del rango (Formato ISO 8601)", example = "2020-06-16T23:59:59", required = true)
+            @RequestParam
+            @NotNull(message = "La fecha de fin es obligatoria")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to) {
+
+        var segments = getPriceUseCase.resolveTimeline(productId, brandId, from, to);
+
+        return ResponseEntity.ok(priceMapper.toTimelineResponse(productId, brandId, segments));
+    }
+
+    /**
+     * Endpoint para resolver en bloque la tarifa aplicable de varias consultas.
+     * <p>
+     * Todas las consultas se resuelven en un único acceso a base de datos. Las que no tienen tarifa
+     * se informan por elemento con estado {@code NOT_FOUND} sin que fallen el resto del lote.
+     * </p>
+     *
+     * @param request Lote de consultas (fecha de aplicación, producto y cadena).
+     * @return {@link ResponseEntity} con el {@link PriceBatchResponseDTO} en el mismo orden que la petición.
+     */
+    @Operation(
+            summary = "Consultar precios aplicables en bloque",
+            description = "Resuelve hasta 500 consultas de tarifa en una única petición y un único acceso a base de datos. "
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operación exitosa (con estado por elemento)"),
+            @ApiResponse(responseCode = "400", description = "Cuerpo de la petición inválido."),
+            @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION)
+    })
+    @PostMapping("/prices:batch")
+    public ResponseEntity<PriceBatchResponseDTO> getPrices(@Valid @RequestBody PriceBatchRequestDTO request) {
+        var queries = request.items().stream()
+                .map(priceMapper::toQuery)
+                .toList();
+
+        var resolved = getPriceUseCase.executeBatch(queries);
+
+        return ResponseEntity.ok(priceMapper.toBatchResponse(queries, resolved));
+    }
+
+    /**
+     * Endpoint para exportar la tarifa vigente de todos los productos de una cadena.
+     * <p>
+     * La respuesta se genera en streaming (NDJSON, una tarifa por línea y ordenada por producto) a
+     * medida que se leen las filas de base de datos, por lo que el consumo de memoria es constante
+     * con independencia del tamaño del catálogo.
+     * </p>
+     *
+     * @param applicationDate Instante para el que se resuelven las tarifas (ISO 8601).
+     * @param brandId         Identificador numérico positivo de la cadena/marca.
+     * @return {@link ResponseEntity} con el cuerpo NDJSON de {@link PriceResponseDTO}.
+     */
+    @Operation(
+            summary = "Exportar precios vigentes de una cadena",
+            description = "Devuelve en streaming NDJSON la tarifa con mayor prioridad de cada producto de la cadena en la fecha indicada. "
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso"),
+            @ApiResponse(responseCode = "400", description = "Parámetros de entrada inválidos."),
+            @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION)
+    })
+    @GetMapping(path = "/prices/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPrices(
+            @Parameter(description = "Fecha de aplicación (Formato ISO 8601)", example = "2026-06-14T16:00:00", required = true)
+            @RequestParam
+            @NotNull(message = "La fecha de aplicación es obligatoria")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
             @Parameter(description = "ID de la cadena", example = "1")
             @RequestParam
             @NotNull(message = "El ID de cadena es obligatorio")
@@ -95,8 +340,66 @@ public class PriceController {
             @Positive(message = "El ID de cadena debe ser un número positivo")
             Long brandId) {
 
-        var price = getPriceUseCase.execute(applicationDate, productId, brandId);
+        StreamingResponseBody body = output -> {
+            try (var session = priceNdjsonWriter.open(output)) {
+                exportPricesUseCase.exportWinningPrices(brandId, applicationDate, session);
+            }
+        };
 
-        return ResponseEntity.ok(priceMapper.toResponse(price));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Flujo común de {@link #getPrice} y {@link #getPriceBinary}: 304 si el tramo ya conocido coincide con
+     * {@code If-None-Match}, sin resolver la consulta; si no, se resuelve el tramo y se responde 200 con las
+     * cabeceras de caché. Si el tramo no se conocía, Spring MVC responde igualmente 304 sin cuerpo cuando el
+     * {@code ETag} coincide.
+     *
+     * @param binary {@code true} para las representaciones CBOR/Smile, con {@code ETag} débil y el tipo de
+     *               contenido que fije el conversor negociado; {@code false} para el JSON precalculado.
+     * @param body   Cuerpo de la respuesta a partir del tramo resuelto.
+     */
+    private <T> ResponseEntity<T> conditionalPrice(String ifNoneMatch, LocalDateTime applicationDate, Long productId,
+                                                   Long brandId, boolean binary, Function<PriceSegment, T> body) {
+        PriceRequestTrace.lap(PriceRequestTrace.Stage.VALIDATION);
+        if (ifNoneMatch != null) {
+            var known = getPriceUseCase.findKnownSegment(applicationDate, productId, brandId)
+                    .filter(segment -> priceHttpCachePolicy.matches(ifNoneMatch, segment));
+            if (known.isPresent()) {
+                return cacheHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), known.get(), binary).build();
+            }
+        }
+        var segment = getPriceUseCase.resolveSegment(applicationDate, productId, brandId);
+
+        var response = cacheHeaders(ResponseEntity.ok(), segment, binary);
+        if (!binary) {
+            response.contentType(MediaType.APPLICATION_JSON);
+        }
+        return response.body(body.apply(segment));
+    }
+
+    /**
+     * DTO de la respuesta CBOR/Smile; su escritura la mide {@code BinaryResponseTraceAdvice}.
+     */
+    private PriceResponseDTO toBinaryResponse(PriceSegment segment) {
+        long started = System.nanoTime();
+        PriceResponseDTO response = priceMapper.toResponse(segment.price());
+        PriceRequestTrace.record(PriceRequestTrace.Stage.DTO_MAPPING, started);
+        return response;
+    }
+
+    /**
+     * {@code ETag}, {@code Cache-Control} y {@code Vary: Accept} del tramo, compartidos por las respuestas 200 y 304.
+     *
+     * @param weak {@code true} para las representaciones binarias, que publican el {@code ETag} como débil.
+     */
+    private ResponseEntity.BodyBuilder cacheHeaders(ResponseEntity.BodyBuilder builder, PriceSegment segment,
+                                                    boolean weak) {
+        return builder
+                .eTag((weak ? "W/" : "") + priceHttpCachePolicy.etag(segment))
+                .cacheControl(priceHttpCachePolicy.cacheControl(segment))
+                .varyBy(HttpHeaders.ACCEPT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+
+/**
+ * Validadores HTTP ({@code ETag}) y política {@code Cache-Control} de las respuestas de tarifa.
+ * <p>
+ * El {@code ETag} se deriva del contenido de la tarifa ganadora y de los límites de su tramo: cambia
+ * si se modifica la fila (importe, vigencia, prioridad...) o si otra tarifa altera el tramo en el que
+ * gana, y coincide en cualquier otro caso aunque la consulta se resuelva de nuevo.
+ * </p>
+ * <p>
+ * Solo intervienen valores estables (identificador, importe en forma plana, código de moneda, fechas en
+ * segundos de época...) resumidos con SHA-256, de modo que todas las instancias del servicio, y la misma
+ * instancia tras un reinicio, publican el mismo validador para la misma fila y el mismo tramo.
+ * </p>
+ * <p>
+ * El {@code max-age} es el tiempo que la tarifa seguirá siendo la ganadora (fin del tramo: su
+ * {@code endDate} o el inicio de una tarifa solapada de mayor prioridad), acotado por
+ * {@code prices.http.max-age} para limitar la obsolescencia ante cambios en el catálogo. Los tramos
+ * que no contienen el instante actual no caducan por el paso del tiempo y reciben el máximo.
+ * </p>
+ */
+@Component
+public class PriceHttpCachePolicy {
+
+    private final Duration maxAge;
+    private final boolean sharedCaches;
+
+    public PriceHttpCachePolicy(@Value("${prices.http.max-age:PT5M}") Duration maxAge,
+                                @Value("${prices.http.shared-caches:false}") boolean sharedCaches) {
+        this.maxAge = maxAge;
+        this.sharedCaches = sharedCaches;
+    }
+
+    /**
+     * Valor del {@code ETag} (entrecomillado, fuerte) del tramo resuelto: identificador de la tarifa y los
+     * primeros 64 bits del SHA-256 de la fila y de los límites del tramo.
+     */
+    public String etag(PriceSegment segment) {
+        Price price = segment.price();
+        String canonical = String.join("|",
+                String.valueOf(price.id()), String.valueOf(price.brandId()), String.valueOf(price.productId()),
+                String.valueOf(price.priceList()), String.valueOf(price.priority()),
+                epoch(price.startDate()), epoch(price.endDate()),
+                price.price().toPlainString(), price.currency().getCurrencyCode(),
+                epoch(segment.from()), epoch(segment.to()));
+        byte[] digest = sha256().digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return "\"" + price.id() + "-" + HexFormat.of().toHexDigits(ByteBuffer.wrap(digest).getLong()) + "\"";
+    }
+
+    /**
+     * Indica si el tramo coincide con alguno de los validadores de un {@code If-None-Match}.
+     * <p>
+     * Comparación débil (RFC 9110 §13.1.2): se acepta el {@code ETag} con o sin prefijo {@code W/}, de modo que
+     * el validador de cualquier representación (JSON, CBOR o Smile) sirve para las demás.
+     * </p>
+     *
+     * @param ifNoneMatch Valor de la cabecera; {@code null} si la petición no es condicional.
+     * @param segment     Tramo con el que se compara.
+     */
+    public boolean matches(String ifNoneMatch, PriceSegment segment) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = etag(segment);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cabecera {@code Cache-Control} de la respuesta según la vigencia restante del tramo.
+     */
+    public CacheControl cacheControl(PriceSegment segment) {
+        LocalDateTime now = LocalDateTime.now();
+        Duration ttl = segment.contains(now) ? min(Duration.between(now, segment.to()), maxAge) : maxAge;
+        CacheControl cacheControl = CacheControl.maxAge(ttl);
+        return sharedCaches ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    private static String epoch(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) + "." + date.getNano();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
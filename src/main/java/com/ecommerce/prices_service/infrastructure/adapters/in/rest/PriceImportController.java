@@ -0,0 +1,105 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.application.ports.in.ImportPricesUseCase;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceImportJobResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Controlador REST que actúa como adaptador de entrada para la carga masiva de tarifas.
+ * <p>
+ * El cuerpo de la petición se vuelca en streaming a un fichero temporal, sin almacenarlo en memoria, y la carga
+ * se ejecuta en segundo plano: la petición responde {@code 202 Accepted} con la URL de su estado. Requiere el
+ * permiso {@code SCOPE_prices:import} (ver {@code SecurityConfig}).
+ * </p>
+ */
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/v1/prices/imports")
+@Tag(name = "Carga de precios", description = "Carga masiva de tarifas desde CSV")
+public class PriceImportController {
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceRestMapper priceMapper;
+
+    /**
+     * Constructor para la inyección de dependencias del caso de uso y el mapper REST.
+     *
+     * @param importPricesUseCase Interfaz del caso de uso para la carga masiva.
+     * @param priceMapper         Mapper para transformar el estado de la carga a DTO de respuesta.
+     */
+    public PriceImportController(ImportPricesUseCase importPricesUseCase, PriceRestMapper priceMapper) {
+        this.importPricesUseCase = importPricesUseCase;
+        this.priceMapper = priceMapper;
+    }
+
+    /**
+     * Endpoint para encolar la carga de un fichero CSV de tarifas.
+     *
+     * @param request Petición HTTP cuyo cuerpo es el CSV en UTF-8.
+     * @return {@link ResponseEntity} 202 con el {@link PriceImportJobResponseDTO} inicial y la cabecera Location.
+     */
+    @Operation(
+            summary = "Cargar tarifas desde CSV",
+            description = "Formato: brand_id,product_id,price_list,start_date,end_date,priority,price,currency. "
+                    + "La carga se ejecuta en segundo plano; las filas inválidas se detallan en el informe sin abortarla."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Carga aceptada; su estado se consulta en Location"),
+            @ApiResponse(responseCode = "403", description = "El token no tiene el permiso prices:import"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor controlado.")
+    })
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<PriceImportJobResponseDTO> importPrices(HttpServletRequest request) throws IOException {
+        var csv = Files.createTempFile("prices-import-", ".csv");
+        try (var body = request.getInputStream()) {
+            Files.copy(body, csv, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(csv);
+            throw ex;
+        }
+        var job = importPricesUseCase.submit(csv);
+        var location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(priceMapper.toImportJobResponse(job));
+    }
+
+    /**
+     * Endpoint para consultar el estado y, al terminar, el informe de una carga.
+     *
+     * @param id Identificador devuelto al encolar la carga.
+     * @return {@link ResponseEntity} con el {@link PriceImportJobResponseDTO}, o 404 si no se conserva.
+     */
+    @Operation(summary = "Estado de una carga de tarifas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estado de la carga (con el informe si ha finalizado)"),
+            @ApiResponse(responseCode = "404", description = "Carga desconocida o ya no conservada")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<PriceImportJobResponseDTO> getImport(@PathVariable UUID id) {
+        var job = importPricesUseCase.findJob(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No existe la carga de tarifas " + id));
+        return ResponseEntity.ok(priceMapper.toImportJobResponse(job));
+    }
+}
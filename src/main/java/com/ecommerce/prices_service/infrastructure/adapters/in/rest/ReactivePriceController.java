@@ -0,0 +1,108 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceReactiveUseCase;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceJsonEncoder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adaptador de entrada reactivo para la consulta de la tarifa aplicable.
+ * <p>
+ * Devuelve un {@link Mono}: Spring MVC procesa la petición de forma asíncrona, libera el hilo de la
+ * petición mientras la consulta R2DBC está en vuelo y escribe la respuesta cuando el driver la completa.
+ * El cuerpo es el mismo que el de {@code GET /api/v1/prices}, para comparar ambos caminos con la misma
+ * carga. Se activa con {@code prices.reactive.enabled=true} (perfil {@code reactive}).
+ * </p>
+ */
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/v1")
+@Validated
+@Tag(name = "Precios", description = "Consulta de tarifas vigentes por producto, cadena y fecha de aplicación")
+@ConditionalOnProperty(name = "prices.reactive.enabled", havingValue = "true")
+public class ReactivePriceController {
+
+    private final GetPriceReactiveUseCase getPriceReactiveUseCase;
+    private final PriceJsonEncoder priceJsonEncoder;
+
+    /**
+     * Constructor para la inyección del caso de uso reactivo y la codificación de la respuesta.
+     *
+     * @param getPriceReactiveUseCase Interfaz del caso de uso no bloqueante para obtener precios.
+     * @param priceJsonEncoder        Codificación JSON precalculada de las tarifas.
+     */
+    public ReactivePriceController(GetPriceReactiveUseCase getPriceReactiveUseCase, PriceJsonEncoder priceJsonEncoder) {
+        this.getPriceReactiveUseCase = getPriceReactiveUseCase;
+        this.priceJsonEncoder = priceJsonEncoder;
+    }
+
+    /**
+     * Variante no bloqueante de {@code GET /api/v1/prices}, con las mismas validaciones y errores.
+     *
+     * @param applicationDate Fecha en la que se desea consultar la vigencia del precio (ISO 8601).
+     * @param productId       Identificador numérico positivo del producto.
+     * @param brandId         Identificador numérico positivo de la cadena/marca.
+     * @return {@link Mono} con el {@link PriceResponseDTO} serializado de la tarifa.
+     */
+    @Operation(
+            summary = "Consultar precio aplicable (R2DBC)",
+            description = "Igual que GET /prices, resuelto sin bloquear hilos en la base de datos. "
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operación exitosa",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PriceResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Parámetros de entrada inválidos o reglas de negocio violadas."),
+            @ApiResponse(responseCode = "404", description = "No se encontró ningún precio para los criterios proporcionados."),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor controlado.")
+    })
+    @GetMapping("/prices/reactive")
+    public Mono<ResponseEntity<byte[]>> getPrice(
+            @Parameter(description = "Fecha de aplicación (Formato ISO 8601)", example = "2026-06-14T16:00:00", required = true)
+            @RequestParam
+            @NotNull(message = "La fecha de aplicación es obligatoria")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @Parameter(description = "ID del producto", example = "35455")
+            @RequestParam
+            @NotNull(message = "El ID de producto es obligatorio")
+            @Positive(message = "El ID de producto debe ser un número positivo")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            Long productId,
+
+            @Parameter(description = "ID de la cadena", example = "1")
+            @RequestParam
+            @NotNull(message = "El ID de cadena es obligatorio")
+            @Max(value = Long.MAX_VALUE, message = "El valor excede el límite permitido")
+            @Positive(message = "El ID de cadena debe ser un número positivo")
+            Long brandId) {
+
+        return getPriceReactiveUseCase.execute(applicationDate, productId, brandId)
+                .map(price -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(priceJsonEncoder.encode(price)));
+    }
+}
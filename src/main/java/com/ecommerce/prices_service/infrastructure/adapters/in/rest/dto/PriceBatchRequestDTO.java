@@ -0,0 +1,40 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO inmutable para la petición de consulta de precios en bloque.
+ */
+@Schema(description = "Lote de consultas de precio a resolver en una única petición")
+public record PriceBatchRequestDTO(
+        @Schema(description = "Consultas a resolver (máximo 500)")
+        @NotEmpty(message = "El lote debe contener al menos una consulta")
+        @Size(max = 500, message = "El lote no puede superar las 500 consultas")
+        List<@Valid @NotNull(message = "La consulta no puede ser nula") Item> items
+) {
+
+    @Schema(description = "Criterios de una consulta del lote")
+    public record Item(
+            @Schema(description = "Fecha de aplicación (ISO 8601)", example = "2020-06-14T16:00:00")
+            @NotNull(message = "La fecha de aplicación es obligatoria")
+            LocalDateTime applicationDate,
+
+            @Schema(description = "ID del producto", example = "35455")
+            @NotNull(message = "El ID de producto es obligatorio")
+            @Positive(message = "El ID de producto debe ser un número positivo")
+            Long productId,
+
+            @Schema(description = "ID de la cadena", example = "1")
+            @NotNull(message = "El ID de cadena es obligatorio")
+            @Positive(message = "El ID de cadena debe ser un número positivo")
+            Long brandId
+    ) {}
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO inmutable para la respuesta de consulta de precios en bloque.
+ * <p>
+ * Los resultados se devuelven en el mismo orden que las consultas de la petición.
+ * </p>
+ */
+@Schema(description = "Resultado por elemento de un lote de consultas de precio")
+public record PriceBatchResponseDTO(
+        @Schema(description = "Resultados en el mismo orden que la petición")
+        List<Item> results
+) {
+
+    public enum Status { FOUND, NOT_FOUND }
+
+    @Schema(description = "Resultado de una consulta del lote")
+    public record Item(
+            @Schema(description = "Fecha de aplicación consultada (ISO 8601)", example = "2020-06-14T16:00:00")
+            LocalDateTime applicationDate,
+
+            @Schema(description = "ID del producto consultado", example = "35455")
+            Long productId,
+
+            @Schema(description = "ID de la cadena consultada", example = "1")
+            Long brandId,
+
+            @Schema(description = "Estado de la resolución", example = "FOUND")
+            Status status,
+
+            @Schema(description = "Tarifa aplicable; ausente si el estado es NOT_FOUND")
+            PriceResponseDTO price
+    ) {}
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO inmutable para el estado de una carga masiva de tarifas en segundo plano.
+ */
+@Schema(description = "Estado de una carga masiva de tarifas")
+public record PriceImportJobResponseDTO(
+        @Schema(description = "Identificador de la carga", example = "3f2b8c1e-7a4d-4c59-9d0e-2b6f1a8e4c71")
+        UUID id,
+
+        @Schema(description = "Fase de la carga", example = "COMPLETED",
+                allowableValues = {"PENDING", "RUNNING", "COMPLETED", "FAILED"})
+        String status,
+
+        @Schema(description = "Instante en el que se aceptó el fichero", example = "2024-06-14T08:00:00Z")
+        Instant submittedAt,
+
+        @Schema(description = "Contadores en el momento de la consulta, mientras la carga se ejecuta")
+        Progress progress,
+
+        @Schema(description = "Informe de la carga, cuando ha finalizado")
+        PriceImportResponseDTO report,
+
+        @Schema(description = "Motivo del fallo, cuando no ha podido completarse")
+        String error
+) {
+
+    @Schema(description = "Avance de una carga en curso")
+    public record Progress(
+            @Schema(description = "Filas de datos leídas hasta el momento", example = "250000")
+            long read,
+
+            @Schema(description = "Tarifas insertadas hasta el momento", example = "240000")
+            long inserted,
+
+            @Schema(description = "Filas rechazadas hasta el momento", example = "12")
+            long rejected
+    ) {}
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO inmutable para el informe de una carga masiva de tarifas.
+ */
+@Schema(description = "Informe de la carga masiva de tarifas con el detalle de las filas rechazadas")
+public record PriceImportResponseDTO(
+        @Schema(description = "Filas de datos leídas", example = "1000000")
+        long read,
+
+        @Schema(description = "Tarifas insertadas", example = "999998")
+        long inserted,
+
+        @Schema(description = "Total de filas rechazadas", example = "2")
+        long rejected,
+
+        @Schema(description = "Duración de la carga en milisegundos", example = "35210")
+        long elapsedMillis,
+
+        @Schema(description = "Detalle de las primeras filas rechazadas en orden de línea (prices.import.max-rejections)")
+        List<Rejection> rejections
+) {
+
+    @Schema(description = "Fila rechazada durante la carga")
+    public record Rejection(
+            @Schema(description = "Número de línea en el fichero", example = "42")
+            long line,
+
+            @Schema(description = "Contenido original de la línea", example = "1,35455,1,2020-06-14T00:00:00,2020-06-13T00:00:00,0,35.50,EUR")
+            String content,
+
+            @Schema(description = "Motivo del rechazo", example = "La fecha de inicio no puede ser posterior a la de fin")
+            String reason
+    ) {}
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO inmutable para la respuesta de la línea temporal de precios.
+ * <p>
+ * Los tramos son disjuntos, están en orden cronológico y ambos extremos son inclusivos, con la misma
+ * semántica que la vigencia de una tarifa. Los instantes del rango sin tarifa aplicable no aparecen.
+ * </p>
+ */
+@Schema(description = "Secuencia de tarifas ganadoras de un producto y cadena en un rango de fechas")
+public record PriceTimelineResponseDTO(
+        @Schema(description = "Identificador único del producto", example = "35455")
+        Long productId,
+
+        @Schema(description = "Identificador de la cadena (Brand)", example = "1")
+        Long brandId,
+
+        @Schema(description = "Tramos con la tarifa aplicable en cada instante, en orden cronológico")
+        List<Segment> segments
+) {
+
+    @Schema(description = "Intervalo durante el cual se aplica una misma tarifa")
+    public record Segment(
+            @Schema(description = "Inicio del tramo, inclusivo (ISO 8601)", example = "2020-06-14T15:00:00")
+            LocalDateTime startDate,
+
+            @Schema(description = "Fin del tramo, inclusivo (ISO 8601)", example = "2020-06-14T18:30:00")
+            LocalDateTime endDate,
+
+            @Schema(description = "Identificador de la lista de precios aplicable", example = "2")
+            Integer priceList,
+
+            @Schema(description = "Importe final del precio", example = "25.45")
+            BigDecimal price,
+
+            @Schema(description = "Moneda en formato ISO 4217", example = "EUR")
+            String currency
+    ) {}
+}
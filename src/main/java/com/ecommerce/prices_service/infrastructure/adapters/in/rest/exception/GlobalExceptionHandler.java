@@ -2,6 +2,8 @@ package com.ecommerce.prices_service.infrastructure.adapters.in.rest.exception;
 
 import com.ecommerce.prices_service.domain.exception.DomainValidationException;
 import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
+import com.ecommerce.prices_service.infrastructure.resilience.ConcurrencyLimitExceededException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -116,6 +118,39 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     // --- GRUPO 500: ERRORES DEL SERVIDOR / INFRAESTRUCTURA ---
 
+    /**
+     * El limitador de concurrencia {@code priceService} no tiene capacidad libre: la instancia está
+     * saturada. Se responde 429 con {@code Retry-After} para que el cliente reintente con espera.
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrencyLimit(ConcurrencyLimitExceededException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "El servicio ha alcanzado su límite de peticiones concurrentes. Reintente en unos instantes."
+        );
+        problem.setTitle("Demasiadas Peticiones");
+        problem.setProperty("timestamp", Instant.now());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
+
+    /**
+     * El circuit breaker está abierto: la dependencia (base de datos) se considera degradada.
+     */
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ProblemDetail> handleCircuitOpen(CallNotPermittedException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "El servicio de precios no está disponible temporalmente."
+        );
+        problem.setTitle("Servicio No Disponible");
+        problem.setProperty("timestamp", Instant.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(problem);
+    }
+
     /**
      * Captura cualquier error no controlado (Catch-all)
      */
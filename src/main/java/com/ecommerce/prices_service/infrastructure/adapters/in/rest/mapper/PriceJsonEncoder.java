@@ -0,0 +1,73 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.function.Function;
+
+/**
+ * Codificación JSON precalculada de las tarifas servidas por {@code GET /api/v1/prices}.
+ * <p>
+ * Los tramos resueltos desde la caché de tramos (o el índice en memoria) son siempre la misma instancia
+ * de {@link PriceSegment} mientras sigan vigentes, por lo que el JSON de su tarifa se genera una única vez,
+ * se guarda en el propio tramo ({@link PriceSegment#encoded}) y se reutiliza en cada petición, sin crear el
+ * {@link PriceResponseDTO} ni recorrerlo con Jackson. Los caminos que construyen la tarifa en cada petición
+ * (controlador reactivo, motores sin caché de tramos) la codifican directamente con {@link #encode(Price)}.
+ * </p>
+ * <p>
+ * Se usa el mismo {@link JsonMapper} que los conversores HTTP de Spring MVC, de modo que la salida es
+ * idéntica byte a byte a la serialización del DTO. Las etapas {@code dto_mapping} y {@code serialization}
+ * se registran en todas las peticiones; si el JSON ya estaba calculado, con el coste de recuperarlo.
+ * </p>
+ */
+@Component
+public class PriceJsonEncoder {
+
+    private final PriceRestMapper priceMapper;
+    private final ObjectWriter writer;
+    private final Function<Price, byte[]> serializer = this::serialize;
+
+    public PriceJsonEncoder(PriceRestMapper priceMapper, JsonMapper jsonMapper) {
+        this.priceMapper = priceMapper;
+        this.writer = jsonMapper.writerFor(PriceResponseDTO.class);
+    }
+
+    /**
+     * Devuelve el JSON de la tarifa del tramo, calculado la primera vez y guardado en el tramo. El array es
+     * compartido entre peticiones y no debe modificarse.
+     */
+    public byte[] encode(PriceSegment segment) {
+        if (!segment.encoding().isEncoded()) {
+            return segment.encoded(serializer);
+        }
+        long started = System.nanoTime();
+        byte[] bytes = segment.encoded(serializer);
+        PriceRequestTrace.record(Stage.DTO_MAPPING, started);
+        PriceRequestTrace.record(Stage.SERIALIZATION, started);
+        return bytes;
+    }
+
+    /**
+     * Codifica una tarifa construida para esta petición, sin guardar el resultado.
+     */
+    public byte[] encode(Price price) {
+        return serialize(price);
+    }
+
+    private byte[] serialize(Price price) {
+        long started = System.nanoTime();
+        PriceResponseDTO response = priceMapper.toResponse(price);
+        PriceRequestTrace.record(Stage.DTO_MAPPING, started);
+
+        long serializationStarted = System.nanoTime();
+        byte[] bytes = writer.writeValueAsBytes(response);
+        PriceRequestTrace.record(Stage.SERIALIZATION, serializationStarted);
+        return bytes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Serializador de tarifas en formato NDJSON (un {@link PriceResponseDTO} por línea).
+ * <p>
+ * Escribe sobre un búfer de tamaño fijo y vacía la salida cada {@value #FLUSH_EVERY} líneas, de modo que
+ * el cliente recibe datos de forma continua y la memoria del servicio no depende del tamaño del catálogo.
+ * </p>
+ */
+@Component
+public class PriceNdjsonWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 1_000;
+
+    private final PriceRestMapper priceMapper;
+    private final ObjectWriter writer;
+
+    public PriceNdjsonWriter(PriceRestMapper priceMapper, JsonMapper jsonMapper) {
+        this.priceMapper = priceMapper;
+        this.writer = jsonMapper.writerFor(PriceResponseDTO.class);
+    }
+
+    /**
+     * Abre una sesión de escritura sobre la salida indicada.
+     */
+    public Session open(OutputStream output) {
+        return new Session(new BufferedOutputStream(output, BUFFER_SIZE));
+    }
+
+    public final class Session implements Consumer<Price>, AutoCloseable {
+
+        private final OutputStream output;
+        private long lines;
+
+        private Session(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void accept(Price price) {
+            try {
+                output.write(writer.writeValueAsBytes(priceMapper.toResponse(price)));
+                output.write('\n');
+                if (++lines % FLUSH_EVERY == 0) {
+                    output.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Vacía el búfer pendiente sin cerrar la salida, cuyo ciclo de vida gestiona el contenedor.
+         */
+        @Override
+        public void close() throws IOException {
+            output.flush();
+        }
+    }
+}
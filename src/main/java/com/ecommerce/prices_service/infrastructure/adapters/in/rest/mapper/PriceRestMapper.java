@@ -1,9 +1,20 @@
 package com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper;
 
 import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceImportJob;
+import com.ecommerce.prices_service.domain.model.PriceImportReport;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchRequestDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceImportJobResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceImportResponseDTO;
 import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceTimelineResponseDTO;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -31,4 +42,80 @@ public class PriceRestMapper {
                 domain.currency().getCurrencyCode() // Convertimos Currency a String ISO
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Convierte una consulta del lote al modelo de dominio PriceQuery.
+     */
+    public PriceQuery toQuery(PriceBatchRequestDTO.Item item) {
+        return new PriceQuery(item.applicationDate(), item.productId(), item.brandId());
+    }
+
+    /**
+     * Construye la respuesta del lote conservando el orden de las consultas y marcando las no resueltas.
+     */
+    public PriceBatchResponseDTO toBatchResponse(List<PriceQuery> queries, Map<PriceQuery, Price> resolved) {
+        var results = queries.stream()
+                .map(query -> {
+                    Price price = resolved.get(query);
+                    return new PriceBatchResponseDTO.Item(
+                            query.date(),
+                            query.productId(),
+                            query.brandId(),
+                            price != null ? PriceBatchResponseDTO.Status.FOUND : PriceBatchResponseDTO.Status.NOT_FOUND,
+                            toResponse(price)
+                    );
+                })
+                .toList();
+        return new PriceBatchResponseDTO(results);
+    }
+
+    /**
+     * Convierte los tramos de la línea temporal a su DTO, expresando el fin exclusivo del tramo como
+     * fin inclusivo (un nanosegundo antes), igual que la vigencia de las tarifas.
+     */
+    public PriceTimelineResponseDTO toTimelineResponse(Long productId, Long brandId, List<PriceSegment> segments) {
+        var items = segments.stream()
+                .map(segment -> new PriceTimelineResponseDTO.Segment(
+                        segment.from(),
+                        segment.to().minusNanos(1),
+                        segment.price().priceList(),
+                        segment.price().price(),
+                        segment.price().currency().getCurrencyCode()))
+                .toList();
+        return new PriceTimelineResponseDTO(productId, brandId, items);
+    }
+
+    /**
+     * Convierte el informe de carga masiva a su DTO de respuesta.
+     */
+    public PriceImportResponseDTO toImportResponse(PriceImportReport report) {
+        var rejections = report.rejections().stream()
+                .map(r -> new PriceImportResponseDTO.Rejection(r.line(), r.content(), r.reason()))
+                .toList();
+        return new PriceImportResponseDTO(
+                report.read(),
+                report.inserted(),
+                report.rejected(),
+                report.elapsed().toMillis(),
+                rejections
+        );
+    }
+
+    /**
+     * Convierte el estado de una carga en segundo plano a su DTO de respuesta.
+     */
+    public PriceImportJobResponseDTO toImportJobResponse(PriceImportJob job) {
+        return new PriceImportJobResponseDTO(
+                job.id(),
+                job.status().name(),
+                job.submittedAt(),
+                job.progress() != null ? toImportProgressResponse(job.progress()) : null,
+                job.report() != null ? toImportResponse(job.report()) : null,
+                job.error()
+        );
+    }
+
+    private static PriceImportJobResponseDTO.Progress toImportProgressResponse(PriceImportJob.Progress progress) {
+        return new PriceImportJobResponseDTO.Progress(progress.read(), progress.inserted(), progress.rejected());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.feed;
+
+import com.ecommerce.prices_service.application.ports.in.ExportPricesUseCase;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera periódicamente el fichero de precios vigentes de todo el catálogo para los marketplaces.
+ * <p>
+ * Cada ejecución resuelve los instantes configurados (desplazamientos sobre las 00:00 del día de
+ * ejecución) con {@link ExportPricesUseCase#resolveCatalog} y escribe un CSV por instante, con las
+ * columnas de la carga masiva. Cada fichero se escribe en un temporal y se publica con un movimiento
+ * atómico, por lo que los consumidores nunca ven un fichero a medias.
+ * Se activa con {@code prices.catalog-feed.enabled=true} en una única instancia.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.catalog-feed.enabled", havingValue = "true")
+public class PriceCatalogFeedExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceCatalogFeedExporter.class);
+
+    static final String HEADER = "brand_id,product_id,price_list,start_date,end_date,priority,price,currency";
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    // LocalDateTime.toString() omite los segundos a cero (2024-06-01T00:00); el feed usa siempre el mismo ancho
+    private static final DateTimeFormatter CSV_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ExportPricesUseCase exportPricesUseCase;
+    private final Path directory;
+    private final List<Duration> offsets;
+
+    public PriceCatalogFeedExporter(
+            ExportPricesUseCase exportPricesUseCase,
+            @Value("${prices.catalog-feed.directory}") Path directory,
+            @Value("${prices.catalog-feed.offsets:P1D}") List<Duration> offsets) {
+        this.exportPricesUseCase = exportPricesUseCase;
+        this.directory = directory;
+        this.offsets = List.copyOf(offsets);
+    }
+
+    @Scheduled(cron = "${prices.catalog-feed.cron:0 0 2 * * *}")
+    public void scheduledExport() {
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            log.error("No se pudo generar el fichero de precios del catálogo en {}", directory, e);
+        }
+    }
+
+    /**
+     * Resuelve los instantes configurados para el día en curso y publica sus ficheros.
+     *
+     * @return Ficheros publicados, uno por instante.
+     */
+    public List<Path> export() throws IOException {
+        LocalDateTime midnight = LocalDate.now().atStartOfDay();
+        return export(offsets.stream().map(midnight::plus).toList());
+    }
+
+    /**
+     * Resuelve los instantes indicados y publica un fichero {@code prices-<instante>.csv} por cada uno.
+     */
+    public List<Path> export(List<LocalDateTime> instants) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        List<Path> published = new ArrayList<>(instants.size());
+        for (PriceCatalogSnapshot snapshot : exportPricesUseCase.resolveCatalog(instants)) {
+            published.add(write(snapshot));
+        }
+        log.info("Fichero de precios del catálogo generado en {}: {} instantes en {} ms",
+                directory, published.size(), (System.nanoTime() - start) / 1_000_000);
+        return published;
+    }
+
+    private Path write(PriceCatalogSnapshot snapshot) throws IOException {
+        Path target = directory.resolve("prices-" + FILE_SUFFIX.format(snapshot.instant()) + ".csv");
+        Path temp = Files.createTempFile(directory, ".prices-", ".csv.tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Price price : snapshot.prices()) {
+                    writer.write(toCsv(price));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String toCsv(Price price) {
+        return price.brandId() + "," + price.productId() + "," + price.priceList() + ","
+                + CSV_DATE.format(price.startDate()) + "," + CSV_DATE.format(price.endDate()) + ","
+                + price.priority() + ","
+                + price.price().toPlainString() + "," + price.currency().getCurrencyCode();
+    }
+}
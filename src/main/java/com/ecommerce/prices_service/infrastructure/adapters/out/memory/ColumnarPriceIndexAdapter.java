@@ -0,0 +1,150 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.memory;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptador de salida que resuelve los precios contra un {@link PriceColumnStore} en memoria.
+ * <p>
+ * A diferencia de {@link InMemoryPriceIndexAdapter}, las tarifas no se conservan como {@link Price}
+ * sino en columnas de tipos primitivos, lo que permite mantener en el heap decenas de millones de
+ * tarifas. El almacén es inmutable: se reconstruye periódicamente y, entre recargas, las series
+ * notificadas por {@link PricesChangedEvent} se releen de base de datos y se resuelven desde un
+ * mapa de sustitución que tiene precedencia sobre el almacén. Las series con alguna tarifa no
+ * representable en columnas (por ejemplo, {@code brandId} de más de 16 bits) se leen de base de datos
+ * en cada recarga y se sirven también desde ese mapa.
+ * Se activa con {@code prices.repository.engine=columnar}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "columnar")
+public class ColumnarPriceIndexAdapter implements PriceRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarPriceIndexAdapter.class);
+
+    // Mismo orden de selección que findTopPrice
+    private static final Comparator<Price> WINNER = Comparator
+            .comparing(Price::priority)
+            .thenComparing(Price::id);
+
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile State state = new State(PriceColumnStore.builder().build(), new ConcurrentHashMap<>());
+    // Claves modificadas mientras se reconstruye el almacén
+    private volatile Set<PriceKey> pendingChanges;
+
+    public ColumnarPriceIndexAdapter(PriceJdbcRepository priceJdbcRepository, TransactionTemplate transactionTemplate) {
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Reconstruye el almacén completo y lo sustituye de forma atómica.
+     * <p>
+     * La tabla se recorre con un cursor dentro de una transacción de solo lectura, sin acumular las
+     * filas. Las series notificadas durante la reconstrucción se releen al terminar, ya que la lectura
+     * de la tabla puede no incluir su último cambio.
+     * </p>
+     */
+    @PostConstruct
+    @Scheduled(
+            fixedDelayString = "${prices.repository.columnar.refresh-interval:PT5M}",
+            initialDelayString = "${prices.repository.columnar.refresh-interval:PT5M}")
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        Set<PriceKey> changedDuringRefresh = ConcurrentHashMap.newKeySet();
+        pendingChanges = changedDuringRefresh;
+        try {
+            PriceColumnStore.Builder builder = PriceColumnStore.builder();
+            Set<PriceKey> unrepresentable = new HashSet<>();
+            readOnlyTransaction.executeWithoutResult(status -> priceJdbcRepository.forEachPriceInKeyOrder(price -> {
+                if (PriceColumnStore.accepts(price)) {
+                    builder.add(price);
+                } else {
+                    unrepresentable.add(new PriceKey(price.brandId(), price.productId()));
+                }
+            }));
+            PriceColumnStore store = builder.build();
+
+            Map<PriceKey, List<Price>> overrides = new ConcurrentHashMap<>();
+            unrepresentable.forEach(key -> overrides.put(key, priceJdbcRepository.findByKey(key)));
+            this.state = new State(store, overrides);
+            changedDuringRefresh.forEach(key -> overrides.put(key, priceJdbcRepository.findByKey(key)));
+
+            if (!unrepresentable.isEmpty()) {
+                log.warn("{} series de precios no representables en columnas se resuelven desde el mapa de sustitución",
+                        unrepresentable.size());
+            }
+            log.info("Almacén columnar de precios recargado: {} tarifas en {} ms",
+                    store.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            pendingChanges = null;
+        }
+    }
+
+    /**
+     * Relee únicamente las series modificadas y las publica en el mapa de sustitución.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        Set<PriceKey> pending = pendingChanges;
+        if (pending != null) {
+            pending.addAll(event.keys());
+        }
+        Map<PriceKey, List<Price>> overrides = state.overrides();
+        for (PriceKey key : event.keys()) {
+            overrides.put(key, priceJdbcRepository.findByKey(key));
+        }
+    }
+
+    @Override
+    public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        State current = state;
+        List<Price> override = current.overrides().get(new PriceKey(brandId, productId));
+        Optional<Price> price = override != null
+                ? override.stream().filter(candidate -> candidate.isApplicableAt(date)).max(WINNER)
+                : current.store().findPriceByPriority(date, productId, brandId);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        List<Price> override = current.overrides().get(new PriceKey(brandId, productId));
+        if (override != null) {
+            return override.stream()
+                    .filter(price -> !price.startDate().isAfter(to) && !price.endDate().isBefore(from))
+                    .toList();
+        }
+        return current.store().findPricesBetween(productId, brandId, from, to);
+    }
+
+    private record State(PriceColumnStore store, Map<PriceKey, List<Price>> overrides) {
+    }
+}
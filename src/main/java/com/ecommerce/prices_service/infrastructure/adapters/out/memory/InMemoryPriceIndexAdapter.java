@@ -0,0 +1,174 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.memory;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository.PriceChange;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptador de salida que resuelve los precios contra un índice de intervalos en memoria.
+ * <p>
+ * La tabla {@code prices} se carga una única vez y se aplana, por cada {@link PriceKey}, en una
+ * {@link PriceTimeline} de tramos disjuntos. Cada consulta es una búsqueda en un mapa seguida de una
+ * búsqueda binaria (O(log n)), sin pasar por el pool de conexiones ni por Hibernate.
+ * </p>
+ * <p>
+ * El índice se reconstruye periódicamente en segundo plano y se publica con un único reemplazo de
+ * referencia, por lo que las lecturas concurrentes ven siempre una versión completa y coherente.
+ * Entre recargas, los {@link PricesChangedEvent} actualizan únicamente las series afectadas; los que llegan
+ * durante una recarga se vuelven a aplicar sobre el índice nuevo.
+ * Se activa con {@code prices.repository.engine=memory} (perfil {@code memory}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "memory")
+public class InMemoryPriceIndexAdapter implements PriceRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPriceIndexAdapter.class);
+
+    private static final int REPLAY_BATCH_SIZE = 1000;
+
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final PriceChangeJdbcRepository priceChangeRepository;
+
+    private volatile Map<PriceKey, PriceTimeline> index = new ConcurrentHashMap<>();
+    // Claves notificadas mientras se recarga la tabla
+    private volatile Set<PriceKey> pendingChanges;
+
+    public InMemoryPriceIndexAdapter(PriceJdbcRepository priceJdbcRepository,
+                                     PriceChangeJdbcRepository priceChangeRepository) {
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.priceChangeRepository = priceChangeRepository;
+    }
+
+    /**
+     * Recarga la tabla completa y sustituye el índice de forma atómica.
+     * <p>
+     * Los eventos recibidos durante la recarga se aplican sobre el índice anterior, que se descarta. Por eso,
+     * tras publicar el nuevo se releen las series notificadas durante la recarga y las registradas en el
+     * changelog desde la posición anotada antes de empezar (aún no publicadas por el sondeo).
+     * </p>
+     */
+    @PostConstruct
+    @Scheduled(
+            fixedDelayString = "${prices.repository.memory.refresh-interval:PT5M}",
+            initialDelayString = "${prices.repository.memory.refresh-interval:PT5M}")
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        Set<PriceKey> changedDuringRefresh = ConcurrentHashMap.newKeySet();
+        pendingChanges = changedDuringRefresh;
+        try {
+            long position = priceChangeRepository.findLatestVersion();
+
+            Map<PriceKey, List<Price>> grouped = new HashMap<>();
+            priceJdbcRepository.forEachPrice(price ->
+                    grouped.computeIfAbsent(PriceKey.of(price), key -> new ArrayList<>()).add(price));
+
+            Map<PriceKey, PriceTimeline> rebuilt = new ConcurrentHashMap<>(grouped.size());
+            grouped.forEach((key, prices) -> rebuilt.put(key, PriceTimeline.of(prices)));
+
+            this.index = rebuilt;
+
+            Set<PriceKey> replay = new HashSet<>(changedDuringRefresh);
+            replay.addAll(keysChangedAfter(position));
+            replay.forEach(key -> reload(rebuilt, key));
+
+            log.info("Índice de precios en memoria recargado: {} claves ({} releídas) en {} ms",
+                    rebuilt.size(), replay.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            pendingChanges = null;
+        }
+    }
+
+    /**
+     * Recarga únicamente las series modificadas; cada clave se sustituye de forma atómica.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        Set<PriceKey> pending = pendingChanges;
+        if (pending != null) {
+            pending.addAll(event.keys());
+        }
+        Map<PriceKey, PriceTimeline> current = index;
+        event.keys().forEach(key -> reload(current, key));
+    }
+
+    private void reload(Map<PriceKey, PriceTimeline> target, PriceKey key) {
+        PriceTimeline timeline = PriceTimeline.of(priceJdbcRepository.findByKey(key));
+        if (timeline.isEmpty()) {
+            target.remove(key);
+        } else {
+            target.put(key, timeline);
+        }
+    }
+
+    private Set<PriceKey> keysChangedAfter(long position) {
+        Set<PriceKey> keys = new HashSet<>();
+        List<PriceChange> changes;
+        do {
+            changes = priceChangeRepository.findChangesAfter(position, REPLAY_BATCH_SIZE);
+            for (PriceChange change : changes) {
+                keys.add(change.key());
+                position = change.version();
+            }
+        } while (changes.size() == REPLAY_BATCH_SIZE);
+        return keys;
+    }
+
+    @Override
+    public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        return findSegmentByPriority(date, productId, brandId).map(PriceSegment::price);
+    }
+
+    @Override
+    public Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        Optional<PriceSegment> segment = timelineOf(productId, brandId).segmentAt(date);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return segment;
+    }
+
+    /**
+     * El índice solo conserva las tarifas ganadoras; son suficientes para reconstruir la misma línea
+     * temporal dentro del rango, ya que cualquier tarifa que nunca gana no altera el resultado.
+     */
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        long started = System.nanoTime();
+        List<Price> prices = timelineOf(productId, brandId).segments().stream()
+                .filter(segment -> !segment.from().isAfter(to) && segment.to().isAfter(from))
+                .map(PriceSegment::price)
+                .distinct()
+                .toList();
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return prices;
+    }
+
+    private PriceTimeline timelineOf(Long productId, Long brandId) {
+        return index.getOrDefault(new PriceKey(brandId, productId), PriceTimeline.empty());
+    }
+}
@@ -0,0 +1,270 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.memory;
+
+import com.ecommerce.prices_service.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Almacén inmutable de tarifas en columnas de tipos primitivos.
+ * <p>
+ * Cada tarifa ocupa una posición en arrays paralelos (clave, fechas en epoch-second UTC, importe en
+ * unidades mínimas, prioridad, identificador, tarifa y moneda), unos 50 bytes por fila frente a los
+ * más de 200 de un {@link Price} con sus objetos asociados. Las filas están ordenadas por clave,
+ * prioridad descendente e identificador descendente: una búsqueda binaria localiza la clave y la
+ * primera fila vigente es la ganadora. Solo se materializa el {@link Price} devuelto.
+ * </p>
+ * <p>
+ * La clave empaqueta {@code productId} (47 bits altos) y {@code brandId} (16 bits bajos) en un
+ * {@code long} positivo, de modo que su orden coincide con el de
+ * {@code PriceJdbcRepository.forEachPriceInKeyOrder}. La moneda es un índice a la tabla de pares
+ * (moneda, escala del importe) del almacén.
+ * </p>
+ * <p>
+ * Las tarifas que no caben en las columnas ({@link #accepts(Price)}: clave fuera del empaquetado, prioridad
+ * fuera del rango de {@code short}, fechas con fracciones de segundo o importe de más de 63 bits) no se
+ * almacenan; quien construye el almacén debe resolver sus claves por otra vía.
+ * </p>
+ */
+public final class PriceColumnStore {
+
+    static final int BRAND_BITS = 16;
+    static final int PRODUCT_BITS = 47;
+
+    private final long[] keys;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] amounts;
+    private final short[] priorities;
+    private final int[] currencies;
+    private final long[] ids;
+    private final int[] priceLists;
+    private final int size;
+    private final Denomination[] denominations;
+
+    private PriceColumnStore(Builder builder) {
+        this.size = builder.size;
+        this.keys = Arrays.copyOf(builder.keys, size);
+        this.starts = Arrays.copyOf(builder.starts, size);
+        this.ends = Arrays.copyOf(builder.ends, size);
+        this.amounts = Arrays.copyOf(builder.amounts, size);
+        this.priorities = Arrays.copyOf(builder.priorities, size);
+        this.currencies = Arrays.copyOf(builder.currencies, size);
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.priceLists = Arrays.copyOf(builder.priceLists, size);
+        // El orden de inserción del mapa coincide con los índices asignados
+        this.denominations = builder.denominations.keySet().toArray(Denomination[]::new);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Empaqueta la clave natural en un {@code long} ordenable.
+     *
+     * @throws IllegalArgumentException Si los identificadores no caben en el empaquetado.
+     */
+    static long packKey(long brandId, long productId) {
+        if (brandId < 0 || brandId >= 1L << BRAND_BITS || productId < 0 || productId >= 1L << PRODUCT_BITS) {
+            throw new IllegalArgumentException(
+                    "Clave fuera de rango para el almacén columnar: brandId=%d, productId=%d".formatted(brandId, productId));
+        }
+        return productId << BRAND_BITS | brandId;
+    }
+
+    /**
+     * Indica si la tarifa es representable en columnas; {@link Builder#add(Price)} rechaza las que no lo son.
+     */
+    public static boolean accepts(Price price) {
+        return packable(price.brandId(), price.productId())
+                && price.priority() >= Short.MIN_VALUE && price.priority() <= Short.MAX_VALUE
+                && price.startDate().getNano() == 0 && price.endDate().getNano() == 0
+                && price.price().unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Número de tarifas almacenadas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Equivalente a {@code findTopPrice}: la tarifa vigente de mayor prioridad y, a igualdad, mayor id.
+     */
+    public Optional<Price> findPriceByPriority(LocalDateTime date, long productId, long brandId) {
+        if (!packable(brandId, productId)) {
+            return Optional.empty();
+        }
+        long key = packKey(brandId, productId);
+        long second = toEpochSecond(date);
+        int nano = date.getNano();
+        for (int i = firstOf(key); i < size && keys[i] == key; i++) {
+            if (starts[i] <= second && endsAtOrAfter(i, second, nano)) {
+                return Optional.of(priceAt(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tarifas de la clave cuya vigencia se solapa con el rango indicado (ambos inclusivos).
+     */
+    public List<Price> findPricesBetween(long productId, long brandId, LocalDateTime from, LocalDateTime to) {
+        if (!packable(brandId, productId)) {
+            return List.of();
+        }
+        long key = packKey(brandId, productId);
+        long toSecond = toEpochSecond(to);
+        long fromSecond = toEpochSecond(from);
+        int fromNano = from.getNano();
+        List<Price> prices = new ArrayList<>();
+        for (int i = firstOf(key); i < size && keys[i] == key; i++) {
+            if (starts[i] <= toSecond && endsAtOrAfter(i, fromSecond, fromNano)) {
+                prices.add(priceAt(i));
+            }
+        }
+        return prices;
+    }
+
+    private int firstOf(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * La fecha de fin es inclusiva y sin fracción: un instante del mismo segundo solo está dentro si es exacto.
+     */
+    private boolean endsAtOrAfter(int i, long second, int nano) {
+        return ends[i] > second || (ends[i] == second && nano == 0);
+    }
+
+    private Price priceAt(int i) {
+        Denomination denomination = denominations[currencies[i]];
+        return new Price(
+                ids[i],
+                keys[i] & ((1L << BRAND_BITS) - 1),
+                keys[i] >>> BRAND_BITS,
+                priceLists[i],
+                LocalDateTime.ofEpochSecond(starts[i], 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(ends[i], 0, ZoneOffset.UTC),
+                BigDecimal.valueOf(amounts[i], denomination.scale()),
+                denomination.currency(),
+                (int) priorities[i]);
+    }
+
+    private static boolean packable(long brandId, long productId) {
+        return brandId >= 0 && brandId < 1L << BRAND_BITS && productId >= 0 && productId < 1L << PRODUCT_BITS;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Moneda y escala del importe en unidades mínimas; se internan por almacén.
+     */
+    private record Denomination(Currency currency, int scale) {
+    }
+
+    /**
+     * Construye el almacén a partir de tarifas que llegan ya ordenadas (producto, cadena, prioridad
+     * descendente, identificador descendente), sin materializar nunca la lista completa de {@link Price}.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] ends = new long[INITIAL_CAPACITY];
+        private long[] amounts = new long[INITIAL_CAPACITY];
+        private short[] priorities = new short[INITIAL_CAPACITY];
+        private int[] currencies = new int[INITIAL_CAPACITY];
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] priceLists = new int[INITIAL_CAPACITY];
+        private int size;
+        private final Map<Denomination, Integer> denominations = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Añade la siguiente tarifa.
+         *
+         * @throws IllegalStateException    Si la tarifa no respeta el orden del almacén.
+         * @throws IllegalArgumentException Si la tarifa no es representable en columnas ({@link #accepts(Price)}).
+         */
+        public Builder add(Price price) {
+            if (price.startDate().getNano() != 0 || price.endDate().getNano() != 0) {
+                throw new IllegalArgumentException("La tarifa %d tiene fechas con fracciones de segundo".formatted(price.id()));
+            }
+            if (price.priority() < Short.MIN_VALUE || price.priority() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("La tarifa %d tiene una prioridad fuera de rango".formatted(price.id()));
+            }
+            long key = packKey(price.brandId(), price.productId());
+            if (size > 0 && outOfOrder(key, price.priority(), price.id())) {
+                throw new IllegalStateException("Tarifa %d fuera de orden tras la tarifa %d".formatted(price.id(), ids[size - 1]));
+            }
+            if (size == keys.length) {
+                grow();
+            }
+            Denomination denomination = new Denomination(price.currency(), price.price().scale());
+            keys[size] = key;
+            starts[size] = toEpochSecond(price.startDate());
+            ends[size] = toEpochSecond(price.endDate());
+            amounts[size] = price.price().unscaledValue().longValueExact();
+            priorities[size] = price.priority().shortValue();
+            currencies[size] = denominations.computeIfAbsent(denomination, d -> denominations.size());
+            ids[size] = price.id();
+            priceLists[size] = price.priceList();
+            size++;
+            return this;
+        }
+
+        public PriceColumnStore build() {
+            return new PriceColumnStore(this);
+        }
+
+        private boolean outOfOrder(long key, int priority, long id) {
+            int last = size - 1;
+            if (key != keys[last]) {
+                return key < keys[last];
+            }
+            if (priority != priorities[last]) {
+                return priority > priorities[last];
+            }
+            return id >= ids[last];
+        }
+
+        private void grow() {
+            int capacity = Math.toIntExact(Math.min((long) keys.length * 3 / 2, Integer.MAX_VALUE - 8));
+            keys = Arrays.copyOf(keys, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.application.ports.out.PriceBulkWriterPort;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import org.postgresql.PGConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de escritura masiva sobre la tabla {@code prices}.
+ * <p>
+ * Evita el {@code save} fila a fila de JPA, que con {@code GenerationType.IDENTITY} no puede agrupar
+ * inserciones. En PostgreSQL cada bloque se envía con {@code COPY ... FROM STDIN}; en el resto de motores
+ * (H2 en local y tests) se usa un {@code batchUpdate} JDBC. Cada bloque es una transacción independiente
+ * y, tras confirmarse, se publica un {@link PricesChangedEvent} con las series afectadas.
+ * </p>
+ */
+@Component
+public class PriceBulkWriterAdapter implements PriceBulkWriterPort {
+
+    private static final String COLUMNS = "brand_id, product_id, price_list, start_date, end_date, priority, price, currency";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PriceBulkWriterAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void insertAll(List<Price> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((Connection con) -> {
+            if (con.isWrapperFor(PGConnection.class)) {
+                copy(con.unwrap(PGConnection.class), prices);
+            } else {
+                batchInsert(prices);
+            }
+            return null;
+        }));
+
+        Set<PriceKey> keys = prices.stream().map(PriceKey::of).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new PricesChangedEvent(keys));
+    }
+
+    private void copy(PGConnection connection, List<Price> prices) throws SQLException {
+        StringBuilder csv = new StringBuilder(prices.size() * 80);
+        for (Price price : prices) {
+            csv.append(price.brandId()).append(',')
+                    .append(price.productId()).append(',')
+                    .append(price.priceList()).append(',')
+                    .append(Timestamp.valueOf(price.startDate())).append(',')
+                    .append(Timestamp.valueOf(price.endDate())).append(',')
+                    .append(price.priority()).append(',')
+                    .append(price.price().toPlainString()).append(',')
+                    .append(price.currency().getCurrencyCode()).append('\n');
+        }
+        try {
+            connection.getCopyAPI().copyIn(
+                    "COPY prices (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)", new StringReader(csv.toString()));
+        } catch (IOException ex) {
+            throw new SQLException("Error en COPY de tarifas", ex);
+        }
+    }
+
+    private void batchInsert(List<Price> prices) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO prices (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                prices, prices.size(), (ps, price) -> {
+                    ps.setLong(1, price.brandId());
+                    ps.setLong(2, price.productId());
+                    ps.setInt(3, price.priceList());
+                    ps.setTimestamp(4, Timestamp.valueOf(price.startDate()));
+                    ps.setTimestamp(5, Timestamp.valueOf(price.endDate()));
+                    ps.setInt(6, price.priority());
+                    ps.setBigDecimal(7, price.price());
+                    ps.setString(8, price.currency().getCurrencyCode());
+                });
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador de persistencia para la exportación masiva de tarifas.
+ * <p>
+ * Lee las filas con un cursor JDBC de solo avance y {@code fetchSize} acotado. La transacción de solo
+ * lectura es imprescindible en PostgreSQL: sin ella el driver ignora el {@code fetchSize} y descarga
+ * el resultado completo antes de devolver la primera fila.
+ * </p>
+ */
+@Component
+public class PriceExportPersistenceAdapter implements PriceExportPort {
+
+    private final PriceJdbcRepository priceJdbcRepository;
+
+    public PriceExportPersistenceAdapter(PriceJdbcRepository priceJdbcRepository) {
+        this.priceJdbcRepository = priceJdbcRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachWinningPrice(Long brandId, LocalDateTime date, Consumer<Price> consumer) {
+        return priceJdbcRepository.forEachWinningPrice(brandId, date, consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Price> findPricesOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = new ArrayList<>();
+        priceJdbcRepository.forEachPriceOverlapping(from, to, prices::add);
+        return prices;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia sin JPA: resuelve las consultas con JDBC y construye el {@link Price}
+ * directamente desde el {@code ResultSet}.
+ * <p>
+ * Frente a {@link PricePersistenceAdapter} evita la hidratación de {@code PriceEntity}, su registro
+ * en el contexto de persistencia y la copia posterior con MapStruct: por consulta solo se asigna
+ * el record de dominio. Se activa con {@code prices.repository.engine=jdbc}.
+ * </p>
+ * <p>
+ * Como {@link PricePersistenceAdapter}, con {@code prices.repository.jpa.validity-range=true} localiza las tarifas
+ * por el rango {@code validity} en todas sus consultas puntuales y en bloque.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "jdbc")
+public class PriceJdbcPersistenceAdapter implements PriceRepositoryPort {
+
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final boolean validityRange;
+
+    /**
+     * @param priceJdbcRepository Repositorio JDBC de la tabla {@code prices}.
+     * @param validityRange       Resolver la tarifa con el rango {@code validity} e índice GiST (solo PostgreSQL).
+     */
+    public PriceJdbcPersistenceAdapter(PriceJdbcRepository priceJdbcRepository,
+                                       @Value("${prices.repository.jpa.validity-range:false}") boolean validityRange) {
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.validityRange = validityRange;
+    }
+
+    @Override
+    public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        Optional<Price> price = priceJdbcRepository.findTopPrice(date, productId, brandId, validityRange);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        long started = System.nanoTime();
+        List<Price> prices = priceJdbcRepository.findOverlapping(productId, brandId, from, to);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return prices;
+    }
+
+    /**
+     * Ganadora y tarifas solapadas con su vigencia en una única consulta.
+     */
+    @Override
+    public Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        List<Price> prices = priceJdbcRepository.findSegmentPrices(date, productId, brandId, validityRange);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return PriceTimeline.of(prices).segmentAt(date);
+    }
+
+    @Override
+    public Map<PriceQuery, Price> findPricesByPriority(Collection<PriceQuery> queries) {
+        return priceJdbcRepository.findTopPrices(queries, validityRange);
+    }
+}
@@ -2,11 +2,23 @@ package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
 
 import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
 import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.entity.PriceEntity;
 import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
 import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,22 +28,34 @@ import java.util.Optional;
  * Se encarga de delegar la lógica de consulta al repositorio JPA y de transformar las entidades
  * de base de datos en objetos de dominio inmutables mediante el uso de mappers.
  * </p>
+ * <p>
+ * Es el motor por defecto ({@code prices.repository.engine=jpa}).
+ * </p>
  */
 @Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "jpa", matchIfMissing = true)
 public class PricePersistenceAdapter implements PriceRepositoryPort {
 
     private final PriceJpaRepository priceJpaRepository;
     private final PriceEntityMapper priceEntityMapper;
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final boolean validityRange;
 
     /**
      * Constructor para la inyección de dependencias del repositorio JPA y el mapper de entidades.
      *
-     * @param priceJpaRepository Repositorio Spring Data JPA para el acceso a datos.
-     * @param priceEntityMapper  Mapper para la conversión entre PriceEntity y el modelo de dominio Price.
+     * @param priceJpaRepository  Repositorio Spring Data JPA para el acceso a datos.
+     * @param priceEntityMapper   Mapper para la conversión entre PriceEntity y el modelo de dominio Price.
+     * @param priceJdbcRepository Repositorio JDBC para las consultas en bloque.
+     * @param validityRange       Resolver la tarifa con el rango {@code validity} e índice GiST (solo PostgreSQL).
      */
-    public PricePersistenceAdapter(PriceJpaRepository priceJpaRepository, PriceEntityMapper priceEntityMapper) {
+    public PricePersistenceAdapter(PriceJpaRepository priceJpaRepository, PriceEntityMapper priceEntityMapper,
+                                   PriceJdbcRepository priceJdbcRepository,
+                                   @Value("${prices.repository.jpa.validity-range:false}") boolean validityRange) {
         this.priceJpaRepository = priceJpaRepository;
         this.priceEntityMapper = priceEntityMapper;
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.validityRange = validityRange;
     }
 
     /**
@@ -39,7 +63,8 @@ public class PricePersistenceAdapter implements PriceRepositoryPort {
      * <p>
      * La consulta se realiza de forma optimizada en el motor de base de datos, filtrando por
      * producto, cadena y rango de fechas, devolviendo únicamente el registro de mayor prioridad
-     * mapeado al dominio.
+     * mapeado al dominio. En PostgreSQL, con {@code prices.repository.jpa.validity-range=true}, la vigencia
+     * se comprueba por contención sobre el índice GiST en lugar del rango de fechas del B-tree.
      * </p>
      *
      * @param date        Fecha de aplicación de la tarifa.
@@ -49,7 +74,51 @@ public class PricePersistenceAdapter implements PriceRepositoryPort {
      */
     @Override
     public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
-        return priceJpaRepository.findTopPrice(date, productId, brandId)
-                .map(priceEntityMapper::toDomain);
+        long started = System.nanoTime();
+        Optional<PriceEntity> entity = validityRange
+                ? priceJpaRepository.findTopPriceByValidityRange(date, productId, brandId)
+                : priceJpaRepository.findTopPrice(date, productId, brandId);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+
+        long mappingStarted = System.nanoTime();
+        Optional<Price> price = entity.map(priceEntityMapper::toDomain);
+        PriceRequestTrace.record(Stage.ENTITY_MAPPING, mappingStarted);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        long started = System.nanoTime();
+        List<PriceEntity> entities = priceJpaRepository.findOverlapping(productId, brandId, from, to);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+
+        long mappingStarted = System.nanoTime();
+        List<Price> prices = entities.stream()
+                .map(priceEntityMapper::toDomain)
+                .toList();
+        PriceRequestTrace.record(Stage.ENTITY_MAPPING, mappingStarted);
+        return prices;
+    }
+
+    /**
+     * Resuelve el tramo con una única consulta (ganadora y tarifas solapadas con su vigencia) en lugar de
+     * las dos de la implementación por defecto. Respeta {@code validity-range} igual que
+     * {@link #findPriceByPriority}.
+     */
+    @Override
+    public Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        List<Price> prices = priceJdbcRepository.findSegmentPrices(date, productId, brandId, validityRange);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return PriceTimeline.of(prices).segmentAt(date);
+    }
+
+    /**
+     * Resuelve todas las consultas en un único acceso a base de datos en lugar de N consultas. Respeta
+     * {@code validity-range} igual que {@link #findPriceByPriority}.
+     */
+    @Override
+    public Map<PriceQuery, Price> findPricesByPriority(Collection<PriceQuery> queries) {
+        return priceJdbcRepository.findTopPrices(queries, validityRange);
     }
 }
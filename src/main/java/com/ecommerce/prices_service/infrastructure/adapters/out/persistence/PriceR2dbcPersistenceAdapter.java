@@ -0,0 +1,64 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.application.ports.out.ReactivePriceRepositoryPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Adaptador de persistencia no bloqueante sobre R2DBC.
+ * <p>
+ * Ejecuta la misma consulta que {@code PriceJdbcRepository.findTopPrice}
+ * ({@link PriceJdbcRepository#topPriceSql}), incluida la localización por el rango {@code validity} con
+ * {@code prices.repository.jpa.validity-range=true}, y construye el {@link Price} directamente desde la fila. Ningún hilo queda esperando a la base de datos: la respuesta del driver
+ * completa el {@link Mono}, y el número de consultas en vuelo lo acota el pool de conexiones R2DBC
+ * ({@code prices.reactive.r2dbc.pool}). Se activa con {@code prices.reactive.enabled=true}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.reactive.enabled", havingValue = "true")
+public class PriceR2dbcPersistenceAdapter implements ReactivePriceRepositoryPort {
+
+    private final DatabaseClient databaseClient;
+    // SQL constante: el driver reutiliza la sentencia preparada de la conexión
+    private final String topPriceSql;
+
+    public PriceR2dbcPersistenceAdapter(
+            DatabaseClient databaseClient,
+            @Value("${prices.repository.jpa.validity-range:false}") boolean validityRange) {
+        this.databaseClient = databaseClient;
+        this.topPriceSql = PriceJdbcRepository.topPriceSql(validityRange, ":productId", ":brandId", ":date");
+    }
+
+    @Override
+    public Mono<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        return databaseClient.sql(topPriceSql)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .bind("date", date)
+                .map(PriceR2dbcPersistenceAdapter::toPrice)
+                .first();
+    }
+
+    private static Price toPrice(Readable row) {
+        return new Price(
+                row.get("id", Long.class),
+                row.get("brand_id", Long.class),
+                row.get("product_id", Long.class),
+                row.get("price_list", Integer.class),
+                row.get("start_date", LocalDateTime.class),
+                row.get("end_date", LocalDateTime.class),
+                row.get("price", BigDecimal.class),
+                Currency.getInstance(row.get("currency", String.class)),
+                row.get("priority", Integer.class));
+    }
+}
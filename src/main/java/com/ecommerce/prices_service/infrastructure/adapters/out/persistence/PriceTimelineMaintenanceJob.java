@@ -0,0 +1,91 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceTimelineJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Tarea de mantenimiento de la tabla {@code price_timeline}.
+ * <p>
+ * La reconstrucción es siempre incremental: solo se recalculan las {@link PriceKey} notificadas
+ * mediante {@link PricesChangedEvent} o las que aún no tienen tramos (altas de nuevas series),
+ * nunca la tabla completa.
+ * </p>
+ * <p>
+ * Las series nuevas llegan por el changelog como cualquier otro cambio, así que la búsqueda de series sin
+ * tramos es una única pasada al arrancar (primer despliegue del motor o eventos perdidos mientras la
+ * instancia estaba parada). Recorre la tabla con un cursor por clave en páginas de
+ * {@code backfill-batch-size}; si falla, se reanuda desde el cursor en la siguiente ejecución programada.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "timeline")
+public class PriceTimelineMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceTimelineMaintenanceJob.class);
+
+    private final PriceTimelineJdbcRepository priceTimelineRepository;
+    private final int backfillBatchSize;
+    private PriceKey backfillCursor;
+    private volatile boolean backfillCompleted;
+
+    public PriceTimelineMaintenanceJob(
+            PriceTimelineJdbcRepository priceTimelineRepository,
+            @Value("${prices.repository.timeline.backfill-batch-size:1000}") int backfillBatchSize) {
+        this.priceTimelineRepository = priceTimelineRepository;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * Reconstruye las series afectadas por un cambio en la tabla de tarifas.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        rebuild(event.keys());
+    }
+
+    /**
+     * Calcula los tramos de las series que todavía no tienen línea temporal; tras una pasada completa no
+     * vuelve a recorrer la tabla.
+     */
+    @Scheduled(
+            initialDelayString = "0s",
+            fixedDelayString = "${prices.repository.timeline.backfill-interval:PT1M}")
+    public synchronized void backfill() {
+        if (backfillCompleted) {
+            return;
+        }
+        PriceTimelineJdbcRepository.BackfillPage page;
+        do {
+            page = priceTimelineRepository.findKeysWithoutTimeline(backfillCursor, backfillBatchSize);
+            rebuild(page.withoutTimeline());
+            if (page.last() != null) {
+                backfillCursor = page.last();
+            }
+        } while (page.scanned() == backfillBatchSize);
+        backfillCompleted = true;
+        log.info("Relleno de la línea temporal completado");
+    }
+
+    public void rebuild(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int segments = 0;
+        for (PriceKey key : keys) {
+            segments += priceTimelineRepository.rebuild(key);
+        }
+        log.info("Línea temporal reconstruida: {} series, {} tramos en {} ms",
+                keys.size(), segments, (System.nanoTime() - start) / 1_000_000);
+    }
+}
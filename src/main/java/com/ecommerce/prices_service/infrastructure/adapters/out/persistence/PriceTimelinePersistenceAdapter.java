@@ -0,0 +1,80 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.entity.PriceEntity;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceTimelineJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia que resuelve las tarifas sobre la tabla precalculada {@code price_timeline}.
+ * <p>
+ * A diferencia de {@link PricePersistenceAdapter}, la consulta no recorre todas las tarifas solapadas
+ * ni las ordena por prioridad: la ganadora ya está resuelta en el tramo. La tabla se mantiene de forma
+ * incremental mediante {@link PriceTimelineMaintenanceJob}.
+ * Se activa con {@code prices.repository.engine=timeline}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "timeline")
+public class PriceTimelinePersistenceAdapter implements PriceRepositoryPort {
+
+    private final PriceJpaRepository priceJpaRepository;
+    private final PriceEntityMapper priceEntityMapper;
+    private final PriceTimelineJdbcRepository priceTimelineRepository;
+
+    public PriceTimelinePersistenceAdapter(PriceJpaRepository priceJpaRepository, PriceEntityMapper priceEntityMapper,
+                                           PriceTimelineJdbcRepository priceTimelineRepository) {
+        this.priceJpaRepository = priceJpaRepository;
+        this.priceEntityMapper = priceEntityMapper;
+        this.priceTimelineRepository = priceTimelineRepository;
+    }
+
+    @Override
+    public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        Optional<PriceEntity> entity = priceJpaRepository.findTopPriceFromTimeline(date, productId, brandId);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+
+        long mappingStarted = System.nanoTime();
+        Optional<Price> price = entity.map(priceEntityMapper::toDomain);
+        PriceRequestTrace.record(Stage.ENTITY_MAPPING, mappingStarted);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        long started = System.nanoTime();
+        List<PriceEntity> entities = priceJpaRepository.findOverlapping(productId, brandId, from, to);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+
+        long mappingStarted = System.nanoTime();
+        List<Price> prices = entities.stream()
+                .map(priceEntityMapper::toDomain)
+                .toList();
+        PriceRequestTrace.record(Stage.ENTITY_MAPPING, mappingStarted);
+        return prices;
+    }
+
+    /**
+     * Ganadora (desde la línea temporal) y tarifas solapadas con su vigencia en una única consulta.
+     */
+    @Override
+    public Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        List<Price> prices = priceTimelineRepository.findSegmentPrices(date, productId, brandId);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return PriceTimeline.of(prices).segmentAt(date);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Trigger de H2 que registra en {@code price_changes} cada (brand_id, product_id) modificado.
+ * <p>
+ * Equivalente local de los triggers PL/pgSQL de producción. Las filas llegan en el orden de columnas
+ * de {@code prices}: {@code id, brand_id, product_id, ...}.
+ * </p>
+ */
+public class H2PriceChangeTrigger implements Trigger {
+
+    private static final int BRAND_ID = 1;
+    private static final int PRODUCT_ID = 2;
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (oldRow != null) {
+            record(conn, oldRow);
+        }
+        if (newRow != null && (oldRow == null || !sameKey(oldRow, newRow))) {
+            record(conn, newRow);
+        }
+    }
+
+    private static boolean sameKey(Object[] oldRow, Object[] newRow) {
+        return Objects.equals(oldRow[BRAND_ID], newRow[BRAND_ID])
+                && Objects.equals(oldRow[PRODUCT_ID], newRow[PRODUCT_ID]);
+    }
+
+    private static void record(Connection conn, Object[] row) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO price_changes (brand_id, product_id) VALUES (?, ?)")) {
+            ps.setObject(1, row[BRAND_ID]);
+            ps.setObject(2, row[PRODUCT_ID]);
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository.PriceChange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sondea el changelog {@code price_changes} y publica {@link PricesChangedEvent} dentro del servicio.
+ * <p>
+ * La versión de datos expuesta ({@link #currentVersion()}) solo avanza sobre versiones contiguas. Las
+ * secuencias de identidad no garantizan que las versiones se confirmen en orden: una transacción lenta
+ * puede hacer visible una versión menor después de otra mayor. Los cambios posteriores a un hueco se
+ * publican en cuanto aparecen, pero el hueco se espera hasta {@code gap-timeout} (tras el cual se asume
+ * una transacción revertida) para no perder nunca un cambio confirmado tarde.
+ * </p>
+ */
+@Component
+public class PriceChangeFeedPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceChangeFeedPoller.class);
+
+    private final PriceChangeJdbcRepository priceChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private volatile long currentVersion;
+    // Versiones ya publicadas por encima de currentVersion (posteriores a un hueco)
+    private final TreeSet<Long> publishedAhead = new TreeSet<>();
+    private long gapDetectedAt;
+
+    public PriceChangeFeedPoller(
+            PriceChangeJdbcRepository priceChangeRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${prices.change-feed.batch-size:1000}") int batchSize,
+            @Value("${prices.change-feed.gap-timeout:PT30S}") Duration gapTimeout,
+            @Value("${prices.change-feed.retention:P1D}") Duration retention) {
+        this.priceChangeRepository = priceChangeRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        Gauge.builder("prices.change-feed.version", this, PriceChangeFeedPoller::currentVersion)
+                .description("Versión de datos de la tabla prices procesada por el servicio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Los cambios anteriores al arranque ya están reflejados en los datos que se carguen después, salvo los de
+     * transacciones que aún no habían confirmado: sus versiones pueden ser menores que la más alta visible. Por eso
+     * se arranca desde la última versión registrada antes de {@code gap-timeout}; los cambios más recientes se
+     * vuelven a leer (y publicar) en el primer sondeo, y los huecos entre ellos se esperan como cualquier otro.
+     */
+    @PostConstruct
+    void initialize() {
+        this.currentVersion = priceChangeRepository.findLatestVersionBefore(LocalDateTime.now().minus(gapTimeout));
+        log.info("Changelog de precios inicializado en la versión {}", currentVersion);
+    }
+
+    /**
+     * Versión de datos hasta la cual todos los cambios han sido publicados.
+     */
+    public long currentVersion() {
+        return currentVersion;
+    }
+
+    /**
+     * Lee todos los cambios posteriores a {@link #currentVersion()}. Las páginas avanzan por la última versión
+     * leída, no por la versión de datos, para llegar también a los cambios que quedan por detrás de un hueco.
+     */
+    @Scheduled(fixedDelayString = "${prices.change-feed.poll-interval:PT1S}")
+    public synchronized void poll() {
+        long after = currentVersion;
+        List<PriceChange> changes;
+        do {
+            changes = priceChangeRepository.findChangesAfter(after, batchSize);
+            publish(changes);
+            if (!changes.isEmpty()) {
+                after = changes.getLast().version();
+            }
+        } while (changes.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${prices.change-feed.purge-interval:PT1H}")
+    public void purge() {
+        int deleted = priceChangeRepository.deleteChangesBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Changelog de precios depurado: {} cambios anteriores a {}", deleted, retention);
+        }
+    }
+
+    private void publish(List<PriceChange> changes) {
+        Set<PriceKey> keys = new HashSet<>();
+        for (PriceChange change : changes) {
+            if (publishedAhead.add(change.version())) {
+                keys.add(change.key());
+            }
+        }
+
+        long version = currentVersion;
+        while (publishedAhead.remove(version + 1)) {
+            version++;
+        }
+
+        if (publishedAhead.isEmpty()) {
+            gapDetectedAt = 0;
+        } else if (gapDetectedAt == 0) {
+            gapDetectedAt = System.nanoTime();
+        } else if (System.nanoTime() - gapDetectedAt > gapTimeout.toNanos()) {
+            log.warn("Hueco en el changelog de precios tras la versión {} descartado por antigüedad", version);
+            version = publishedAhead.last();
+            publishedAhead.clear();
+            gapDetectedAt = 0;
+        }
+        this.currentVersion = version;
+
+        if (!keys.isEmpty()) {
+            eventPublisher.publishEvent(new PricesChangedEvent(keys));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+/**
+ * Proyección directa de una fila de la tabla {@code prices} al modelo de dominio {@link Price}.
+ * <p>
+ * Evita la hidratación de entidades JPA en los caminos de lectura masiva (carga de índices,
+ * exportaciones), donde el contexto de persistencia solo añade coste.
+ * </p>
+ */
+@Component
+public class PriceRowMapper implements RowMapper<Price> {
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Price(
+                rs.getLong("id"),
+                rs.getLong("brand_id"),
+                rs.getLong("product_id"),
+                rs.getInt("price_list"),
+                rs.getObject("start_date", LocalDateTime.class),
+                rs.getObject("end_date", LocalDateTime.class),
+                rs.getBigDecimal("price"),
+                Currency.getInstance(rs.getString("currency")),
+                rs.getInt("priority")
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository;
+
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio JDBC del changelog {@code price_changes}, mantenido por triggers sobre {@code prices}.
+ */
+@Repository
+public class PriceChangeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PriceChangeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Versión más alta registrada (0 si el changelog está vacío).
+     */
+    public long findLatestVersion() {
+        Long latest = jdbcTemplate.queryForObject("SELECT MAX(version) FROM price_changes", Long.class);
+        return latest != null ? latest : 0L;
+    }
+
+    /**
+     * Versión más alta registrada antes de la fecha indicada. Si todos los cambios son posteriores, la anterior al
+     * más antiguo (0 si el changelog está vacío).
+     */
+    public long findLatestVersionBefore(LocalDateTime threshold) {
+        Long latest = jdbcTemplate.queryForObject("""
+                        SELECT COALESCE(
+                            (SELECT MAX(version) FROM price_changes WHERE changed_at < ?),
+                            (SELECT MIN(version) - 1 FROM price_changes))""",
+                Long.class, Timestamp.valueOf(threshold));
+        return latest != null ? latest : 0L;
+    }
+
+    /**
+     * Recupera los cambios posteriores a una versión, en orden creciente.
+     *
+     * @param version Versión a partir de la cual se buscan cambios (exclusiva).
+     * @param limit   Número máximo de cambios a devolver.
+     */
+    public List<PriceChange> findChangesAfter(long version, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT version, brand_id, product_id FROM price_changes
+                        WHERE version > ?
+                        ORDER BY version
+                        LIMIT ?""",
+                (rs, rowNum) -> new PriceChange(
+                        rs.getLong("version"),
+                        new PriceKey(rs.getLong("brand_id"), rs.getLong("product_id"))),
+                version, limit);
+    }
+
+    /**
+     * Elimina los cambios registrados antes de la fecha indicada.
+     *
+     * @return Número de filas eliminadas.
+     */
+    public int deleteChangesBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM price_changes WHERE changed_at < ?", Timestamp.valueOf(threshold));
+    }
+
+    public record PriceChange(long version, PriceKey key) {
+    }
+}
@@ -0,0 +1,379 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Repositorio JDBC para los caminos de lectura de la tabla {@code prices} que no necesitan JPA.
+ * <p>
+ * Las lecturas masivas se realizan con cursores de solo avance y un {@code fetchSize} acotado,
+ * de modo que las filas se procesan a medida que llegan sin materializar el resultado completo.
+ * </p>
+ * <p>
+ * Las consultas que sirven peticiones son de solo lectura y pueden resolverse en una réplica; las cargas
+ * de los índices en memoria se leen siempre del primario para no partir de datos con retraso.
+ * </p>
+ */
+@Repository
+public class PriceJdbcRepository {
+
+    static final String PRICE_COLUMNS =
+            "id, brand_id, product_id, price_list, start_date, end_date, price, currency, priority";
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String TOP_PRICE_BY_DATE_SQL = topPriceSql(false, "?", "?", "?");
+
+    private static final String TOP_PRICE_BY_VALIDITY_SQL = topPriceSql(true, "?", "?", "?");
+
+    // La ganadora y todas las tarifas que se solapan con su vigencia: lo necesario para acotar su tramo
+    private static final String SEGMENT_PRICES_SQL = """
+            WITH winner AS (
+                SELECT start_date, end_date FROM prices
+                WHERE product_id = ? AND brand_id = ? AND %s
+                ORDER BY priority DESC, id DESC
+                FETCH FIRST 1 ROWS ONLY
+            )
+            SELECT p.%s FROM prices p
+            JOIN winner w ON p.start_date <= w.end_date AND p.end_date >= w.start_date
+            WHERE p.product_id = ? AND p.brand_id = ?""";
+
+    private static final String SEGMENT_PRICES_BY_DATE_SQL = SEGMENT_PRICES_SQL.formatted(
+            applicableAt(false, "?"), PRICE_COLUMNS.replace(", ", ", p."));
+
+    private static final String SEGMENT_PRICES_BY_VALIDITY_SQL = SEGMENT_PRICES_SQL.formatted(
+            applicableAt(true, "?"), PRICE_COLUMNS.replace(", ", ", p."));
+
+    // Variantes de findTopPrices: 1, 2, 4... hasta MAX_BATCH_ROWS consultas por sentencia
+    private static final int MAX_BATCH_ROWS = 512;
+    private static final String[] BATCH_BY_DATE_SQL = batchSqlVariants(false);
+    private static final String[] BATCH_BY_VALIDITY_SQL = batchSqlVariants(true);
+
+    private static final String SAMPLE_PRICE_SQL = "SELECT " + PRICE_COLUMNS + " FROM prices"
+            + " WHERE id >= ? ORDER BY id"
+            + " FETCH FIRST 1 ROWS ONLY";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceRowMapper priceRowMapper;
+
+    public PriceJdbcRepository(JdbcTemplate jdbcTemplate, PriceRowMapper priceRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceRowMapper = priceRowMapper;
+    }
+
+    /**
+     * Recorre todas las tarifas de la tabla entregándolas una a una al consumidor.
+     *
+     * @param consumer Receptor de cada {@link Price} leído.
+     */
+    public void forEachPrice(Consumer<Price> consumer) {
+        streamPrices("SELECT " + PRICE_COLUMNS + " FROM prices", consumer);
+    }
+
+    /**
+     * Recorre todas las tarifas ordenadas por producto, cadena y, dentro de cada clave, en el orden de
+     * selección de {@code findTopPrice} (prioridad y, a igualdad, identificador descendentes).
+     * <p>
+     * Debe invocarse dentro de una transacción para que PostgreSQL respete el {@code fetchSize}.
+     * </p>
+     */
+    public void forEachPriceInKeyOrder(Consumer<Price> consumer) {
+        streamPrices("SELECT " + PRICE_COLUMNS + " FROM prices"
+                + " ORDER BY product_id, brand_id, priority DESC, id DESC", consumer);
+    }
+
+    /**
+     * Recorre, ordenadas por producto y cadena, las tarifas cuya vigencia se solapa con el rango indicado.
+     * <p>
+     * Debe invocarse dentro de una transacción para que PostgreSQL respete el {@code fetchSize}.
+     * </p>
+     */
+    public void forEachPriceOverlapping(LocalDateTime from, LocalDateTime to, Consumer<Price> consumer) {
+        streamPrices("SELECT " + PRICE_COLUMNS + " FROM prices WHERE start_date <= ? AND end_date >= ?"
+                + " ORDER BY product_id, brand_id", consumer, Timestamp.valueOf(to), Timestamp.valueOf(from));
+    }
+
+    private void streamPrices(String sql, Consumer<Price> consumer, Object... args) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(priceRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    /**
+     * SQL de la tarifa vigente de mayor prioridad con los marcadores de parámetro indicados, compartido con el
+     * adaptador R2DBC para que ambos caminos ejecuten la misma selección sobre el mismo índice.
+     *
+     * @param validityRange Localizar la tarifa por el rango {@code validity} (solo PostgreSQL).
+     * @param productId     Marcador del identificador de producto ({@code ?} en JDBC, {@code :nombre} en R2DBC).
+     * @param brandId       Marcador del identificador de cadena.
+     * @param date          Marcador de la fecha de aplicación.
+     */
+    public static String topPriceSql(boolean validityRange, String productId, String brandId, String date) {
+        return "SELECT " + PRICE_COLUMNS + " FROM prices"
+                + " WHERE product_id = " + productId + " AND brand_id = " + brandId
+                + " AND " + applicableAt(validityRange, date)
+                + " ORDER BY priority DESC, id DESC"
+                + " FETCH FIRST 1 ROWS ONLY";
+    }
+
+    /**
+     * Condición de vigencia en una fecha: rango de fechas del B-tree o, solo en PostgreSQL, contención en el
+     * índice GiST de {@code validity}.
+     */
+    private static String applicableAt(boolean validityRange, String date) {
+        return validityRange
+                ? "validity @> CAST(" + date + " AS TIMESTAMP)"
+                : date + " BETWEEN start_date AND end_date";
+    }
+
+    /**
+     * Equivalente JDBC de {@code PriceJpaRepository.findTopPrice}: misma selección y orden, pero
+     * proyectando la fila directamente a {@link Price} sin contexto de persistencia.
+     * <p>
+     * El SQL es constante para que el driver reutilice la sentencia preparada de la conexión
+     * (en PostgreSQL, sentencia preparada en servidor a partir de {@code prepareThreshold}).
+     * </p>
+     *
+     * @param validityRange Localizar la tarifa por el rango {@code validity} (solo PostgreSQL).
+     */
+    @Transactional(readOnly = true)
+    public Optional<Price> findTopPrice(LocalDateTime date, Long productId, Long brandId, boolean validityRange) {
+        List<Price> prices = jdbcTemplate.query(validityRange ? TOP_PRICE_BY_VALIDITY_SQL : TOP_PRICE_BY_DATE_SQL,
+                priceRowMapper,
+                productId, brandId, Timestamp.valueOf(date));
+        return prices.isEmpty() ? Optional.empty() : Optional.of(prices.getFirst());
+    }
+
+    /**
+     * Equivalente JDBC de {@code PriceJpaRepository.findOverlapping}.
+     */
+    @Transactional(readOnly = true)
+    public List<Price> findOverlapping(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT " + PRICE_COLUMNS + " FROM prices"
+                        + " WHERE product_id = ? AND brand_id = ? AND start_date <= ? AND end_date >= ?",
+                priceRowMapper, productId, brandId, Timestamp.valueOf(to), Timestamp.valueOf(from));
+    }
+
+    /**
+     * Recupera en una sola consulta la tarifa ganadora en la fecha y todas las que se solapan con su
+     * vigencia, que es lo que necesita {@code PriceTimeline} para delimitar el tramo de la ganadora.
+     * <p>
+     * Sustituye al par {@code findTopPrice} + {@code findOverlapping}: un único acceso, y ambas partes se
+     * leen con la misma instantánea (y, con réplicas, en la misma réplica).
+     * </p>
+     *
+     * @param validityRange Localizar la ganadora por el rango {@code validity} (solo PostgreSQL).
+     * @return Tarifas solapadas con la ganadora, incluida ella; vacía si ninguna está vigente en la fecha.
+     */
+    @Transactional(readOnly = true)
+    public List<Price> findSegmentPrices(LocalDateTime date, Long productId, Long brandId, boolean validityRange) {
+        return jdbcTemplate.query(validityRange ? SEGMENT_PRICES_BY_VALIDITY_SQL : SEGMENT_PRICES_BY_DATE_SQL,
+                priceRowMapper, productId, brandId, Timestamp.valueOf(date), productId, brandId);
+    }
+
+    /**
+     * Muestra aleatoria de hasta {@code size} tarifas distintas de la tabla.
+     * <p>
+     * Cada tarifa es la primera con identificador mayor o igual que uno elegido al azar entre el mínimo y
+     * el máximo, de modo que cada extracción es una lectura por clave primaria y no se ordena la tabla
+     * completa (como haría {@code ORDER BY RANDOM()}). Las tarifas que siguen a huecos de identificadores
+     * tienen algo más de probabilidad de salir.
+     * </p>
+     *
+     * @return Tarifas muestreadas sin repetidos; vacía si la tabla no tiene tarifas.
+     */
+    @Transactional(readOnly = true)
+    public List<Price> findSample(int size, RandomGenerator random) {
+        long[] bounds = jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM prices", rs -> {
+            rs.next();
+            return rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)};
+        });
+        if (bounds == null) {
+            return List.of();
+        }
+
+        Map<Long, Price> sample = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            long id = random.nextLong(bounds[0], bounds[1] + 1);
+            jdbcTemplate.query(SAMPLE_PRICE_SQL, priceRowMapper, id)
+                    .forEach(price -> sample.putIfAbsent(price.id(), price));
+        }
+        return List.copyOf(sample.values());
+    }
+
+    /**
+     * Recupera todas las tarifas de una cadena y producto, sin filtrar por vigencia.
+     */
+    public List<Price> findByKey(PriceKey key) {
+        return jdbcTemplate.query(
+                "SELECT " + PRICE_COLUMNS + " FROM prices WHERE product_id = ? AND brand_id = ?",
+                priceRowMapper, key.productId(), key.brandId());
+    }
+
+    /**
+     * Variante de {@link #findByKey} que bloquea las tarifas leídas ({@code FOR UPDATE}) hasta el fin de la
+     * transacción en curso.
+     * <p>
+     * Serializa los recálculos de una misma serie entre instancias: quien llega segundo espera a que el
+     * primero confirme y lee ya su resultado. El orden por identificador evita interbloqueos.
+     * </p>
+     */
+    public List<Price> findByKeyForUpdate(PriceKey key) {
+        return jdbcTemplate.query(
+                "SELECT " + PRICE_COLUMNS + " FROM prices WHERE product_id = ? AND brand_id = ? ORDER BY id FOR UPDATE",
+                priceRowMapper, key.productId(), key.brandId());
+    }
+
+    /**
+     * Resuelve la tarifa de mayor prioridad de varias consultas en un único acceso a base de datos.
+     * <p>
+     * Las consultas se envían como una tabla {@code VALUES} que se cruza con {@code prices}; una función
+     * de ventana selecciona la primera tarifa de cada consulta con el mismo orden que {@code findTopPrice}
+     * (prioridad y, a igualdad, identificador). Se evita {@code LATERAL} para mantener la compatibilidad
+     * con H2 en local y tests.
+     * </p>
+     * <p>
+     * La tabla se rellena hasta la siguiente potencia de dos ({@link #batchSqlFor}) con filas que no
+     * coinciden con ninguna tarifa, de modo que solo existen unas pocas variantes del SQL: con
+     * {@code prepareThreshold=1} cada variante se prepara en el servidor y ocupa una entrada de la caché de
+     * sentencias del driver, y un texto por tamaño de lote desplazaría de ella la consulta individual.
+     * Los lotes mayores que la variante más grande se resuelven por partes.
+     * </p>
+     *
+     * @param queries       Consultas a resolver; las repetidas se envían una sola vez.
+     * @param validityRange Localizar las tarifas por el rango {@code validity} (solo PostgreSQL).
+     * @return Tarifa ganadora por consulta; las consultas sin tarifa no aparecen en el mapa.
+     */
+    @Transactional(readOnly = true)
+    public Map<PriceQuery, Price> findTopPrices(Collection<PriceQuery> queries, boolean validityRange) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PriceQuery> indexed = new ArrayList<>(new LinkedHashSet<>(queries));
+        Map<PriceQuery, Price> result = HashMap.newHashMap(indexed.size());
+        for (int from = 0; from < indexed.size(); from += MAX_BATCH_ROWS) {
+            List<PriceQuery> chunk = indexed.subList(from, Math.min(from + MAX_BATCH_ROWS, indexed.size()));
+            int rows = Integer.highestOneBit(chunk.size() - 1) << 1;
+            rows = Math.max(rows, 1);
+
+            List<Object> args = new ArrayList<>(rows * 4);
+            for (int i = 0; i < rows; i++) {
+                // Relleno: identificadores negativos, que no corresponden a ninguna tarifa
+                PriceQuery query = i < chunk.size() ? chunk.get(i) : null;
+                args.add(i);
+                args.add(Timestamp.valueOf(query != null ? query.date() : chunk.getFirst().date()));
+                args.add(query != null ? query.productId() : -1L);
+                args.add(query != null ? query.brandId() : -1L);
+            }
+
+            jdbcTemplate.query(batchSqlFor(rows, validityRange), rs -> {
+                int idx = rs.getInt("idx");
+                if (idx < chunk.size()) {
+                    result.put(chunk.get(idx), priceRowMapper.mapRow(rs, rs.getRow()));
+                }
+            }, args.toArray());
+        }
+        return result;
+    }
+
+    /**
+     * SQL de {@link #findTopPrices} para una tabla de {@code rows} consultas (potencia de dos).
+     */
+    private static String batchSqlFor(int rows, boolean validityRange) {
+        return (validityRange ? BATCH_BY_VALIDITY_SQL : BATCH_BY_DATE_SQL)[Integer.numberOfTrailingZeros(rows)];
+    }
+
+    private static String[] batchSqlVariants(boolean validityRange) {
+        return IntStream.rangeClosed(0, Integer.numberOfTrailingZeros(MAX_BATCH_ROWS))
+                .mapToObj(exponent -> batchSql(1 << exponent, validityRange))
+                .toArray(String[]::new);
+    }
+
+    private static String batchSql(int rows, boolean validityRange) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            values.append(i == 0 ? "" : ", ")
+                    .append("(CAST(? AS INTEGER), CAST(? AS TIMESTAMP), CAST(? AS BIGINT), CAST(? AS BIGINT))");
+        }
+        return """
+                WITH q (idx, application_date, product_id, brand_id) AS (VALUES %s)
+                SELECT idx, %s FROM (
+                    SELECT q.idx, p.*,
+                           ROW_NUMBER() OVER (PARTITION BY q.idx ORDER BY p.priority DESC, p.id DESC) AS rn
+                    FROM q
+                    JOIN prices p ON p.product_id = q.product_id
+                                 AND p.brand_id = q.brand_id
+                                 AND %s
+                ) ranked
+                WHERE rn = 1""".formatted(values, validityRange
+                ? "p.validity @> q.application_date"
+                : "q.application_date BETWEEN p.start_date AND p.end_date", PRICE_COLUMNS);
+    }
+
+    /**
+     * Recorre la tarifa ganadora de cada producto de una cadena en la fecha indicada.
+     * <p>
+     * La selección por producto usa el mismo orden que {@code findTopPrice}. El resultado se lee con
+     * un cursor de solo avance, por lo que debe invocarse dentro de una transacción para que
+     * PostgreSQL respete el {@code fetchSize}.
+     * </p>
+     *
+     * @return Número de tarifas recorridas.
+     */
+    public long forEachWinningPrice(Long brandId, LocalDateTime date, Consumer<Price> consumer) {
+        String sql = """
+                SELECT %s FROM (
+                    SELECT p.*,
+                           ROW_NUMBER() OVER (PARTITION BY p.product_id ORDER BY p.priority DESC, p.id DESC) AS rn
+                    FROM prices p
+                    WHERE p.brand_id = ?
+                    AND ? BETWEEN p.start_date AND p.end_date
+                ) ranked
+                WHERE rn = 1
+                ORDER BY product_id""".formatted(PRICE_COLUMNS);
+
+        long[] count = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, brandId);
+            ps.setTimestamp(2, Timestamp.valueOf(date));
+            return ps;
+        }, rs -> {
+            consumer.accept(priceRowMapper.mapRow(rs, rs.getRow()));
+            count[0]++;
+        });
+        return count[0];
+    }
+}
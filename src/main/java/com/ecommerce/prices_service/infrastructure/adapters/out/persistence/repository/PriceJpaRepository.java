@@ -4,8 +4,10 @@ import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.enti
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +17,10 @@ import java.util.Optional;
  * Esta interfaz abstrae la comunicación con el motor de base de datos (PostgreSQL/H2)
  * gestionando el ciclo de vida de las entidades de precios.
  * </p>
+ * <p>
+ * Las consultas son transacciones de solo lectura, de modo que pueden servirse desde una réplica
+ * cuando hay réplicas configuradas ({@code prices.datasource.replicas}).
+ * </p>
  */
 public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
 
@@ -24,7 +30,8 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
      * La consulta filtra por identificadores de producto y cadena, validando que la fecha
      * de aplicación se encuentre dentro del rango de vigencia de la tarifa.
      * Los resultados se ordenan de forma descendente por prioridad, recuperando únicamente
-     * el primer registro coincidente.
+     * el primer registro coincidente. A igualdad de prioridad gana el identificador más alto,
+     * de modo que el resultado es determinista y coincide con {@code PriceTimeline.PRECEDENCE}.
      * </p>
      *
      * @param date        Fecha y hora de aplicación para la validación de vigencia.
@@ -37,11 +44,93 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
         WHERE p.productId = :productId 
         AND p.brandId = :brandId 
         AND :date BETWEEN p.startDate AND p.endDate 
-        ORDER BY p.priority DESC 
+        ORDER BY p.priority DESC, p.id DESC
         LIMIT 1
     """)
+    @Transactional(readOnly = true)
     Optional<PriceEntity> findTopPrice(
             @Param("date") LocalDateTime date,
             @Param("productId") Long productId,
             @Param("brandId") Long brandId);
+
+    /**
+     * Variante de {@link #findTopPrice} para PostgreSQL apoyada en la columna {@code validity} ({@code tsrange}).
+     * <p>
+     * La contención {@code @>} se resuelve con el índice GiST {@code idx_prices_validity}, que descarta
+     * las tarifas ya finalizadas sin leerlas; la selección y el orden son los de {@link #findTopPrice}.
+     * La columna solo existe en PostgreSQL (migración {@code db/vendor/postgresql/V6}).
+     * </p>
+     *
+     * @param date        Fecha y hora de aplicación para la validación de vigencia.
+     * @param productId   Identificador único del producto.
+     * @param brandId     Identificador de la cadena o marca.
+     * @return Un {@link Optional} con la {@link PriceEntity} aplicable, o vacío si no existe tarifa para esos criterios.
+     */
+    @Query(value = """
+        SELECT p.* FROM prices p
+        WHERE p.product_id = :productId
+        AND p.brand_id = :brandId
+        AND p.validity @> CAST(:date AS TIMESTAMP)
+        ORDER BY p.priority DESC, p.id DESC
+        LIMIT 1
+    """, nativeQuery = true)
+    @Transactional(readOnly = true)
+    Optional<PriceEntity> findTopPriceByValidityRange(
+            @Param("date") LocalDateTime date,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId);
+
+    /**
+     * Recupera todas las tarifas de un producto y cadena cuya vigencia se solapa con el rango indicado.
+     *
+     * @param productId   Identificador único del producto.
+     * @param brandId     Identificador de la cadena o marca.
+     * @param from        Inicio del rango (inclusivo).
+     * @param to          Fin del rango (inclusivo).
+     * @return Las {@link PriceEntity} solapadas, sin un orden concreto.
+     */
+    @Query("""
+        SELECT p FROM PriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :to
+        AND p.endDate >= :from
+    """)
+    @Transactional(readOnly = true)
+    List<PriceEntity> findOverlapping(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Variante de {@link #findTopPrice} resuelta sobre la línea temporal precalculada.
+     * <p>
+     * Los tramos de {@code price_timeline} no se solapan, por lo que basta una búsqueda en el índice
+     * {@code (product_id, brand_id, segment_start)} del último tramo iniciado antes de la fecha, sin
+     * ordenar por prioridad. Si ese tramo ya ha finalizado, la fecha cae en un hueco sin tarifa.
+     * </p>
+     *
+     * @param date        Fecha y hora de aplicación para la validación de vigencia.
+     * @param productId   Identificador único del producto.
+     * @param brandId     Identificador de la cadena o marca.
+     * @return Un {@link Optional} con la {@link PriceEntity} ganadora, o vacío si no existe tarifa para esos criterios.
+     */
+    @Query(value = """
+        SELECT p.* FROM prices p
+        JOIN (
+            SELECT t.price_id, t.segment_end FROM price_timeline t
+            WHERE t.product_id = :productId
+            AND t.brand_id = :brandId
+            AND t.segment_start <= :date
+            ORDER BY t.segment_start DESC
+            LIMIT 1
+        ) s ON s.price_id = p.id
+        WHERE :date <= s.segment_end
+    """, nativeQuery = true)
+    @Transactional(readOnly = true)
+    Optional<PriceEntity> findTopPriceFromTimeline(
+            @Param("date") LocalDateTime date,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId);
 }
@@ -0,0 +1,148 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repositorio JDBC de la tabla precalculada {@code price_timeline}.
+ * <p>
+ * Cada reconstrucción afecta únicamente a las filas de una {@link PriceKey}: se leen sus tarifas,
+ * se aplanan en memoria con {@link PriceTimeline} y se reemplazan sus tramos en una sola transacción.
+ * </p>
+ * <p>
+ * Varias instancias pueden reconstruir la misma serie a la vez (el mismo evento de cambio llega a todas,
+ * y el relleno periódico encuentra las mismas claves pendientes). Las tarifas se leen bloqueadas, de modo
+ * que los {@code DELETE} + {@code INSERT} de una serie no se intercalan.
+ * </p>
+ */
+@Repository
+public class PriceTimelineJdbcRepository {
+
+    // Ganadora según la línea temporal y tarifas solapadas con su vigencia, en una sola consulta
+    private static final String SEGMENT_PRICES_SQL = """
+            WITH winner AS (
+                SELECT p.start_date, p.end_date FROM prices p
+                JOIN (
+                    SELECT t.price_id, t.segment_end FROM price_timeline t
+                    WHERE t.product_id = ? AND t.brand_id = ? AND t.segment_start <= ?
+                    ORDER BY t.segment_start DESC
+                    FETCH FIRST 1 ROWS ONLY
+                ) s ON s.price_id = p.id
+                WHERE ? <= s.segment_end
+            )
+            SELECT p.%s FROM prices p
+            JOIN winner w ON p.start_date <= w.end_date AND p.end_date >= w.start_date
+            WHERE p.product_id = ? AND p.brand_id = ?"""
+            .formatted(PriceJdbcRepository.PRICE_COLUMNS.replace(", ", ", p."));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final PriceRowMapper priceRowMapper;
+
+    public PriceTimelineJdbcRepository(JdbcTemplate jdbcTemplate, PriceJdbcRepository priceJdbcRepository,
+                                       PriceRowMapper priceRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.priceRowMapper = priceRowMapper;
+    }
+
+    /**
+     * Equivalente de {@code PriceJdbcRepository.findSegmentPrices} con la ganadora localizada en la línea
+     * temporal precalculada.
+     *
+     * @return Tarifas solapadas con la ganadora, incluida ella; vacía si ninguna está vigente en la fecha.
+     */
+    @Transactional(readOnly = true)
+    public List<Price> findSegmentPrices(LocalDateTime date, Long productId, Long brandId) {
+        Timestamp timestamp = Timestamp.valueOf(date);
+        return jdbcTemplate.query(SEGMENT_PRICES_SQL, priceRowMapper,
+                productId, brandId, timestamp, timestamp, productId, brandId);
+    }
+
+    /**
+     * Recalcula y sustituye los tramos de una cadena y producto.
+     *
+     * @param key Serie de tarifas a reconstruir.
+     * @return Número de tramos resultantes (0 si la serie ya no tiene tarifas).
+     */
+    @Transactional
+    public int rebuild(PriceKey key) {
+        PriceTimeline timeline = PriceTimeline.of(priceJdbcRepository.findByKeyForUpdate(key));
+
+        jdbcTemplate.update("DELETE FROM price_timeline WHERE product_id = ? AND brand_id = ?",
+                key.productId(), key.brandId());
+
+        List<PriceSegment> segments = timeline.segments();
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO price_timeline (brand_id, product_id, segment_start, segment_end, price_id, priority)
+                        VALUES (?, ?, ?, ?, ?, ?)""",
+                segments, segments.size(), (ps, segment) -> {
+                    ps.setLong(1, key.brandId());
+                    ps.setLong(2, key.productId());
+                    ps.setTimestamp(3, Timestamp.valueOf(segment.from()));
+                    // En base de datos el fin del tramo se guarda inclusivo
+                    ps.setTimestamp(4, Timestamp.valueOf(segment.to().minusNanos(1)));
+                    ps.setLong(5, segment.price().id());
+                    ps.setInt(6, segment.price().priority());
+                });
+        return segments.size();
+    }
+
+    /**
+     * Página de la pasada de relleno: series recorridas en orden de producto y cadena a partir de un cursor.
+     *
+     * @param withoutTimeline Series de la página que todavía no tienen línea temporal calculada.
+     * @param last            Última serie recorrida, cursor de la página siguiente; {@code null} si no hay más.
+     * @param scanned         Series recorridas; menos que el límite indica el final de la tabla.
+     */
+    public record BackfillPage(List<PriceKey> withoutTimeline, PriceKey last, int scanned) {
+    }
+
+    /**
+     * Recorre las series de {@code prices} posteriores a {@code after} sobre el índice
+     * {@code (product_id, brand_id, ...)} y señala las que aún no tienen línea temporal.
+     *
+     * @param after Cursor de la página anterior; {@code null} para empezar por el principio.
+     * @param limit Máximo de series recorridas por página.
+     */
+    public BackfillPage findKeysWithoutTimeline(PriceKey after, int limit) {
+        long afterProduct = after == null ? Long.MIN_VALUE : after.productId();
+        long afterBrand = after == null ? Long.MIN_VALUE : after.brandId();
+        List<PriceKey> withoutTimeline = new ArrayList<>();
+        PriceKey[] last = new PriceKey[1];
+        int[] scanned = new int[1];
+        jdbcTemplate.query("""
+                        SELECT k.brand_id, k.product_id,
+                               CASE WHEN EXISTS (
+                                   SELECT 1 FROM price_timeline t
+                                   WHERE t.product_id = k.product_id AND t.brand_id = k.brand_id) THEN 1 ELSE 0 END AS built
+                        FROM (
+                            SELECT DISTINCT p.product_id, p.brand_id FROM prices p
+                            WHERE p.product_id > ? OR (p.product_id = ? AND p.brand_id > ?)
+                            ORDER BY p.product_id, p.brand_id
+                            LIMIT ?
+                        ) k
+                        ORDER BY k.product_id, k.brand_id""",
+                rs -> {
+                    PriceKey key = new PriceKey(rs.getLong("brand_id"), rs.getLong("product_id"));
+                    if (rs.getInt("built") == 0) {
+                        withoutTimeline.add(key);
+                    }
+                    last[0] = key;
+                    scanned[0]++;
+                },
+                afterProduct, afterProduct, afterBrand, limit);
+        return new BackfillPage(withoutTimeline, last[0], scanned[0]);
+    }
+}
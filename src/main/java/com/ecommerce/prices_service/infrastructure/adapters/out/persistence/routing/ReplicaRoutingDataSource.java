@@ -0,0 +1,219 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Origen de datos de solo lectura que reparte las conexiones entre las réplicas sanas.
+ * <p>
+ * Se usa como {@code readOnlyDataSource} de un {@code LazyConnectionDataSourceProxy}: solo las
+ * transacciones marcadas como de solo lectura llegan aquí; escrituras, Flyway y lecturas sin
+ * transacción de solo lectura siguen en el primario.
+ * </p>
+ * <p>
+ * Cada réplica se comprueba periódicamente con una consulta de retraso de replicación; si supera
+ * {@code maxLag} o la comprobación falla, sale de la rotación hasta la siguiente comprobación correcta.
+ * Sin réplicas disponibles, las lecturas vuelven al primario.
+ * </p>
+ * <p>
+ * Métricas: {@code prices.datasource.replica.healthy} y {@code prices.datasource.replica.lag} por
+ * réplica, y {@code prices.datasource.reads} por destino ({@code target}), incluido el primario.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Retraso en segundos de una réplica de PostgreSQL. Si ya ha aplicado todo el WAL recibido no hay retraso,
+     * aunque la última transacción aplicada sea antigua: con el primario sin escrituras
+     * {@code now() - pg_last_xact_replay_timestamp()} crecería sin límite y sacaría de rotación réplicas al día.
+     */
+    static final String POSTGRESQL_LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0
+                        WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END""";
+    private static final String NO_LAG_QUERY = "SELECT 0";
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final Counter primaryReads;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile DataSource primary;
+
+    public ReplicaRoutingDataSource(List<Replica> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1_000d;
+        this.primaryReads = readCounter(meterRegistry, "primary");
+        for (Replica replica : this.replicas) {
+            replica.reads = readCounter(meterRegistry, replica.name);
+            Gauge.builder("prices.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 si la réplica está en rotación")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("prices.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Retraso de replicación observado")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Origen de datos usado cuando ninguna réplica está en rotación.
+     */
+    public void setPrimary(DataSource primary) {
+        this.primary = primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Mismo reparto que {@link #getConnection()}, con las credenciales indicadas.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Hilos esperando conexión en los pools de las réplicas (los que aún no se han creado no cuentan).
+     */
+    public int getThreadsAwaitingConnection() {
+        int awaiting = 0;
+        for (Replica replica : replicas) {
+            HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                awaiting += pool.getThreadsAwaitingConnection();
+            }
+        }
+        return awaiting;
+    }
+
+    /**
+     * Mide el retraso de cada réplica y actualiza la rotación.
+     */
+    @Scheduled(fixedDelayString = "${prices.datasource.replica-check-interval:PT5S}")
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery(replica, connection))) {
+            rs.next();
+            double lag = rs.getDouble(1);
+            boolean healthy = lag <= maxLagSeconds;
+            replica.lagSeconds = lag;
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Réplica {} en rotación (retraso {} s)", replica.name, lag);
+                } else {
+                    log.warn("Réplica {} fuera de rotación: retraso {} s supera {} s", replica.name, lag, maxLagSeconds);
+                }
+            }
+            replica.healthy = healthy;
+        } catch (SQLException ex) {
+            replica.lagSeconds = Double.NaN;
+            markUnhealthy(replica, ex);
+        }
+    }
+
+    /**
+     * Entrega la conexión de la siguiente réplica sana en turno rotatorio o, sin ninguna, la del primario.
+     * Una réplica que no responde sale de rotación; un método no soportado por su pool se propaga sin más.
+     */
+    private Connection route(ConnectionSource source) throws SQLException {
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = source.connect(replica.dataSource);
+                replica.reads.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException ex) {
+                throw ex;
+            } catch (SQLException ex) {
+                markUnhealthy(replica, ex);
+            }
+        }
+        primaryReads.increment();
+        return source.connect(primary);
+    }
+
+    private void markUnhealthy(Replica replica, SQLException ex) {
+        if (replica.healthy) {
+            log.warn("Réplica {} fuera de rotación: {}", replica.name, ex.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    private static String lagQuery(Replica replica, Connection connection) throws SQLException {
+        if (replica.lagQuery == null) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            replica.lagQuery = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL_LAG_QUERY : NO_LAG_QUERY;
+        }
+        return replica.lagQuery;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("prices.datasource.reads")
+                .description("Conexiones de lectura entregadas por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * Réplica en rotación: su pool, la consulta de retraso (por defecto según el motor) y su estado.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile String lagQuery;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+        private Counter reads;
+
+        public Replica(String name, HikariDataSource dataSource, String lagQuery) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+    }
+}
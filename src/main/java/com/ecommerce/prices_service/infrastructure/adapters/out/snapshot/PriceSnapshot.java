@@ -0,0 +1,212 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import com.ecommerce.prices_service.domain.model.Price;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static com.ecommerce.prices_service.infrastructure.adapters.out.snapshot.PriceSnapshotFormat.*;
+
+/**
+ * Instantánea de precios mapeada en memoria en modo solo lectura.
+ * <p>
+ * Las consultas se resuelven directamente sobre las páginas del fichero: una búsqueda binaria localiza
+ * el primer registro de la clave y, como los registros de cada clave están ordenados por prioridad
+ * descendente, el primero vigente es el ganador. Solo se construye el {@link Price} devuelto.
+ * Las páginas pertenecen a la caché del sistema operativo, por lo que varios procesos del mismo nodo
+ * que mapean el mismo fichero comparten memoria física.
+ * </p>
+ * <p>
+ * El mapeo se asocia a un {@link Arena#ofAuto() arena automático}: se libera cuando la instantánea deja
+ * de estar referenciada, sin riesgo de invalidarlo mientras otro hilo lo está leyendo.
+ * </p>
+ */
+public final class PriceSnapshot {
+
+    private final Path path;
+    private final MemorySegment segment;
+    private final long dataVersion;
+    private final Instant createdAt;
+    private final long recordCount;
+    private final Currency[] currencies;
+
+    private PriceSnapshot(Path path, MemorySegment segment) {
+        this.path = path;
+        this.segment = segment;
+
+        if (segment.byteSize() < HEADER_SIZE || segment.get(LONG, H_MAGIC) != MAGIC) {
+            throw new IllegalStateException("El fichero " + path + " no es una instantánea de precios");
+        }
+        int formatVersion = segment.get(INT, H_FORMAT_VERSION);
+        if (formatVersion != FORMAT_VERSION || segment.get(INT, H_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IllegalStateException("Formato de instantánea no soportado: " + formatVersion);
+        }
+
+        this.dataVersion = segment.get(LONG, H_DATA_VERSION);
+        this.createdAt = Instant.ofEpochSecond(segment.get(LONG, H_CREATED_AT));
+        this.recordCount = segment.get(LONG, H_RECORD_COUNT);
+
+        long currencyOffset = segment.get(LONG, H_CURRENCY_OFFSET);
+        int currencyCount = segment.get(INT, H_CURRENCY_COUNT);
+        if (currencyOffset != HEADER_SIZE + recordCount * RECORD_SIZE
+                || segment.byteSize() < currencyOffset + (long) currencyCount * CURRENCY_CODE_SIZE) {
+            throw new IllegalStateException("Instantánea truncada: " + path);
+        }
+        this.currencies = new Currency[currencyCount];
+        for (int i = 0; i < currencyCount; i++) {
+            byte[] code = segment.asSlice(currencyOffset + (long) i * CURRENCY_CODE_SIZE, CURRENCY_CODE_SIZE)
+                    .toArray(ValueLayout.JAVA_BYTE);
+            currencies[i] = Currency.getInstance(new String(code, StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Mapea el fichero completo y valida su cabecera.
+     *
+     * @throws IllegalStateException Si el fichero no es una instantánea válida de este formato.
+     */
+    public static PriceSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+            return new PriceSnapshot(path, segment);
+        }
+    }
+
+    /**
+     * Lee únicamente la versión de datos de la cabecera, sin mapear el fichero.
+     */
+    public static long readDataVersion(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // lectura completa de la cabecera
+            }
+            if (header.position() < HEADER_SIZE || header.getLong((int) H_MAGIC) != MAGIC) {
+                throw new IllegalStateException("El fichero " + path + " no es una instantánea de precios");
+            }
+            return header.getLong((int) H_DATA_VERSION);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Versión del changelog {@code price_changes} a la que corresponden los datos.
+     */
+    public long dataVersion() {
+        return dataVersion;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public long recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Equivalente a {@code findTopPrice}: la tarifa vigente de mayor prioridad y, a igualdad, mayor id.
+     */
+    public Optional<Price> findPriceByPriority(LocalDateTime date, long productId, long brandId) {
+        long second = toEpochSecond(date);
+        int nano = date.getNano();
+        for (long i = firstOf(productId, brandId); i < recordCount && isKey(i, productId, brandId); i++) {
+            long offset = offset(i);
+            if (segment.get(LONG, offset + R_START) <= second && endsAtOrAfter(offset, second, nano)) {
+                return Optional.of(priceAt(offset));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tarifas de la clave cuya vigencia se solapa con el rango indicado (ambos inclusivos).
+     */
+    public List<Price> findPricesBetween(long productId, long brandId, LocalDateTime from, LocalDateTime to) {
+        long toSecond = toEpochSecond(to);
+        long fromSecond = toEpochSecond(from);
+        int fromNano = from.getNano();
+        List<Price> prices = new ArrayList<>();
+        for (long i = firstOf(productId, brandId); i < recordCount && isKey(i, productId, brandId); i++) {
+            long offset = offset(i);
+            if (segment.get(LONG, offset + R_START) <= toSecond && endsAtOrAfter(offset, fromSecond, fromNano)) {
+                prices.add(priceAt(offset));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Primer registro cuya clave (producto, cadena) es mayor o igual que la buscada.
+     */
+    private long firstOf(long productId, long brandId) {
+        long low = 0;
+        long high = recordCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            long offset = offset(mid);
+            int cmp = compareKey(segment.get(LONG, offset + R_PRODUCT_ID), segment.get(LONG, offset + R_BRAND_ID),
+                    productId, brandId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isKey(long index, long productId, long brandId) {
+        long offset = offset(index);
+        return segment.get(LONG, offset + R_PRODUCT_ID) == productId
+                && segment.get(LONG, offset + R_BRAND_ID) == brandId;
+    }
+
+    /**
+     * La fecha de fin es inclusiva y sin fracción: un instante del mismo segundo solo está dentro si es exacto.
+     */
+    private boolean endsAtOrAfter(long offset, long second, int nano) {
+        long end = segment.get(LONG, offset + R_END);
+        return end > second || (end == second && nano == 0);
+    }
+
+    private Price priceAt(long offset) {
+        return new Price(
+                segment.get(LONG, offset + R_ID),
+                segment.get(LONG, offset + R_BRAND_ID),
+                segment.get(LONG, offset + R_PRODUCT_ID),
+                segment.get(INT, offset + R_PRICE_LIST),
+                fromEpochSecond(segment.get(LONG, offset + R_START)),
+                fromEpochSecond(segment.get(LONG, offset + R_END)),
+                BigDecimal.valueOf(segment.get(LONG, offset + R_AMOUNT), segment.get(ValueLayout.JAVA_BYTE, offset + R_SCALE)),
+                currencies[segment.get(SHORT, offset + R_CURRENCY)],
+                segment.get(INT, offset + R_PRIORITY));
+    }
+
+    private static long offset(long index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private static int compareKey(long productId, long brandId, long otherProductId, long otherBrandId) {
+        int cmp = Long.compare(productId, otherProductId);
+        return cmp != 0 ? cmp : Long.compare(brandId, otherBrandId);
+    }
+}
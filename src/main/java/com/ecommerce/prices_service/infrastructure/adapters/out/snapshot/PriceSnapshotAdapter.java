@@ -0,0 +1,277 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog.PriceChangeFeedPoller;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository.PriceChange;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptador de salida que resuelve los precios contra una {@link PriceSnapshot instantánea binaria}
+ * mapeada en memoria, generada por {@link PriceSnapshotExporter}.
+ * <p>
+ * Al arrancar se mapea el fichero (sin leerlo ni deserializarlo), por lo que el pod está listo sin
+ * esperar a cargar la tabla. La instantánea graba la versión del changelog a la que corresponde: los
+ * cambios posteriores se recuperan de {@code price_changes} y sus claves, junto con las que notifique
+ * después {@link PricesChangedEvent}, se resuelven contra la base de datos hasta que se publique una
+ * instantánea más reciente. La recuperación se apoya en la gestión de huecos de {@link PriceChangeFeedPoller}:
+ * solo se mapea una instantánea cuya versión ya haya alcanzado el sondeo local, de modo que toda versión
+ * posterior aún no confirmada llegará después como evento. Si el changelog ya no cubre la instantánea (más antigua que la retención)
+ * o acumula demasiadas claves modificadas, se descarta y se consulta la base de datos.
+ * </p>
+ * <p>
+ * Se activa con {@code prices.repository.engine=snapshot} (perfil {@code snapshot}).
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.repository.engine", havingValue = "snapshot")
+@DependsOn("priceChangeFeedPoller")
+public class PriceSnapshotAdapter implements PriceRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceSnapshotAdapter.class);
+
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final PriceChangeJdbcRepository priceChangeRepository;
+    private final PriceChangeFeedPoller changeFeedPoller;
+    private final Path path;
+    private final Duration changeFeedRetention;
+    private final int catchUpBatchSize;
+    private final int maxChangedKeys;
+    private final boolean validityRange;
+
+    private volatile State state = new State(null, ConcurrentHashMap.newKeySet());
+    // Claves modificadas mientras se prepara una nueva instantánea
+    private volatile Set<PriceKey> pendingChanges;
+
+    public PriceSnapshotAdapter(
+            PriceJdbcRepository priceJdbcRepository,
+            PriceChangeJdbcRepository priceChangeRepository,
+            PriceChangeFeedPoller changeFeedPoller,
+            MeterRegistry meterRegistry,
+            @Value("${prices.snapshot.path}") Path path,
+            @Value("${prices.change-feed.retention:P1D}") Duration changeFeedRetention,
+            @Value("${prices.change-feed.batch-size:1000}") int catchUpBatchSize,
+            @Value("${prices.snapshot.max-changed-keys:100000}") int maxChangedKeys,
+            @Value("${prices.repository.jpa.validity-range:false}") boolean validityRange) {
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.priceChangeRepository = priceChangeRepository;
+        this.changeFeedPoller = changeFeedPoller;
+        this.path = path;
+        this.changeFeedRetention = changeFeedRetention;
+        this.catchUpBatchSize = catchUpBatchSize;
+        this.maxChangedKeys = maxChangedKeys;
+        this.validityRange = validityRange;
+        Gauge.builder("prices.snapshot.version", this, adapter -> adapter.state.dataVersion())
+                .description("Versión de datos de la instantánea de precios mapeada (-1 sin instantánea)")
+                .register(meterRegistry);
+        Gauge.builder("prices.snapshot.changed-keys", this, adapter -> adapter.state.changedKeys().size())
+                .description("Claves resueltas contra la base de datos por haber cambiado tras la instantánea")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mapea la instantánea si en disco hay una versión más reciente que la actual.
+     * <p>
+     * El exportador publica el fichero con un renombrado atómico: el mapeo anterior sigue siendo
+     * válido y las lecturas en curso terminan sobre él.
+     * </p>
+     */
+    @PostConstruct
+    @Scheduled(
+            fixedDelayString = "${prices.snapshot.reload-interval:PT1M}",
+            initialDelayString = "${prices.snapshot.reload-interval:PT1M}")
+    public synchronized void reload() {
+        if (!Files.isReadable(path)) {
+            if (state.snapshot() == null) {
+                log.warn("Instantánea de precios {} no disponible; las consultas se resuelven en base de datos", path);
+            }
+            return;
+        }
+        try {
+            if (PriceSnapshot.readDataVersion(path) <= state.dataVersion()) {
+                return;
+            }
+            PriceSnapshot snapshot = PriceSnapshot.open(path);
+            if (Duration.between(snapshot.createdAt(), Instant.now()).compareTo(changeFeedRetention) > 0) {
+                log.warn("Instantánea de precios {} (versión {}) anterior a la retención del changelog; se ignora",
+                        path, snapshot.dataVersion());
+                return;
+            }
+
+            Set<PriceKey> changedKeys = ConcurrentHashMap.newKeySet();
+            pendingChanges = changedKeys;
+            try {
+                // Con el sondeo detrás (un hueco pendiente), una versión intermedia confirmada tarde no
+                // llegaría nunca como evento: se espera a la siguiente recarga
+                long processed = changeFeedPoller.currentVersion();
+                if (snapshot.dataVersion() > processed) {
+                    log.info("Instantánea de precios {} (versión {}) por delante del changelog procesado ({}); se reintentará",
+                            path, snapshot.dataVersion(), processed);
+                    return;
+                }
+                if (!catchUp(snapshot.dataVersion(), changedKeys)) {
+                    log.warn("Instantánea de precios {} (versión {}) con más de {} claves modificadas; se ignora",
+                            path, snapshot.dataVersion(), maxChangedKeys);
+                    return;
+                }
+                this.state = new State(snapshot, changedKeys);
+            } finally {
+                pendingChanges = null;
+            }
+            log.info("Instantánea de precios {} mapeada: {} tarifas, versión {}, {} claves posteriores",
+                    path, snapshot.recordCount(), snapshot.dataVersion(), changedKeys.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("No se pudo mapear la instantánea de precios {}", path, e);
+        }
+    }
+
+    /**
+     * Las claves modificadas dejan de resolverse contra la instantánea.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        state.changedKeys().addAll(event.keys());
+        Set<PriceKey> pending = pendingChanges;
+        if (pending != null) {
+            pending.addAll(event.keys());
+        }
+    }
+
+    @Override
+    public Optional<Price> findPriceByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        State current = state;
+        Optional<Price> price = current.covers(brandId, productId)
+                ? current.snapshot().findPriceByPriority(date, productId, brandId)
+                : priceJdbcRepository.findTopPrice(date, productId, brandId, validityRange);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return price;
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        long started = System.nanoTime();
+        State current = state;
+        List<Price> prices = current.covers(brandId, productId)
+                ? current.snapshot().findPricesBetween(productId, brandId, from, to)
+                : priceJdbcRepository.findOverlapping(productId, brandId, from, to);
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return prices;
+    }
+
+    /**
+     * Las claves cubiertas por la instantánea se resuelven en memoria; el resto, con una única consulta en
+     * lugar de las dos de la implementación por defecto, de modo que ganadora y tarifas solapadas se leen en
+     * la misma transacción de solo lectura (y, con réplicas, de la misma réplica).
+     */
+    @Override
+    public Optional<PriceSegment> findSegmentByPriority(LocalDateTime date, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        State current = state;
+        Optional<PriceSegment> segment;
+        if (current.covers(brandId, productId)) {
+            PriceSnapshot snapshot = current.snapshot();
+            segment = snapshot.findPriceByPriority(date, productId, brandId)
+                    .flatMap(winner -> PriceTimeline.of(
+                                    snapshot.findPricesBetween(productId, brandId, winner.startDate(), winner.endDate()))
+                            .segmentAt(date));
+        } else {
+            segment = PriceTimeline.of(priceJdbcRepository.findSegmentPrices(date, productId, brandId, validityRange))
+                    .segmentAt(date);
+        }
+        PriceRequestTrace.record(Stage.REPOSITORY, started);
+        return segment;
+    }
+
+    /**
+     * Las consultas cubiertas por la instantánea se resuelven en memoria; el resto, en un único acceso.
+     */
+    @Override
+    public Map<PriceQuery, Price> findPricesByPriority(Collection<PriceQuery> queries) {
+        State current = state;
+        Map<PriceQuery, Price> result = HashMap.newHashMap(queries.size());
+        List<PriceQuery> uncovered = new ArrayList<>();
+        for (PriceQuery query : queries) {
+            if (current.covers(query.brandId(), query.productId())) {
+                current.snapshot().findPriceByPriority(query.date(), query.productId(), query.brandId())
+                        .ifPresent(price -> result.put(query, price));
+            } else {
+                uncovered.add(query);
+            }
+        }
+        if (!uncovered.isEmpty()) {
+            result.putAll(priceJdbcRepository.findTopPrices(uncovered, validityRange));
+        }
+        return result;
+    }
+
+    /**
+     * Recorre el changelog desde la versión de la instantánea acumulando las claves modificadas.
+     * <p>
+     * Las versiones aún no visibles son posteriores a la del sondeo (que no salta un hueco hasta
+     * {@code gap-timeout}) y llegan como {@link PricesChangedEvent} a {@code pendingChanges}.
+     * </p>
+     *
+     * @return {@code false} si se supera el máximo de claves admitido.
+     */
+    private boolean catchUp(long version, Set<PriceKey> changedKeys) {
+        List<PriceChange> changes;
+        long after = version;
+        do {
+            changes = priceChangeRepository.findChangesAfter(after, catchUpBatchSize);
+            for (PriceChange change : changes) {
+                changedKeys.add(change.key());
+                after = change.version();
+            }
+            if (changedKeys.size() > maxChangedKeys) {
+                return false;
+            }
+        } while (changes.size() == catchUpBatchSize);
+        return true;
+    }
+
+    private record State(PriceSnapshot snapshot, Set<PriceKey> changedKeys) {
+
+        boolean covers(Long brandId, Long productId) {
+            return snapshot != null && !changedKeys.contains(new PriceKey(brandId, productId));
+        }
+
+        long dataVersion() {
+            return snapshot != null ? snapshot.dataVersion() : -1;
+        }
+    }
+}
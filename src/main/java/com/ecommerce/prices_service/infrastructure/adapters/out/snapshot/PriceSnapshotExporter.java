@@ -0,0 +1,96 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog.PriceChangeFeedPoller;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Exporta periódicamente la tabla {@code prices} a una {@link PriceSnapshot instantánea binaria}.
+ * <p>
+ * La versión grabada es la del {@link PriceChangeFeedPoller} (contigua: todas las anteriores están
+ * confirmadas o descartadas por su gestión de huecos), leída antes de abrir la transacción con aislamiento
+ * {@code REPEATABLE_READ} que recorre las tarifas. Así la instantánea incluye al menos todos esos cambios; los
+ * posteriores que ya recoja se vuelven a leer de base de datos en los lectores, lo que solo cuesta una
+ * consulta. La máxima versión visible no sirve: una transacción más lenta puede confirmar después una versión
+ * menor que no estaría en la instantánea.
+ * </p>
+ * <p>
+ * La transacción no se marca como de solo lectura a propósito: el sondeo lee la versión del primario, y con
+ * réplicas configuradas una transacción de solo lectura iría a una réplica que puede ir retrasada, de modo que
+ * la instantánea declararía una versión cuyos cambios no contiene y los lectores no los repetirían nunca.
+ * </p>
+ * <p>
+ * Se activa con {@code prices.snapshot.export.enabled=true} en una única instancia (o tarea programada)
+ * que escribe en el volumen compartido por los pods.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.snapshot.export.enabled", havingValue = "true")
+public class PriceSnapshotExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceSnapshotExporter.class);
+
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final PriceChangeFeedPoller changeFeedPoller;
+    private final TransactionTemplate snapshotTransaction;
+    private final Path path;
+
+    public PriceSnapshotExporter(
+            PriceJdbcRepository priceJdbcRepository,
+            PriceChangeFeedPoller changeFeedPoller,
+            TransactionTemplate transactionTemplate,
+            @Value("${prices.snapshot.path}") Path path) {
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.changeFeedPoller = changeFeedPoller;
+        this.path = path;
+        this.snapshotTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${prices.snapshot.export.interval:PT15M}",
+            initialDelayString = "${prices.snapshot.export.initial-delay:PT0S}")
+    public void scheduledExport() {
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            log.error("No se pudo exportar la instantánea de precios a {}", path, e);
+        }
+    }
+
+    /**
+     * Genera la instantánea y la publica en {@code prices.snapshot.path}.
+     *
+     * @return Versión del changelog grabada en la instantánea.
+     */
+    public long export() throws IOException {
+        long start = System.nanoTime();
+        long dataVersion = changeFeedPoller.currentVersion();
+        try {
+            long[] exported = snapshotTransaction.execute(status -> {
+                try (PriceSnapshotWriter writer = new PriceSnapshotWriter(path, dataVersion)) {
+                    priceJdbcRepository.forEachPriceInKeyOrder(writer::append);
+                    return new long[]{dataVersion, writer.commit()};
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Instantánea de precios exportada a {}: {} tarifas, versión {} en {} ms",
+                    path, exported[1], exported[0], (System.nanoTime() - start) / 1_000_000);
+            return exported[0];
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Formato binario de la instantánea de precios (versión {@value #FORMAT_VERSION}).
+ * <p>
+ * El fichero se compone de una cabecera de {@value #HEADER_SIZE} bytes, los registros de ancho fijo
+ * ({@value #RECORD_SIZE} bytes) ordenados por producto, cadena, prioridad descendente e identificador
+ * descendente, y al final la tabla de monedas (códigos ISO 4217 de 3 bytes ASCII) referenciada por
+ * índice desde cada registro. Todos los enteros son little-endian.
+ * </p>
+ * <pre>
+ * Cabecera                         Registro
+ *  0 magic            long          0 product_id       long
+ *  8 formato          int           8 brand_id         long
+ * 12 tamaño registro  int          16 start_date       long (epoch-second UTC)
+ * 16 versión datos    long         24 end_date         long (epoch-second UTC, inclusiva)
+ * 24 creación         long         32 id               long
+ * 32 nº registros     long         40 precio           long (unidades mínimas)
+ * 40 offset monedas   long         48 priority         int
+ * 48 nº monedas       int          52 price_list       int
+ *                                  56 moneda           short (índice)
+ *                                  58 escala precio    byte
+ * </pre>
+ */
+final class PriceSnapshotFormat {
+
+    /** "PRICESNP" en ASCII. */
+    static final long MAGIC = 0x5052_4943_4553_4E50L;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final int CURRENCY_CODE_SIZE = 3;
+
+    static final long H_MAGIC = 0;
+    static final long H_FORMAT_VERSION = 8;
+    static final long H_RECORD_SIZE = 12;
+    static final long H_DATA_VERSION = 16;
+    static final long H_CREATED_AT = 24;
+    static final long H_RECORD_COUNT = 32;
+    static final long H_CURRENCY_OFFSET = 40;
+    static final long H_CURRENCY_COUNT = 48;
+
+    static final long R_PRODUCT_ID = 0;
+    static final long R_BRAND_ID = 8;
+    static final long R_START = 16;
+    static final long R_END = 24;
+    static final long R_ID = 32;
+    static final long R_AMOUNT = 40;
+    static final long R_PRIORITY = 48;
+    static final long R_PRICE_LIST = 52;
+    static final long R_CURRENCY = 56;
+    static final long R_SCALE = 58;
+
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private PriceSnapshotFormat() {
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
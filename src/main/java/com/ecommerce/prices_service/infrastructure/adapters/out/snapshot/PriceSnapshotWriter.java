@@ -0,0 +1,167 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import com.ecommerce.prices_service.domain.model.Price;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.ecommerce.prices_service.infrastructure.adapters.out.snapshot.PriceSnapshotFormat.*;
+
+/**
+ * Escribe una instantánea de precios en el {@link PriceSnapshotFormat formato binario} de forma secuencial.
+ * <p>
+ * Las tarifas deben llegar ya ordenadas (producto, cadena, prioridad descendente, identificador
+ * descendente); el orden se verifica en cada registro. El fichero se genera junto al destino y solo
+ * se publica en {@link #commit()} con un renombrado atómico, por lo que los lectores que ya lo tengan
+ * mapeado conservan la versión anterior hasta que la liberen.
+ * </p>
+ */
+public class PriceSnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] PADDING = new byte[RECORD_SIZE - (int) R_SCALE - 1];
+
+    private static final Comparator<Price> ORDER = Comparator
+            .comparing(Price::productId)
+            .thenComparing(Price::brandId)
+            .thenComparing(Price::priority, Comparator.reverseOrder())
+            .thenComparing(Price::id, Comparator.reverseOrder());
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final long dataVersion;
+    private final Map<Currency, Short> currencies = new LinkedHashMap<>();
+
+    private long recordCount;
+    private Price previous;
+    private boolean committed;
+
+    /**
+     * @param target      Fichero de destino; se sustituye solo al confirmar.
+     * @param dataVersion Versión del changelog a la que corresponden los datos escritos.
+     */
+    public PriceSnapshotWriter(Path target, long dataVersion) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.dataVersion = dataVersion;
+        Files.createDirectories(this.target.getParent());
+        this.temporary = Files.createTempFile(this.target.getParent(), this.target.getFileName().toString(), ".tmp");
+        this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Añade una tarifa a la instantánea.
+     *
+     * @throws IllegalStateException    Si la tarifa no respeta el orden de la instantánea.
+     * @throws IllegalArgumentException Si sus fechas tienen fracciones de segundo.
+     */
+    public void append(Price price) {
+        if (previous != null && ORDER.compare(previous, price) > 0) {
+            throw new IllegalStateException("Tarifa %d fuera de orden tras la tarifa %d".formatted(price.id(), previous.id()));
+        }
+        if (price.startDate().getNano() != 0 || price.endDate().getNano() != 0) {
+            throw new IllegalArgumentException("La tarifa %d tiene fechas con fracciones de segundo".formatted(price.id()));
+        }
+
+        // Importe en unidades mínimas de su propia escala: se reconstruye con la misma escala que se leyó
+        BigDecimal amount = price.price();
+        short currency = currencies.computeIfAbsent(price.currency(), code -> (short) currencies.size());
+
+        ensureCapacity(RECORD_SIZE);
+        int base = buffer.position();
+        buffer.putLong(base + (int) R_PRODUCT_ID, price.productId())
+                .putLong(base + (int) R_BRAND_ID, price.brandId())
+                .putLong(base + (int) R_START, toEpochSecond(price.startDate()))
+                .putLong(base + (int) R_END, toEpochSecond(price.endDate()))
+                .putLong(base + (int) R_ID, price.id())
+                .putLong(base + (int) R_AMOUNT, amount.unscaledValue().longValueExact())
+                .putInt(base + (int) R_PRIORITY, price.priority())
+                .putInt(base + (int) R_PRICE_LIST, price.priceList())
+                .putShort(base + (int) R_CURRENCY, currency)
+                .put(base + (int) R_SCALE, (byte) amount.scale())
+                .put(base + (int) R_SCALE + 1, PADDING);
+        buffer.position(base + RECORD_SIZE);
+
+        recordCount++;
+        previous = price;
+    }
+
+    /**
+     * Completa la tabla de monedas y la cabecera y publica el fichero en su destino.
+     *
+     * @return Número de tarifas escritas.
+     */
+    public long commit() throws IOException {
+        long currencyOffset = HEADER_SIZE + recordCount * RECORD_SIZE;
+        for (Currency currency : currencies.keySet()) {
+            ensureCapacity(CURRENCY_CODE_SIZE);
+            buffer.put(currency.getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+        }
+        flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(RECORD_SIZE)
+                .putLong(dataVersion)
+                .putLong(Instant.now().getEpochSecond())
+                .putLong(recordCount)
+                .putLong(currencyOffset)
+                .putInt(currencies.size());
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+        return recordCount;
+    }
+
+    /**
+     * Descarta el fichero temporal si la instantánea no llegó a confirmarse.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,233 @@
+package com.ecommerce.prices_service.infrastructure.aspect;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorador de infraestructura que cachea los tramos de vigencia efectiva de las tarifas.
+ * <p>
+ * En lugar de indexar por la fecha exacta de la consulta, se almacena por cada {@link PriceKey} el
+ * conjunto de {@link PriceSegment} ya resueltos. Cualquier consulta posterior cuya fecha caiga dentro
+ * de un tramo conocido se sirve desde memoria, sin ocupar plazas del limitador de concurrencia ni conexiones.
+ * </p>
+ * <p>
+ * La caché está acotada por número de tramos, expira por antigüedad como red de seguridad y se
+ * invalida de forma selectiva al recibir un {@link PricesChangedEvent}. La antigüedad cuenta desde el
+ * primer tramo almacenado de la clave: añadir tramos no prorroga la vida de los que ya estaban.
+ * </p>
+ * <p>
+ * El evento nace del changelog del primario, pero los fallos se resuelven con transacciones de solo lectura
+ * que, con réplicas configuradas, pueden leer de una réplica que aún no ha aplicado el cambio y volver a
+ * cachear las tarifas antiguas. Por eso las claves modificadas se invalidan de nuevo pasado
+ * {@code prices.cache.segments.replica-reinvalidation-delay} (el retraso máximo admitido en una réplica más
+ * el periodo de su comprobación).
+ * </p>
+ *
+ * @see PriceSingleFlightDecorator
+ * @see PriceUseCaseDecorator
+ */
+@Component
+@Primary
+public class PriceSegmentCacheDecorator implements GetPriceUseCase {
+
+    private final GetPriceUseCase priceUseCase;
+    private final boolean enabled;
+    private final Cache<PriceKey, PriceTimeline> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Duration reinvalidationDelay;
+
+    // Se incrementa en cada invalidación para descartar resultados resueltos con datos anteriores
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor para la inyección del caso de uso protegido por las políticas de resiliencia.
+     *
+     * @param priceUseCase     Caso de uso que agrupa las resoluciones concurrentes y aplica las políticas de resiliencia.
+     * @param enabled          {@code false} resuelve cada consulta a través del caso de uso (p. ej. pruebas de carga).
+     * @param meterRegistry    Registro de métricas de Micrometer.
+     * @param maximumSegments  Número máximo de tramos almacenados entre todas las claves.
+     * @param expireAfterWrite Tiempo máximo de permanencia de una clave en caché, desde su primer tramo.
+     * @param reinvalidationDelay Espera hasta la segunda invalidación de las claves modificadas; cero la desactiva.
+     */
+    public PriceSegmentCacheDecorator(
+            @Qualifier("priceSingleFlightDecorator") GetPriceUseCase priceUseCase,
+            @Value("${prices.cache.segments.enabled:true}") boolean enabled,
+            MeterRegistry meterRegistry,
+            @Value("${prices.cache.segments.maximum-size:100000}") long maximumSegments,
+            @Value("${prices.cache.segments.expire-after-write:PT10M}") Duration expireAfterWrite,
+            @Value("${prices.cache.segments.replica-reinvalidation-delay:PT10S}") Duration reinvalidationDelay) {
+        this.priceUseCase = priceUseCase;
+        this.enabled = enabled;
+        this.reinvalidationDelay = reinvalidationDelay;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSegments)
+                .weigher((PriceKey key, PriceTimeline timeline) -> timeline.segments().size())
+                .expireAfter(new Expiry<PriceKey, PriceTimeline>() {
+                    @Override
+                    public long expireAfterCreate(PriceKey key, PriceTimeline timeline, long currentTime) {
+                        return expireAfterWrite.toNanos();
+                    }
+
+                    // merge sustituye la línea temporal entera: se conserva el plazo de su primer tramo
+                    @Override
+                    public long expireAfterUpdate(PriceKey key, PriceTimeline timeline, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(PriceKey key, PriceTimeline timeline, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "priceSegments");
+        this.hits = Counter.builder("prices.cache.segments.requests")
+                .description("Consultas de precio resueltas por la caché de tramos")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("prices.cache.segments.requests")
+                .description("Consultas de precio resueltas por la caché de tramos")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Price execute(LocalDateTime date, Long productId, Long brandId) {
+        return resolveSegment(date, productId, brandId).price();
+    }
+
+    /**
+     * Sirve el tramo desde caché si alguno contiene la fecha; en caso contrario lo resuelve a través
+     * del caso de uso decorado y lo incorpora a la línea temporal cacheada de la clave.
+     */
+    @Override
+    public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+        if (!enabled) {
+            return priceUseCase.resolveSegment(date, productId, brandId);
+        }
+        PriceKey key = new PriceKey(brandId, productId);
+        Optional<PriceSegment> cached = lookup(key, date);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached.get();
+        }
+
+        misses.increment();
+        long observedGeneration = generation.get();
+        PriceSegment segment = priceUseCase.resolveSegment(date, productId, brandId);
+        store(key, segment, observedGeneration);
+        return segment;
+    }
+
+    /**
+     * Consulta únicamente la caché; nunca delega en el caso de uso decorado. No cuenta como acierto ni
+     * fallo: si no hay tramo, la petición se resuelve después con {@link #resolveSegment}.
+     */
+    @Override
+    public Optional<PriceSegment> findKnownSegment(LocalDateTime date, Long productId, Long brandId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return lookup(new PriceKey(brandId, productId), date);
+    }
+
+    /**
+     * Sirve desde caché las consultas que caen en un tramo conocido y delega el resto en un único lote.
+     * <p>
+     * El lote solo devuelve tarifas, no tramos, por lo que sus resultados no se incorporan a la caché.
+     * Con la caché desactivada el lote se delega completo, sin consultarla ni contar fallos.
+     * </p>
+     */
+    @Override
+    public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+        if (!enabled) {
+            return priceUseCase.executeBatch(queries);
+        }
+        Map<PriceQuery, Price> result = HashMap.newHashMap(queries.size());
+        List<PriceQuery> pending = new ArrayList<>();
+        for (PriceQuery query : queries) {
+            lookup(new PriceKey(query.brandId(), query.productId()), query.date())
+                    .ifPresentOrElse(segment -> result.put(query, segment.price()), () -> pending.add(query));
+        }
+
+        hits.increment(queries.size() - pending.size());
+        misses.increment(pending.size());
+        if (!pending.isEmpty()) {
+            result.putAll(priceUseCase.executeBatch(pending));
+        }
+        return result;
+    }
+
+    /**
+     * La línea temporal ya se resuelve con una única consulta; se delega sin pasar por la caché.
+     */
+    @Override
+    public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return priceUseCase.resolveTimeline(productId, brandId, from, to);
+    }
+
+    /**
+     * Descarta las claves cuyas tarifas han cambiado y programa su segunda invalidación.
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        invalidate(event.keys());
+        if (reinvalidationDelay.isPositive()) {
+            CompletableFuture.delayedExecutor(reinvalidationDelay.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> invalidate(event.keys()));
+        }
+    }
+
+    private void invalidate(Set<PriceKey> keys) {
+        generation.incrementAndGet();
+        cache.invalidateAll(keys);
+    }
+
+    private Optional<PriceSegment> lookup(PriceKey key, LocalDateTime date) {
+        PriceTimeline timeline = cache.getIfPresent(key);
+        return timeline == null ? Optional.empty() : timeline.segmentAt(date);
+    }
+
+    private void store(PriceKey key, PriceSegment segment, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            return;
+        }
+        cache.asMap().merge(key, PriceTimeline.empty().with(segment), (current, added) -> current.with(segment));
+        // Una invalidación concurrente pudo llegar entre la comprobación y la escritura
+        if (generation.get() != observedGeneration) {
+            cache.invalidate(key);
+        }
+    }
+}
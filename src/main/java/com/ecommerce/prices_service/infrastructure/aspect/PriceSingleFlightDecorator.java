@@ -0,0 +1,144 @@
+package com.ecommerce.prices_service.infrastructure.aspect;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorador que agrupa las resoluciones concurrentes de una misma {@link PriceKey} en una única
+ * llamada al caso de uso protegido (<i>single-flight</i>).
+ * <p>
+ * Se sitúa entre la caché de tramos y el decorador de resiliencia: ante una ráfaga de fallos de caché
+ * sobre un mismo producto (p. ej. en una campaña), solo la primera petición ocupa plaza en el limitador
+ * y conexión de base de datos; el resto espera su resultado. Como la resolución devuelve el tramo
+ * completo, cualquier petición cuya fecha caiga dentro de él reutiliza el resultado aunque su fecha
+ * no sea idéntica; las que quedan fuera del tramo lo resuelven por su cuenta.
+ * </p>
+ * <p>
+ * Los errores se propagan a todas las peticiones agrupadas, salvo {@link PriceNotFoundException}, que
+ * solo es concluyente para la misma fecha.
+ * </p>
+ *
+ * @see PriceSegmentCacheDecorator
+ * @see PriceUseCaseDecorator
+ */
+@Component
+public class PriceSingleFlightDecorator implements GetPriceUseCase {
+
+    private final GetPriceUseCase priceUseCase;
+    private final boolean enabled;
+    private final ConcurrentHashMap<PriceKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    /**
+     * @param priceUseCase  Caso de uso decorado con el limitador de concurrencia y el Circuit Breaker.
+     * @param enabled       {@code false} deja pasar cada resolución por separado (p. ej. pruebas de carga).
+     * @param meterRegistry Registro de métricas de Micrometer.
+     */
+    public PriceSingleFlightDecorator(@Qualifier("priceUseCaseDecorator") GetPriceUseCase priceUseCase,
+                                      @Value("${prices.single-flight.enabled:true}") boolean enabled,
+                                      MeterRegistry meterRegistry) {
+        this.priceUseCase = priceUseCase;
+        this.enabled = enabled;
+        this.coalesced = Counter.builder("prices.singleflight.coalesced")
+                .description("Consultas de precio resueltas con el resultado de otra consulta en curso")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Price execute(LocalDateTime date, Long productId, Long brandId) {
+        return resolveSegment(date, productId, brandId).price();
+    }
+
+    @Override
+    public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+        if (!enabled) {
+            return priceUseCase.resolveSegment(date, productId, brandId);
+        }
+        PriceKey key = new PriceKey(brandId, productId);
+        Flight flight = new Flight(date, new CompletableFuture<>());
+        Flight inProgress = flights.putIfAbsent(key, flight);
+        if (inProgress != null) {
+            return await(inProgress, date, productId, brandId);
+        }
+
+        try {
+            PriceSegment segment = priceUseCase.resolveSegment(date, productId, brandId);
+            flight.result().complete(segment);
+            return segment;
+        } catch (RuntimeException | Error ex) {
+            flight.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * El lote ya es una única llamada a base de datos, se delega sin agrupar.
+     */
+    @Override
+    public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+        return priceUseCase.executeBatch(queries);
+    }
+
+    /**
+     * Las consultas de rango apenas se repiten de forma concurrente, se delegan sin agrupar.
+     */
+    @Override
+    public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return priceUseCase.resolveTimeline(productId, brandId, from, to);
+    }
+
+    private PriceSegment await(Flight inProgress, LocalDateTime date, Long productId, Long brandId) {
+        PriceSegment segment;
+        long waitStarted = System.nanoTime();
+        try {
+            segment = inProgress.result().join();
+        } catch (CompletionException ex) {
+            PriceRequestTrace.record(PriceRequestTrace.Stage.COALESCING, waitStarted);
+            Throwable cause = ex.getCause();
+            if (cause instanceof PriceNotFoundException && !inProgress.date().equals(date)) {
+                return priceUseCase.resolveSegment(date, productId, brandId);
+            }
+            coalesced.increment();
+            throw rethrow(cause);
+        }
+        PriceRequestTrace.record(PriceRequestTrace.Stage.COALESCING, waitStarted);
+
+        if (!segment.contains(date)) {
+            return priceUseCase.resolveSegment(date, productId, brandId);
+        }
+        coalesced.increment();
+        return segment;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return (RuntimeException) cause;
+    }
+
+    /**
+     * Resolución en curso: fecha consultada por la petición que la inició y su resultado.
+     */
+    private record Flight(LocalDateTime date, CompletableFuture<PriceSegment> result) {
+    }
+}
@@ -1,13 +1,21 @@
 package com.ecommerce.prices_service.infrastructure.aspect;
 
 import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.exception.DomainValidationException;
+import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
 import com.ecommerce.prices_service.domain.model.Price;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.ecommerce.prices_service.infrastructure.resilience.AdaptiveConcurrencyLimiter;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Decorador de infraestructura que implementa la lógica de resiliencia para el caso de uso
@@ -22,18 +30,21 @@ import java.time.LocalDateTime;
  * @see GetPriceUseCase
  */
 @Component
-@Primary
 public class PriceUseCaseDecorator implements GetPriceUseCase {
 
     private final GetPriceUseCase priceService;
+    private final AdaptiveConcurrencyLimiter limiter;
 
     /**
      * Constructor para la inyección de la implementación base del caso de uso.
      *
      * @param priceService Implementación del servicio de aplicación que contiene la lógica pura.
+     * @param limiter      Limitador de concurrencia adaptativo del servicio de precios.
      */
-    public PriceUseCaseDecorator(GetPriceUseCase priceService) {
+    public PriceUseCaseDecorator(@Qualifier("getPriceUseCase") GetPriceUseCase priceService,
+                                 @Qualifier("priceServiceLimiter") AdaptiveConcurrencyLimiter limiter) {
         this.priceService = priceService;
+        this.limiter = limiter;
     }
 
     /**
@@ -41,8 +52,9 @@ public class PriceUseCaseDecorator implements GetPriceUseCase {
      * <p>
      * Se aplican las siguientes protecciones:
      * <ul>
-     *   <li><b>Bulkhead (SEMAPHORE):</b> Limita el número de llamadas concurrentes para
-     *   prevenir la saturación de los recursos del sistema y del pool de conexiones.</li>
+     *   <li><b>Limitador adaptativo:</b> Limita el número de llamadas concurrentes con un límite que
+     *   se ajusta según la latencia observada y la espera de conexiones en Hikari, para no saturar
+     *   el pool de conexiones sin desaprovechar capacidad.</li>
      *   <li><b>Circuit Breaker:</b> Supervisa la tasa de fallos y abre el circuito para
      *   evitar llamadas a sistemas inestables o degradados.</li>
      * </ul>
@@ -55,9 +67,58 @@ public class PriceUseCaseDecorator implements GetPriceUseCase {
      * @throws PriceNotFoundException si no se encuentra un precio aplicable.
      */
     @Override
-    @Bulkhead(name = "priceService", type = Bulkhead.Type.SEMAPHORE)
     @CircuitBreaker(name = "priceService")
     public Price execute(LocalDateTime date, Long productId, Long brandId) {
-        return priceService.execute(date, productId, brandId);
+        return limited(() -> priceService.execute(date, productId, brandId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Resuelve el tramo de la tarifa vigente aplicando las mismas políticas de resiliencia que
+     * {@link #execute(LocalDateTime, Long, Long)}.
+     */
+    @Override
+    @CircuitBreaker(name = "priceService")
+    public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+        return limited(() -> priceService.resolveSegment(date, productId, brandId));
+    }
+
+    /**
+     * Resuelve un lote de consultas ocupando una única plaza del limitador, ya que se traduce
+     * en un único acceso a base de datos.
+     */
+    @Override
+    @CircuitBreaker(name = "priceService")
+    public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+        return limited(() -> priceService.executeBatch(queries));
+    }
+
+    /**
+     * Resuelve la línea temporal ocupando una única plaza del limitador (una única consulta).
+     */
+    @Override
+    @CircuitBreaker(name = "priceService")
+    public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return limited(() -> priceService.resolveTimeline(productId, brandId, from, to));
+    }
+
+    /**
+     * Ejecuta la llamada dentro del limitador. Los errores de dominio son respuestas válidas y cuentan
+     * como latencia normal; el resto se notifican como fallo de infraestructura.
+     */
+    private <T> T limited(Supplier<T> call) {
+        long waitStarted = System.nanoTime();
+        long start = limiter.acquire();
+        PriceRequestTrace.record(PriceRequestTrace.Stage.LIMITER, waitStarted);
+        boolean dropped = true;
+        try {
+            T result = call.get();
+            dropped = false;
+            return result;
+        } catch (PriceNotFoundException | DomainValidationException ex) {
+            dropped = false;
+            throw ex;
+        } finally {
+            limiter.release(start, dropped);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.ecommerce.prices_service.infrastructure.config;
 
+import com.ecommerce.prices_service.application.ports.in.ExportPricesUseCase;
 import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.application.ports.in.ImportPricesUseCase;
+import com.ecommerce.prices_service.application.ports.out.PriceBulkWriterPort;
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
 import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.ecommerce.prices_service.application.services.PriceExportService;
+import com.ecommerce.prices_service.application.services.PriceImportService;
 import com.ecommerce.prices_service.application.services.PriceService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,4 +21,22 @@ public class BeanConfiguration {
         return new PriceService(priceRepositoryPort);
     }
 
+    @Bean
+    public ExportPricesUseCase exportPricesUseCase(
+            PriceExportPort priceExportPort,
+            @Value("${prices.export.partitions:64}") int partitions,
+            @Value("${prices.export.parallelism:4}") int parallelism) {
+        return new PriceExportService(priceExportPort, partitions, parallelism);
+    }
+
+    @Bean
+    public ImportPricesUseCase importPricesUseCase(
+            PriceBulkWriterPort priceBulkWriterPort,
+            @Value("${prices.import.chunk-size:5000}") int chunkSize,
+            @Value("${prices.import.parallelism:4}") int parallelism,
+            @Value("${prices.import.max-rejections:1000}") int maxRejections,
+            @Value("${prices.import.retained-jobs:100}") int retainedJobs) {
+        return new PriceImportService(priceBulkWriterPort, chunkSize, parallelism, maxRejections, retainedJobs);
+    }
+
 }
\ No newline at end of file
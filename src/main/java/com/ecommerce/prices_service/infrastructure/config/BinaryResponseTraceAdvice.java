@@ -0,0 +1,45 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marca el inicio de la escritura de las respuestas CBOR y Smile para la etapa {@code serialization}
+ * de la traza por etapas ({@link PriceRequestTrace}).
+ * <p>
+ * El JSON de la consulta de precio se codifica en el propio controlador, pero las representaciones binarias las
+ * escribe el conversor negociado después de que el controlador devuelva el DTO. El instante se guarda en la
+ * petición y el interceptor de {@link WebMvcConfig} registra la etapa al terminar el handler, ya con el cuerpo
+ * escrito.
+ * </p>
+ */
+@ControllerAdvice
+public class BinaryResponseTraceAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SERIALIZATION_STARTED = BinaryResponseTraceAdvice.class.getName() + ".serializationStarted";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return JacksonCborHttpMessageConverter.class.isAssignableFrom(converterType)
+                || JacksonSmileHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(SERIALIZATION_STARTED, System.nanoTime());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * {@link JwtDecoder} que recuerda los tokens ya validados para no repetir el parseo y la verificación
+ * de la firma en cada petición de un mismo cliente.
+ * <p>
+ * Las entradas se indexan por el SHA-256 del token y caducan en su {@code exp}, acotado por un TTL
+ * máximo. Solo se cachean tokens válidos: cualquier error se propaga y se vuelve a evaluar en
+ * la siguiente petición. Antes de devolver una entrada se comprueba de nuevo su caducidad.
+ * </p>
+ * <p>
+ * La caché no ofrece revocación, igual que el decodificador al que envuelve: un token firmado se acepta
+ * hasta su {@code exp}. La clave HMAC solo cambia al reiniciar el servicio, lo que vacía la caché. Si el
+ * decodificador dejara de aceptar un token por otro motivo (un validador nuevo, un cambio de configuración
+ * en caliente), la caché lo seguiría aceptando como mucho durante {@code max-ttl}: ese es el retraso máximo
+ * garantizado.
+ * </p>
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Duration maxTtl;
+    private final Cache<String, Jwt> cache;
+
+    /**
+     * @param delegate      Decodificador que parsea y valida firma y claims.
+     * @param maximumSize   Número máximo de tokens recordados.
+     * @param maxTtl        Permanencia máxima de un token en caché, aunque su {@code exp} sea posterior.
+     * @param meterRegistry Registro donde se publican aciertos y fallos ({@code cache="jwtDecoder"}).
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                        return ttl(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return ttl(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtDecoder");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long started = System.nanoTime();
+        try {
+            return decodeCached(token);
+        } finally {
+            PriceRequestTrace.record(PriceRequestTrace.Stage.JWT_DECODE, started);
+        }
+    }
+
+    private Jwt decodeCached(String token) {
+        String key = sha256(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && cached.getTokenValue().equals(token) && !isExpired(cached)) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    private Duration ttl(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static boolean isExpired(Jwt jwt) {
+        return jwt.getExpiresAt() != null && !Instant.now().isBefore(jwt.getExpiresAt());
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
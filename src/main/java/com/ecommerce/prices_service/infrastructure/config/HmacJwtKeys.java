@@ -0,0 +1,54 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Esquema de la clave HMAC (HS256) de los JWT, en un único sitio.
+ * <p>
+ * {@link SecurityConfig} valida los tokens con {@link #secretKey}. Los clientes internos que se llaman a sí mismos
+ * (calentamiento, pruebas de carga y de integración) los firman con {@link #mintToken}, de modo que ambos lados
+ * derivan siempre los mismos bytes de {@code prices.security.jwt-secret}.
+ * </p>
+ */
+public final class HmacJwtKeys {
+
+    private HmacJwtKeys() {
+    }
+
+    /**
+     * Clave HMAC-SHA256 a partir de los bytes UTF-8 del secreto.
+     */
+    public static SecretKey secretKey(String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    /**
+     * Firma un token HS256 sin permisos adicionales, emitido ahora y vigente durante {@code validity}.
+     *
+     * @param secret   Secreto de {@code prices.security.jwt-secret}.
+     * @param subject  Cliente que emite el token (claim {@code sub}).
+     * @param validity Vigencia del token.
+     */
+    public static String mintToken(String secret, String subject, Duration validity) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plus(validity))
+                .build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(secretKey(secret)))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+}
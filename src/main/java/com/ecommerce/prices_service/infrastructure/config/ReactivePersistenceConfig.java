@@ -0,0 +1,60 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceReactiveUseCase;
+import com.ecommerce.prices_service.application.ports.out.ReactivePriceRepositoryPort;
+import com.ecommerce.prices_service.application.services.ReactivePriceService;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Camino de lectura no bloqueante ({@code prices.reactive.enabled}, perfil {@code reactive}).
+ * <p>
+ * El pool R2DBC se crea aquí en lugar de con la autoconfiguración de Spring Data R2DBC para que su
+ * gestor de transacciones reactivo no conviva con el de JPA: este camino solo ejecuta lecturas
+ * sueltas. El {@code DataSource} JDBC, Flyway y el resto del servicio no cambian.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "prices.reactive.enabled", havingValue = "true")
+public class ReactivePersistenceConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactivePriceConnectionPool(
+            @Value("${prices.reactive.r2dbc.url}") String url,
+            @Value("${prices.reactive.r2dbc.username:}") String username,
+            @Value("${prices.reactive.r2dbc.password:}") String password,
+            @Value("${prices.reactive.r2dbc.pool.initial-size:10}") int initialSize,
+            @Value("${prices.reactive.r2dbc.pool.max-size:50}") int maxSize,
+            @Value("${prices.reactive.r2dbc.pool.max-acquire-time:PT2S}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("PricesR2dbcPool")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactivePriceDatabaseClient(ConnectionPool reactivePriceConnectionPool) {
+        return DatabaseClient.create(reactivePriceConnectionPool);
+    }
+
+    @Bean
+    public GetPriceReactiveUseCase getPriceReactiveUseCase(ReactivePriceRepositoryPort reactivePriceRepositoryPort) {
+        return new ReactivePriceService(reactivePriceRepositoryPort);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de lectura de la base de datos de precios ({@code prices.datasource.*}).
+ *
+ * @param replicas             Réplicas disponibles; sin réplicas todo el tráfico va al primario.
+ * @param replicaMaxLag        Retraso de replicación a partir del cual una réplica sale de rotación.
+ * @param replicaCheckInterval Periodo de comprobación del retraso.
+ */
+@ConfigurationProperties("prices.datasource")
+public record ReplicaDataSourceProperties(
+        List<Replica> replicas,
+        @DefaultValue("PT5S") Duration replicaMaxLag,
+        @DefaultValue("PT5S") Duration replicaCheckInterval) {
+
+    /**
+     * @param name            Nombre de la réplica (etiqueta de métricas y logs).
+     * @param url             URL JDBC.
+     * @param maximumPoolSize Tamaño máximo de su pool Hikari.
+     * @param lagQuery        Consulta que devuelve el retraso en segundos; por defecto según el motor.
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("50") int maximumPoolSize,
+            String lagQuery) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enrutado de las lecturas a réplicas ({@code prices.datasource.replicas}).
+ * <p>
+ * El {@code dataSource} autoconfigurado (primario) se envuelve en un {@link LazyConnectionDataSourceProxy}
+ * cuyo origen de solo lectura es {@link ReplicaRoutingDataSource}: la conexión física se obtiene al
+ * ejecutar la primera sentencia, cuando ya se sabe si la transacción es de solo lectura. Flyway y las
+ * escrituras usan el primario.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "prices.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(ReplicaDataSourceProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = properties.replicas().get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + (i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("PricesReplica-" + name);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, pool, replica.lagQuery()));
+        }
+
+        var routing = new ReplicaRoutingDataSource(replicas, properties.replicaMaxLag(), meterRegistry);
+        // Primera comprobación antes de servir tráfico: las réplicas arrancan fuera de rotación
+        routing.checkReplicas();
+        return routing;
+    }
+
+    /**
+     * Envuelve el {@code dataSource} primario sin redefinir su configuración ({@code spring.datasource.*}).
+     */
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(ObjectProvider<ReplicaRoutingDataSource> routing) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                    return bean;
+                }
+                ReplicaRoutingDataSource replicas = routing.getObject();
+                replicas.setPrimary(primary);
+                LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+                proxy.setReadOnlyDataSource(replicas);
+                return proxy;
+            }
+        };
+    }
+}
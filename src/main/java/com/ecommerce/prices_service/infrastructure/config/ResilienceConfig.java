@@ -0,0 +1,61 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.routing.ReplicaRoutingDataSource;
+import com.ecommerce.prices_service.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.IntSupplier;
+
+/**
+ * Configuración del control de concurrencia del caso de uso de consulta de precios.
+ * <p>
+ * La espera de conexiones que reduce el límite suma el pool del primario y, si hay réplicas de lectura,
+ * los de todas ellas: las consultas de precio se sirven desde las réplicas.
+ * </p>
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter priceServiceLimiter(
+            DataSource dataSource,
+            ObjectProvider<ReplicaRoutingDataSource> replicas,
+            MeterRegistry meterRegistry,
+            @Value("${prices.limiter.initial-limit:20}") int initialLimit,
+            @Value("${prices.limiter.min-limit:5}") int minLimit,
+            @Value("${prices.limiter.max-limit:200}") int maxLimit,
+            @Value("${prices.limiter.smoothing:0.2}") double smoothing,
+            @Value("${prices.limiter.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${prices.limiter.long-window:600}") int longWindow) throws SQLException {
+        var settings = new AdaptiveConcurrencyLimiter.Settings(
+                initialLimit, minLimit, maxLimit, smoothing, rttTolerance, longWindow);
+        IntSupplier primary = pendingConnections(dataSource);
+        ReplicaRoutingDataSource routing = replicas.getIfAvailable();
+        IntSupplier pending = routing == null
+                ? primary
+                : () -> primary.getAsInt() + routing.getThreadsAwaitingConnection();
+        return new AdaptiveConcurrencyLimiter("priceService", settings, pending, meterRegistry);
+    }
+
+    /**
+     * Hilos esperando conexión en el pool Hikari del primario; el pool se crea de forma perezosa, hasta entonces no hay espera.
+     */
+    private static IntSupplier pendingConnections(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return () -> 0;
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        return () -> {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas de mantenimiento (recarga de índices, refrescos de caché).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
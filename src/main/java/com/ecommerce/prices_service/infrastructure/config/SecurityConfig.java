@@ -1,5 +1,7 @@
 package com.ecommerce.prices_service.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,7 +13,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
 
 /**
  * <h2>SecurityConfig</h2>
@@ -26,8 +28,17 @@ import javax.crypto.spec.SecretKeySpec;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    // En producción esto vendría de un Secret de Kubernetes o Vault
-    private final String JWT_SECRET = "esta-es-una-clave-secreta-de-32-caracteres-minimo";
+    /**
+     * Permiso necesario para la carga masiva de tarifas: claim {@code scope} del token con {@code prices:import}.
+     */
+    public static final String IMPORT_AUTHORITY = "SCOPE_prices:import";
+
+    // En producción esto vendría de un Secret de Kubernetes o Vault (variable PRICES_JWT_SECRET)
+    private final String jwtSecret;
+
+    public SecurityConfig(@Value("${prices.security.jwt-secret}") String jwtSecret) {
+        this.jwtSecret = jwtSecret;
+    }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -38,8 +49,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Públicos: Salud del sistema y documentación
                         .requestMatchers("/actuator/health/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // Carga masiva: escribe tarifas, solo para clientes con el permiso dedicado
+                        .requestMatchers("/api/v1/prices/imports/**").hasAuthority(IMPORT_AUTHORITY)
                         // Protegidos: La API de precios y las métricas detalladas (Prometheus)
-                        .requestMatchers("/api/v1/prices/**").authenticated()
+                        .requestMatchers("/api/v1/prices/**", "/api/v1/prices:batch").authenticated()
                         .requestMatchers("/actuator/prometheus").authenticated()
                         // El resto, por seguridad, siempre autenticado
                         .anyRequest().authenticated()
@@ -49,10 +62,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Decodificador HMAC envuelto en una caché de tokens ya validados: los clientes reutilizan el mismo
+     * token durante minutos, por lo que la firma solo se verifica la primera vez.
+     */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withSecretKey(
-                new SecretKeySpec(JWT_SECRET.getBytes(), "HmacSHA256")
-        ).build();
+    public JwtDecoder jwtDecoder(
+            MeterRegistry meterRegistry,
+            @Value("${prices.security.jwt-cache.maximum-size:10000}") long maximumSize,
+            @Value("${prices.security.jwt-cache.max-ttl:PT5M}") Duration maxTtl) {
+        JwtDecoder nimbusDecoder = NimbusJwtDecoder.withSecretKey(HmacJwtKeys.secretKey(jwtSecret)).build();
+        return new CachingJwtDecoder(nimbusDecoder, maximumSize, maxTtl, meterRegistry);
     }
 }
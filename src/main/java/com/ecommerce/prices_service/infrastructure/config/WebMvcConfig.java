@@ -0,0 +1,66 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * <h2>WebMvcConfig</h2>
+ * Personalización de Spring MVC para la API de precios.
+ * <p>
+ * Registra el interceptor que delimita las etapas {@code validation} y, en las respuestas binarias,
+ * {@code serialization} de la traza por etapas ({@link PriceRequestTrace}) y añade los conversores CBOR y Smile para la negociación por {@code Accept}.
+ * </p>
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /**
+     * Marca la entrada al handler para medir el binding y la validación de parámetros hasta que el
+     * controlador toma el control. Al salir del handler el cuerpo ya está escrito: si lo escribió un conversor
+     * binario, registra su escritura ({@link BinaryResponseTraceAdvice}).
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                PriceRequestTrace.checkpoint();
+                return true;
+            }
+
+            @Override
+            public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                   ModelAndView modelAndView) {
+                if (request.getAttribute(BinaryResponseTraceAdvice.SERIALIZATION_STARTED) instanceof Long started) {
+                    PriceRequestTrace.record(PriceRequestTrace.Stage.SERIALIZATION, started);
+                }
+            }
+        }).addPathPatterns("/api/v1/prices");
+    }
+
+    /**
+     * Formatos binarios para los clientes JVM internos, elegidos por la cabecera {@code Accept}.
+     * <p>
+     * Se registran en sus posiciones estándar, detrás del conversor JSON: una petición sin {@code Accept}
+     * o con un comodín sigue recibiendo JSON. Los mapeadores usan la configuración por defecto de
+     * Jackson, igual que el JSON (fechas ISO 8601 e importes decimales exactos), para que el DTO
+     * deserializado sea idéntico en los tres formatos.
+     * </p>
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(CBORMapper.builder().build()))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(SmileMapper.builder().build()));
+    }
+}
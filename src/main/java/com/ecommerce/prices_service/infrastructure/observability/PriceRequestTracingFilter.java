@@ -0,0 +1,91 @@
+package com.ecommerce.prices_service.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Traza por etapas las consultas {@code GET /api/v1/prices}.
+ * <p>
+ * Se ejecuta antes de la cadena de Spring Security para incluir la decodificación del JWT. Al
+ * responder publica el desglose en {@link PriceStageMetrics} y, si la petición supera
+ * {@code prices.tracing.slow-threshold}, lo registra en el log junto a los parámetros. Los logs de
+ * peticiones lentas se limitan a {@code prices.tracing.slow-log-per-second} para no agravar una
+ * degradación con una avalancha de trazas.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PriceRequestTracingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceRequestTracingFilter.class);
+    private static final String PRICES_PATH = "/api/v1/prices";
+
+    private final PriceStageMetrics stageMetrics;
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+    private final int slowLogPerSecond;
+    private final AtomicLong slowLogSecond = new AtomicLong();
+    private final AtomicInteger slowLogged = new AtomicInteger();
+
+    public PriceRequestTracingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${prices.tracing.enabled:true}") boolean enabled,
+            @Value("${prices.tracing.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${prices.tracing.slow-log-per-second:10}") int slowLogPerSecond) {
+        this.stageMetrics = new PriceStageMetrics(meterRegistry);
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogPerSecond = slowLogPerSecond;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod()) || !PRICES_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PriceRequestTrace trace = PriceRequestTrace.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PriceRequestTrace.end();
+            long elapsed = trace.elapsedNanos();
+            int status = response.getStatus();
+            stageMetrics.record(trace, PriceStageMetrics.Outcome.of(status));
+            if (elapsed > slowThresholdNanos && sampleSlowLog(System.currentTimeMillis())) {
+                log.warn("Consulta de precio lenta: {} ms ?{} -> {} | {}",
+                        String.format("%.1f", elapsed / 1_000_000d), request.getQueryString(), status,
+                        trace.breakdown());
+            }
+        }
+    }
+
+    /**
+     * Admite como mucho {@code slowLogPerSecond} trazas lentas por segundo de reloj.
+     */
+    boolean sampleSlowLog(long nowMillis) {
+        long second = nowMillis / 1_000;
+        long current = slowLogSecond.get();
+        if (current != second && slowLogSecond.compareAndSet(current, second)) {
+            slowLogged.set(0);
+        }
+        return slowLogged.incrementAndGet() <= slowLogPerSecond;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.prices_service.infrastructure.observability;
+
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace.Stage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica el desglose de una {@link PriceRequestTrace} como timers {@code prices.request.stage}
+ * etiquetados por etapa y resultado, con histograma de percentiles para Prometheus.
+ * <p>
+ * Los timers se crean al inicio para que el registro por petición no busque en el registro de Micrometer.
+ * Solo se registran las etapas que se han ejecutado (p. ej. no hay {@code repository} si el tramo
+ * estaba en caché).
+ * </p>
+ */
+public class PriceStageMetrics {
+
+    /**
+     * Resultado de la petición derivado del código HTTP.
+     */
+    public enum Outcome {
+        FOUND("found"),
+        NOT_FOUND("not_found"),
+        REJECTED("rejected"),
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        public static Outcome of(int status) {
+            if (status < 400) {
+                return FOUND;
+            }
+            return switch (status) {
+                case 404 -> NOT_FOUND;
+                case 429, 503 -> REJECTED;
+                default -> ERROR;
+            };
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Timer[][] timers = new Timer[STAGES.length][Outcome.values().length];
+
+    public PriceStageMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : STAGES) {
+            for (Outcome outcome : Outcome.values()) {
+                timers[stage.ordinal()][outcome.ordinal()] = Timer.builder("prices.request.stage")
+                        .description("Tiempo de cada etapa de una consulta de precio")
+                        .tag("stage", stage.tag())
+                        .tag("outcome", outcome.tag)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    public void record(PriceRequestTrace trace, Outcome outcome) {
+        for (Stage stage : STAGES) {
+            long nanos = trace.stageNanos(stage);
+            if (nanos > 0) {
+                timers[stage.ordinal()][outcome.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.ecommerce.prices_service.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de concurrencia adaptativo basado en el gradiente de latencia (estilo Gradient2/Vegas).
+ * <p>
+ * Sustituye a un bulkhead de tamaño fijo: el límite se recalcula con cada llamada completada
+ * comparando su latencia con la media a largo plazo.
+ * <ul>
+ *   <li>Si la latencia se mantiene dentro de la tolerancia, el límite crece en {@code √límite}
+ *   (margen de cola), siempre que la carga real lo esté aprovechando.</li>
+ *   <li>Si la latencia crece (colas en base de datos, plan de ejecución degradado), el límite se reduce
+ *   en proporción al gradiente {@code tolerancia · rttLargo / rtt}.</li>
+ *   <li>Si hay hilos esperando conexión en Hikari o la llamada falla por infraestructura, se reduce
+ *   de forma multiplicativa sin esperar a que la latencia lo refleje.</li>
+ * </ul>
+ * Los cambios se suavizan para no oscilar y el límite queda acotado entre un mínimo y un máximo.
+ * </p>
+ * <p>
+ * A diferencia del bulkhead anterior, que esperaba hasta {@code maxWaitDuration} (500 ms) a que quedase una
+ * plaza libre, las llamadas que exceden el límite se rechazan de inmediato (429 con {@code Retry-After}).
+ * Esperar dentro del servicio ocultaría la congestión que mide el algoritmo y alargaría la latencia de
+ * todas las peticiones; el reintento con espera queda en manos del cliente.
+ * </p>
+ * <p>
+ * Publica en Micrometer el límite actual, las llamadas en curso y los rechazos
+ * ({@code prices.limiter.*}, etiqueta {@code name}).
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longWindowAlpha;
+    private final IntSupplier pendingConnections;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final Counter rejections;
+
+    private volatile double limit;
+
+    // Media exponencial de la latencia (ns), protegida por updateLock
+    private double longRtt;
+
+    /**
+     * @param name               Nombre del limitador (etiqueta de las métricas).
+     * @param settings           Parámetros del algoritmo.
+     * @param pendingConnections Hilos esperando una conexión del pool (señal temprana de congestión).
+     * @param meterRegistry      Registro de métricas de Micrometer.
+     */
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, IntSupplier pendingConnections,
+                                      MeterRegistry meterRegistry) {
+        this(name, settings, pendingConnections, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock Fuente de tiempo monótona en nanosegundos con la que se mide la latencia de cada llamada.
+     */
+    AdaptiveConcurrencyLimiter(String name, Settings settings, IntSupplier pendingConnections,
+                               MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.nanoClock = nanoClock;
+        this.minLimit = Math.max(1, settings.minLimit());
+        this.maxLimit = Math.max(this.minLimit, settings.maxLimit());
+        this.smoothing = settings.smoothing();
+        this.rttTolerance = settings.rttTolerance();
+        this.longWindowAlpha = 2.0 / (settings.longWindow() + 1);
+        this.pendingConnections = pendingConnections;
+        this.limit = Math.clamp(settings.initialLimit(), this.minLimit, this.maxLimit);
+
+        Gauge.builder("prices.limiter.limit", this, l -> l.limit)
+                .description("Límite de concurrencia calculado")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("prices.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("Llamadas en curso dentro del limitador")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("prices.limiter.rejections")
+                .description("Llamadas rechazadas por falta de capacidad")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva una plaza o rechaza la llamada, sin esperar a que se libere ninguna.
+     *
+     * @return Marca de tiempo de inicio que debe pasarse a {@link #release(long, boolean)}.
+     * @throws ConcurrencyLimitExceededException si las llamadas en curso alcanzan el límite.
+     */
+    public long acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            int currentLimit = (int) limit;
+            if (current >= currentLimit) {
+                rejections.increment();
+                throw new ConcurrencyLimitExceededException(name, currentLimit);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Libera la plaza y ajusta el límite con la latencia observada.
+     *
+     * @param startNanos Valor devuelto por {@link #acquire()}.
+     * @param dropped    {@code true} si la llamada falló por la infraestructura (timeout, conexión...).
+     */
+    public void release(long startNanos, boolean dropped) {
+        long rtt = Math.max(1, nanoClock.getAsLong() - startNanos);
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        // Si otro hilo está recalculando se descarta la muestra: no bloquea el camino de respuesta
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rtt, inFlightAtCompletion, dropped);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rtt, int inFlightAtCompletion, boolean dropped) {
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) * longWindowAlpha;
+
+        double current = limit;
+        double target;
+        if (dropped || pendingConnections.getAsInt() > 0) {
+            target = current * BACKOFF_RATIO;
+        } else if (inFlightAtCompletion < current / 2) {
+            // La carga no usa ni la mitad del límite: no hay evidencia para moverlo
+            return;
+        } else {
+            double gradient = Math.clamp(rttTolerance * longRtt / rtt, MIN_GRADIENT, 1.0);
+            target = current * gradient + Math.sqrt(current);
+        }
+
+        limit = Math.clamp(current * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+
+        // Tras una sobrecarga la media larga queda inflada; se acerca al valor actual para recuperar
+        if (longRtt > 2.0 * rtt) {
+            longRtt *= 0.95;
+        }
+    }
+
+    /**
+     * Parámetros del algoritmo.
+     *
+     * @param initialLimit Límite de partida.
+     * @param minLimit     Límite mínimo (nunca se rechaza por debajo).
+     * @param maxLimit     Límite máximo.
+     * @param smoothing    Peso de cada nuevo cálculo sobre el límite vigente (0-1).
+     * @param rttTolerance Incremento de latencia tolerado sobre la media larga antes de reducir.
+     * @param longWindow   Número de muestras de la media larga de latencia.
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                           double rttTolerance, int longWindow) {
+    }
+}
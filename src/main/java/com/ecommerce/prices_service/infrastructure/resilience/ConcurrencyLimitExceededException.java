@@ -0,0 +1,14 @@
+package com.ecommerce.prices_service.infrastructure.resilience;
+
+/**
+ * La llamada se rechaza porque el limitador adaptativo no tiene capacidad libre.
+ * <p>
+ * Se lanza en ráfagas durante una sobrecarga, por lo que no captura la traza de pila.
+ * </p>
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String name, int limit) {
+        super("Límite de concurrencia alcanzado en '" + name + "' (" + limit + " llamadas)", null, false, false);
+    }
+}
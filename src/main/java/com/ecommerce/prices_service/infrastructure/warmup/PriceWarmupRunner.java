@@ -0,0 +1,288 @@
+package com.ecommerce.prices_service.infrastructure.warmup;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.aspect.PriceUseCaseDecorator;
+import com.ecommerce.prices_service.infrastructure.config.HmacJwtKeys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calienta el camino de consulta de precios antes de que el servicio acepte tráfico.
+ * <p>
+ * Spring Boot publica {@code ReadinessState.ACCEPTING_TRAFFIC} al terminar los {@link ApplicationRunner},
+ * así que mientras dura el calentamiento la sonda {@code /actuator/health/readiness} responde
+ * {@code OUT_OF_SERVICE} y Kubernetes no envía peticiones al pod; la de liveness ya está en {@code UP}.
+ * </p>
+ * <p>
+ * Se repiten {@code prices.warmup.requests} consultas sobre una muestra de tarifas reales, consultadas al
+ * inicio, a mitad y al final de su vigencia, con {@code prices.warmup.concurrency} hilos virtuales
+ * (por defecto el {@code minimum-idle} de Hikari, para preparar las sentencias en todas sus conexiones).
+ * Cada consulta se envía por HTTP a {@code localhost:local.server.port} con un JWT firmado con
+ * {@code prices.security.jwt-secret}, alternando JSON, CBOR y Smile en {@code Accept}: así se calientan la
+ * cadena de seguridad y el decodificador de tokens, el filtro de traza, la validación, la caché de tramos y
+ * los conversores, igual que con el tráfico real. Antes, cada consulta se resuelve también con
+ * {@link PriceUseCaseDecorator}: la caché de tramos respondería desde memoria a partir de la primera vuelta,
+ * y el decorador de resiliencia lleva todas las repeticiones hasta el adaptador de persistencia. Sin
+ * servidor web (contextos de prueba sin puerto) solo se calienta esta segunda parte.
+ * </p>
+ * <p>
+ * Al terminar se mide una vuelta secuencial sobre la muestra y se publican {@code prices.warmup.duration},
+ * {@code prices.warmup.requests} y {@code prices.warmup.latency}. Un fallo del calentamiento no impide el
+ * arranque: solo se registra en el log. Se activa con {@code prices.warmup.enabled=true}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "prices.warmup.enabled", havingValue = "true")
+public class PriceWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceWarmupRunner.class);
+
+    /**
+     * Resultado del calentamiento.
+     *
+     * @param duration Tiempo total, incluida la muestra y la vuelta de medición.
+     * @param requests Consultas repetidas.
+     * @param failures Consultas fallidas (errores distintos de tarifa no encontrada).
+     * @param p50      Mediana de latencia de la vuelta de medición posterior.
+     * @param p99      Percentil 99 de latencia de la vuelta de medición posterior.
+     * @param max      Latencia máxima de la vuelta de medición posterior.
+     */
+    public record Report(Duration duration, long requests, long failures, Duration p50, Duration p99, Duration max) {
+    }
+
+    private static final String PRICE_PATH = "/api/v1/prices";
+
+    private static final List<String> ACCEPTS = List.of(MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile");
+
+    private final GetPriceUseCase uncachedUseCase;
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final String jwtSecret;
+    private final int sampleSize;
+    private final long requests;
+    private final int concurrency;
+    private final Duration maxDuration;
+    private final Timer latency;
+
+    public PriceWarmupRunner(
+            PriceUseCaseDecorator uncachedUseCase,
+            PriceJdbcRepository priceJdbcRepository,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${prices.security.jwt-secret}") String jwtSecret,
+            @Value("${prices.warmup.sample-size:500}") int sampleSize,
+            @Value("${prices.warmup.requests:20000}") long requests,
+            @Value("${prices.warmup.concurrency:${spring.datasource.hikari.minimum-idle:10}}") int concurrency,
+            @Value("${prices.warmup.max-duration:PT60S}") Duration maxDuration) {
+        this.uncachedUseCase = uncachedUseCase;
+        this.priceJdbcRepository = priceJdbcRepository;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.jwtSecret = jwtSecret;
+        this.sampleSize = sampleSize;
+        this.requests = requests;
+        this.concurrency = concurrency;
+        this.maxDuration = maxDuration;
+        this.latency = Timer.builder("prices.warmup.latency")
+                .description("Latencia de la vuelta de medición posterior al calentamiento")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            log.warn("Calentamiento del camino de consulta interrumpido; el servicio arranca en frío", e);
+        }
+    }
+
+    /**
+     * Ejecuta el calentamiento completo y publica su resultado.
+     *
+     * @return Resultado del calentamiento; sin consultas si la tabla de precios está vacía.
+     */
+    public Report warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+
+        List<PriceQuery> queries = sampleQueries();
+        if (queries.isEmpty()) {
+            log.warn("Calentamiento omitido: no hay tarifas que consultar");
+            return publish(new Report(Duration.ZERO, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO));
+        }
+
+        Loopback loopback = loopback(maxDuration);
+        if (loopback == null) {
+            log.info("Calentamiento sin servidor web: solo se resuelven las consultas contra la persistencia");
+        }
+
+        AtomicLong next = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.execute(() -> {
+                    long i;
+                    while ((i = next.getAndIncrement()) < requests && System.nanoTime() < deadline) {
+                        replay(loopback, queries.get((int) (i % queries.size())),
+                                ACCEPTS.get((int) (i % ACCEPTS.size())), failures);
+                        completed.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            if (loopback != null) {
+                loopback.client().close();
+            }
+        }
+
+        long[] nanos = new long[queries.size()];
+        for (int i = 0; i < nanos.length; i++) {
+            long callStarted = System.nanoTime();
+            resolve(queries.get(i), failures);
+            nanos[i] = System.nanoTime() - callStarted;
+            latency.record(nanos[i], TimeUnit.NANOSECONDS);
+        }
+        Arrays.sort(nanos);
+
+        Report report = new Report(Duration.ofNanos(System.nanoTime() - start), completed.get(), failures.get(),
+                Duration.ofNanos(percentile(nanos, 0.5)), Duration.ofNanos(percentile(nanos, 0.99)),
+                Duration.ofNanos(nanos[nanos.length - 1]));
+        log.info("Calentamiento completado en {} ms: {} consultas repetidas ({} fallidas) sobre {} claves; "
+                        + "latencia posterior p50={} µs p99={} µs max={} µs",
+                report.duration().toMillis(), report.requests(), report.failures(), queries.size(),
+                report.p50().toNanos() / 1_000, report.p99().toNanos() / 1_000, report.max().toNanos() / 1_000);
+        return publish(report);
+    }
+
+    private List<PriceQuery> sampleQueries() {
+        SplittableRandom random = new SplittableRandom();
+        List<PriceQuery> queries = new ArrayList<>(sampleSize * 3);
+        for (Price price : priceJdbcRepository.findSample(sampleSize, random)) {
+            Duration validity = Duration.between(price.startDate(), price.endDate());
+            queries.add(new PriceQuery(price.startDate(), price.productId(), price.brandId()));
+            queries.add(new PriceQuery(price.startDate().plus(validity.dividedBy(2)), price.productId(), price.brandId()));
+            queries.add(new PriceQuery(price.endDate(), price.productId(), price.brandId()));
+        }
+        Collections.shuffle(queries, random);
+        return queries;
+    }
+
+    /**
+     * Cliente HTTP y token para repetir las consultas contra el propio servidor.
+     */
+    private record Loopback(HttpClient client, URI base, String authorization) {
+    }
+
+    /**
+     * @return El cliente contra {@code localhost}, o {@code null} si no hay servidor web escuchando.
+     */
+    private Loopback loopback(Duration validity) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            return null;
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        // Token de servicio vigente durante todo el calentamiento
+        String token = HmacJwtKeys.mintToken(jwtSecret, "prices-warmup", validity.plusMinutes(1));
+        return new Loopback(client, URI.create("http://localhost:" + port + PRICE_PATH), "Bearer " + token);
+    }
+
+    private void replay(Loopback loopback, PriceQuery query, String accept, AtomicLong failures) {
+        if (!resolve(query, failures) || loopback == null) {
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(loopback.base() + "?applicationDate=" + query.date()
+                        + "&productId=" + query.productId() + "&brandId=" + query.brandId()))
+                .header(HttpHeaders.AUTHORIZATION, loopback.authorization())
+                .header(HttpHeaders.ACCEPT, accept)
+                .GET()
+                .build();
+        try {
+            int status = loopback.client().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            // 404 es una respuesta válida: también es un camino que se sirve en producción
+            if (status != HttpStatus.OK.value() && status != HttpStatus.NOT_FOUND.value()) {
+                failed(failures, new IllegalStateException("Respuesta HTTP " + status + " a " + request.uri()));
+            }
+        } catch (IOException e) {
+            failed(failures, new IllegalStateException("Consulta HTTP fallida a " + request.uri(), e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed(failures, new IllegalStateException("Calentamiento interrumpido", e));
+        }
+    }
+
+    private boolean resolve(PriceQuery query, AtomicLong failures) {
+        try {
+            uncachedUseCase.resolveSegment(query.date(), query.productId(), query.brandId());
+            return true;
+        } catch (PriceNotFoundException e) {
+            return true;
+        } catch (RuntimeException e) {
+            failed(failures, e);
+            return false;
+        }
+    }
+
+    private static void failed(AtomicLong failures, RuntimeException e) {
+        // Solo la primera traza: si la base de datos no responde fallarán todas por lo mismo
+        if (failures.getAndIncrement() == 0) {
+            log.warn("Consulta de calentamiento fallida", e);
+        }
+    }
+
+    private Report publish(Report report) {
+        TimeGauge.builder("prices.warmup.duration", report, TimeUnit.NANOSECONDS, r -> r.duration().toNanos())
+                .description("Duración del calentamiento previo a aceptar tráfico")
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("prices.warmup.requests", report, Report::requests)
+                .description("Consultas repetidas durante el calentamiento")
+                .strongReference(true)
+                .register(meterRegistry);
+        return report;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Script de migración V3: Línea temporal de precios efectivos.
+ */
+
+-- Tramos disjuntos por (brand_id, product_id) con únicamente la tarifa ganadora.
+-- segment_start es inclusivo; segment_end es el último instante representable del tramo.
+-- Si por precisión de TIMESTAMP dos tramos consecutivos comparten extremo, prevalece el que
+-- empieza más tarde, ya que la consulta selecciona el último segment_start <= :date.
+CREATE TABLE price_timeline (
+    brand_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    segment_start TIMESTAMP NOT NULL,
+    segment_end TIMESTAMP NOT NULL,
+    price_id BIGINT NOT NULL,
+    priority INTEGER NOT NULL,
+    -- La clave primaria es el índice de búsqueda: una única búsqueda descendente por segment_start
+    PRIMARY KEY (product_id, brand_id, segment_start)
+);
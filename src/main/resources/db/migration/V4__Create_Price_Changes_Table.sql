@@ -0,0 +1,15 @@
+/**
+ * Script de migración V4: Registro de cambios (changelog) de la tabla de precios.
+ */
+
+-- Cada escritura sobre prices deja una fila por (brand_id, product_id) afectado.
+-- version es monótonamente creciente y actúa como versión global de los datos.
+-- Los triggers que lo mantienen dependen del motor (db/vendor/{vendor}).
+CREATE TABLE price_changes (
+    version BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    brand_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_price_changes_changed_at ON price_changes (changed_at);
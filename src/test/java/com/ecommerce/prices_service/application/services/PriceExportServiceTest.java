@@ -0,0 +1,120 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.out.PriceExportPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Exportación - Resolución paralela del catálogo por rangos de producto")
+class PriceExportServiceTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private final List<Price> catalog = randomCatalog(new SplittableRandom(42), 500);
+
+    @Test
+    @DisplayName("Cada instante devuelve la misma tarifa ganadora que la selección de findTopPrice")
+    void resolveCatalog_ShouldMatchSequentialSelection_ForEveryKeyAndInstant() {
+        List<LocalDateTime> instants = List.of(ORIGIN.plusDays(3), ORIGIN.plusDays(1), ORIGIN.plusDays(6).plusHours(7),
+                ORIGIN.plusDays(1));
+
+        List<PriceCatalogSnapshot> snapshots = new PriceExportService(port(), 7, 4).resolveCatalog(instants);
+
+        assertThat(snapshots).extracting(PriceCatalogSnapshot::instant)
+                .containsExactly(ORIGIN.plusDays(1), ORIGIN.plusDays(3), ORIGIN.plusDays(6).plusHours(7));
+        for (PriceCatalogSnapshot snapshot : snapshots) {
+            assertThat(snapshot.prices()).as("instante=%s", snapshot.instant())
+                    .containsExactlyElementsOf(expectedWinners(snapshot.instant()));
+        }
+    }
+
+    @Test
+    @DisplayName("El resultado no depende del número de particiones ni de hilos")
+    void resolveCatalog_ShouldNotDependOnPartitioning() {
+        List<LocalDateTime> instants = List.of(ORIGIN.plusDays(2), ORIGIN.plusDays(5));
+
+        List<PriceCatalogSnapshot> sequential = new PriceExportService(port(), 1, 1).resolveCatalog(instants);
+
+        for (int partitions : new int[]{2, 3, 64, 10_000}) {
+            assertThat(new PriceExportService(port(), partitions, 8).resolveCatalog(instants))
+                    .as("particiones=%d", partitions)
+                    .isEqualTo(sequential);
+        }
+    }
+
+    @Test
+    @DisplayName("Las particiones nunca parten las tarifas de un producto")
+    void partitionBounds_ShouldAlignWithProducts() {
+        int[] bounds = PriceExportService.partitionBounds(catalog, 13);
+
+        assertThat(bounds[0]).isZero();
+        assertThat(bounds[bounds.length - 1]).isEqualTo(catalog.size());
+        for (int i = 1; i < bounds.length - 1; i++) {
+            assertThat(catalog.get(bounds[i]).productId()).isNotEqualTo(catalog.get(bounds[i] - 1).productId());
+        }
+    }
+
+    private List<Price> expectedWinners(LocalDateTime instant) {
+        return catalog.stream()
+                .filter(price -> price.isApplicableAt(instant))
+                .collect(Collectors.groupingBy(
+                        price -> List.of(price.productId(), price.brandId()),
+                        Collectors.maxBy(PriceTimeline.PRECEDENCE)))
+                .values().stream()
+                .map(Optional::orElseThrow)
+                .sorted(Comparator.comparing(Price::productId).thenComparing(Price::brandId))
+                .toList();
+    }
+
+    private PriceExportPort port() {
+        return new PriceExportPort() {
+            @Override
+            public long forEachWinningPrice(Long brandId, LocalDateTime date, Consumer<Price> consumer) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Price> findPricesOverlapping(LocalDateTime from, LocalDateTime to) {
+                return catalog.stream()
+                        .filter(price -> !price.startDate().isAfter(to) && !price.endDate().isBefore(from))
+                        .toList();
+            }
+        };
+    }
+
+    /**
+     * Tarifas solapadas de varios productos y cadenas, con empates de prioridad, ordenadas por producto y cadena.
+     */
+    private static List<Price> randomCatalog(SplittableRandom random, int products) {
+        List<Price> prices = new ArrayList<>();
+        long id = 1;
+        for (long product = 1; product <= products; product++) {
+            int brands = 1 + random.nextInt(3);
+            for (long brand = 1; brand <= brands; brand++) {
+                for (int i = 0, tariffs = random.nextInt(0, 6); i < tariffs; i++) {
+                    LocalDateTime start = ORIGIN.plusHours(random.nextLong(7 * 24));
+                    LocalDateTime end = start.plusHours(random.nextLong(1, 5 * 24)).minusSeconds(1);
+                    prices.add(new Price(id++, brand, product, i + 1, start, end,
+                            BigDecimal.valueOf(1000 + random.nextInt(9000), 2), EUR, random.nextInt(3)));
+                }
+            }
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.out.PriceBulkWriterPort;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceImportJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Carga masiva - Estado de las cargas en segundo plano")
+class PriceImportServiceTest {
+
+    private static final String CSV = """
+            brand_id,product_id,price_list,start_date,end_date,priority,price,currency
+            3,77777,1,2024-01-01T00:00:00,2024-12-31T23:59:59,0,10.00,EUR
+            3,77777,2,2024-06-01T00:00:00,2024-05-01T00:00:00,1,8.00,EUR
+            3,77777,3,2024-06-01T00:00:00,2024-06-30T23:59:59,1,9.00,EUR
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Mientras se ejecuta, el estado publica las filas leídas, insertadas y rechazadas hasta el momento")
+    void findJob_ShouldExposeProgress_WhileRunning() throws Exception {
+        var release = new CountDownLatch(1);
+        var writes = new AtomicInteger();
+        // Bloques de una tarifa: el segundo bloque queda retenido hasta que la prueba lo libera
+        PriceBulkWriterPort writer = (List<Price> prices) -> {
+            if (writes.incrementAndGet() == 2) {
+                await(release);
+            }
+        };
+
+        try (var service = new PriceImportService(writer, 1, 1, 10, 10)) {
+            Path csv = Files.writeString(directory.resolve("prices.csv"), CSV);
+            UUID id = service.submit(csv).id();
+
+            PriceImportJob running = awaitJob(service, id, job -> job.progress() != null
+                    && job.progress().equals(new PriceImportJob.Progress(3, 1, 1)));
+            assertThat(running.status()).isEqualTo(PriceImportJob.Status.RUNNING);
+            assertThat(running.report()).isNull();
+
+            release.countDown();
+            PriceImportJob completed = awaitJob(service, id,
+                    job -> job.status() == PriceImportJob.Status.COMPLETED);
+            assertThat(completed.progress()).isNull();
+            assertThat(completed.report().inserted()).isEqualTo(2);
+            assertThat(completed.report().rejected()).isEqualTo(1);
+        }
+    }
+
+    private static PriceImportJob awaitJob(PriceImportService service, UUID id, Predicate<PriceImportJob> condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            PriceImportJob job = service.findJob(id).orElseThrow();
+            if (condition.test(job)) {
+                return job;
+            }
+            assertThat(System.nanoTime()).as("La carga %s no alcanzó el estado esperado: %s", id, job)
+                    .isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.prices_service.application.services;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Propiedad de la línea temporal: para cualquier conjunto de tarifas y cualquier instante del rango,
+ * el tramo que lo contiene tiene la misma tarifa que {@code findTopPrice} en ese instante, y ningún
+ * instante sin tarifa queda cubierto por un tramo.
+ * <p>
+ * Cada semilla genera un catálogo aleatorio (solapes, empates de prioridad, tarifas contiguas) para un
+ * producto propio y compara en todos los extremos de vigencia y de tramo, a ambos lados, y en instantes
+ * aleatorios del rango.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Propiedad - Línea temporal vs findTopPrice en cada instante")
+class PriceTimelinePropertyTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final long WINDOW_MINUTES = 10 * 24 * 60;
+    private static final long BRAND_ID = 1L;
+
+    @Autowired
+    private GetPriceUseCase getPriceUseCase;
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "semilla {0}")
+    @ValueSource(longs = {1, 2, 3, 5, 8, 13, 21, 34, 55, 89, 144, 233, 377, 610, 987, 1597, 2584, 4181, 6765, 10946})
+    void resolveTimeline_ShouldMatchFindTopPrice_AtEveryInstant(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long productId = 900_000L + seed;
+        List<LocalDateTime> probes = new ArrayList<>();
+
+        int tariffs = random.nextInt(1, 12);
+        for (int i = 0; i < tariffs; i++) {
+            LocalDateTime start = ORIGIN.plusMinutes(random.nextLong(WINDOW_MINUTES));
+            // Fin inclusivo al segundo anterior a un minuto exacto, como las tarifas reales
+            LocalDateTime end = start.plusMinutes(random.nextLong(1, WINDOW_MINUTES / 2)).minusSeconds(1);
+            jdbcTemplate.update("""
+                            INSERT INTO prices (brand_id, product_id, start_date, end_date, price_list, priority, price, currency)
+                            VALUES (?, ?, ?, ?, ?, ?, ?, 'EUR')""",
+                    BRAND_ID, productId, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                    i + 1, random.nextInt(3), 10 + random.nextInt(90));
+            addAround(probes, start);
+            addAround(probes, end);
+        }
+
+        LocalDateTime from = ORIGIN.plusMinutes(random.nextLong(WINDOW_MINUTES / 2));
+        LocalDateTime to = from.plusMinutes(random.nextLong(1, WINDOW_MINUTES));
+        addAround(probes, from);
+        addAround(probes, to);
+
+        List<PriceSegment> segments = getPriceUseCase.resolveTimeline(productId, BRAND_ID, from, to);
+
+        for (int i = 0; i < segments.size(); i++) {
+            PriceSegment segment = segments.get(i);
+            assertThat(segment.from()).isBetween(from, to);
+            assertThat(segment.to()).isAfter(segment.from()).isBeforeOrEqualTo(to.plusNanos(1));
+            if (i > 0) {
+                assertThat(segment.from()).isAfterOrEqualTo(segments.get(i - 1).to());
+            }
+            addAround(probes, segment.from());
+            addAround(probes, segment.to());
+        }
+        for (int i = 0; i < 50; i++) {
+            probes.add(from.plusSeconds(random.nextLong(Duration.between(from, to).toSeconds() + 1)));
+        }
+
+        for (LocalDateTime probe : probes) {
+            // Los extremos exclusivos (fin + 1 ns) no son representables en el TIMESTAMP de H2
+            if (probe.isBefore(from) || probe.isAfter(to) || probe.getNano() % 1_000_000 != 0) {
+                continue;
+            }
+            Optional<Price> fromTimeline = segments.stream()
+                    .filter(segment -> segment.contains(probe))
+                    .map(PriceSegment::price)
+                    .findFirst();
+            assertThat(fromTimeline)
+                    .as("semilla=%d, fecha=%s", seed, probe)
+                    .isEqualTo(pricePersistenceAdapter.findPriceByPriority(probe, productId, BRAND_ID));
+        }
+    }
+
+    /**
+     * El instante y su entorno inmediato; redondeado al milisegundo, que H2 conserva sin pérdida.
+     */
+    private static void addAround(List<LocalDateTime> probes, LocalDateTime instant) {
+        LocalDateTime millis = instant.truncatedTo(ChronoUnit.MILLIS);
+        probes.add(millis);
+        probes.add(millis.minusNanos(1_000_000));
+        probes.add(millis.plusNanos(1_000_000));
+        probes.add(millis.minusSeconds(1));
+        probes.add(millis.plusSeconds(1));
+    }
+}
@@ -1,21 +1,44 @@
 package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
 
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceBatchResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.dto.PriceTimelineResponseDTO;
+import com.ecommerce.prices_service.infrastructure.adapters.in.rest.mapper.PriceRestMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -32,6 +55,18 @@ class PriceControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private GetPriceUseCase getPriceUseCase;
+
+    @Autowired
+    private PriceRestMapper priceRestMapper;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Requisito funcional: Los 5 casos de prueba de la especificación técnica.
      * Verifica que se aplique la tarifa correcta según fecha y prioridad.
@@ -65,6 +100,95 @@ class PriceControllerTest {
                 .andExpect(jsonPath("$.currency").value("EUR"));
     }
 
+    @Test
+    @DisplayName("JSON precalculado: idéntico byte a byte a la serialización del DTO")
+    void getPrice_ShouldWritePreSerializedJson_IdenticalToDtoSerialization() throws Exception {
+        var price = getPriceUseCase.execute(LocalDateTime.parse("2020-06-14T16:00:00"), 35455L, 1L);
+        byte[] expected = jsonMapper.writeValueAsBytes(priceRestMapper.toResponse(price));
+
+        // Dos peticiones: la primera genera la codificación y la segunda la reutiliza
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/prices")
+                            .with(jwt())
+                            .param("applicationDate", "2020-06-14T16:30:00")
+                            .param("productId", "35455")
+                            .param("brandId", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(content().bytes(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("GET condicional: ETag y Cache-Control en la respuesta y 304 con If-None-Match")
+    void getPrice_ShouldReturn304_WhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Misma tarifa ganadora (tarifa 2) en otra fecha de su tramo: mismo ETag
+        mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("applicationDate", "2020-06-14T17:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        // Otra tarifa ganadora (tarifa 1): respuesta completa
+        mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+    }
+
+    @Test
+    @DisplayName("Caché HTTP: el 304 de un tramo conocido se responde sin resolver la consulta")
+    void getPrice_ShouldAnswerNotModified_WithoutResolving_WhenSegmentIsKnown() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double resolved = segmentRequests("hit") + segmentRequests("miss");
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("applicationDate", "2020-06-14T17:30:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")));
+        // El validador de la representación JSON también vale para la binaria (comparación débil)
+        mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("applicationDate", "2020-06-14T17:30:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + etag));
+
+        // Ninguna de las dos ha pasado por resolveSegment (ni caché, ni limitador, ni base de datos)
+        assertThat(segmentRequests("hit") + segmentRequests("miss")).isEqualTo(resolved);
+    }
+
     @Test
     @DisplayName("Error 404: Producto no encontrado con contexto de diagnóstico")
     void getPrice_ShouldReturn404_WhenPriceNotFound() throws Exception {
@@ -116,4 +240,212 @@ class PriceControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.title").value("Bad Request"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Lote: resolución por elemento con tarifas encontradas y no encontradas")
+    void getPrices_ShouldReportStatusPerItem_WhenBatchContainsMissingPrices() throws Exception {
+        mockMvc.perform(post("/api/v1/prices:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2026-01-20T21:00:00", "productId": 99999, "brandId": 1},
+                                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                                ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[1].productId").value(99999))
+                .andExpect(jsonPath("$.results[2].price.price").value(38.95));
+    }
+
+    @Test
+    @DisplayName("Error 400: Lote vacío")
+    void getPrices_ShouldReturn400_WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/api/v1/prices:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Error de Validación"));
+    }
+
+    @Test
+    @DisplayName("Línea temporal: tramos ganadores del rango con extremos inclusivos")
+    void getPriceTimeline_ShouldReturnWinningSegments_ForRange() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/timeline")
+                        .with(jwt())
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments.length()").value(6))
+                .andExpect(jsonPath("$.segments[0].priceList").value(1))
+                .andExpect(jsonPath("$.segments[1].startDate").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.segments[1].endDate").value("2020-06-14T18:30:00"))
+                .andExpect(jsonPath("$.segments[1].price").value(25.45))
+                .andExpect(jsonPath("$.segments[2].priceList").value(1))
+                .andExpect(jsonPath("$.segments[3].priceList").value(3))
+                .andExpect(jsonPath("$.segments[5].priceList").value(4))
+                .andExpect(jsonPath("$.segments[5].endDate").value("2020-06-16T23:59:59"));
+    }
+
+    @Test
+    @DisplayName("Error 400: Línea temporal con el rango invertido")
+    void getPriceTimeline_ShouldReturn400_WhenRangeIsInverted() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/timeline")
+                        .with(jwt())
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest(name = "Accept: {0}")
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    @DisplayName("Formatos binarios: la tarifa se decodifica al mismo DTO que el JSON")
+    void getPrice_ShouldRoundTripToSameDto_ForBinaryFormats(String mediaType) throws Exception {
+        byte[] json = mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] binary = mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .accept(mediaType)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(binaryMapper(mediaType).readValue(binary, PriceResponseDTO.class))
+                .isEqualTo(jsonMapper.readValue(json, PriceResponseDTO.class))
+                .extracting(PriceResponseDTO::price).isEqualTo(new BigDecimal("25.45"));
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @ParameterizedTest(name = "Accept: {0}")
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    @DisplayName("Formatos binarios: el lote se decodifica al mismo DTO que el JSON")
+    void getPrices_ShouldRoundTripToSameDto_ForBinaryFormats(String mediaType) throws Exception {
+        String body = """
+                {"items": [
+                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                  {"applicationDate": "2026-01-20T21:00:00", "productId": 99999, "brandId": 1},
+                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                ]}""";
+        byte[] json = mockMvc.perform(post("/api/v1/prices:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] binary = mockMvc.perform(post("/api/v1/prices:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(mediaType)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(binaryMapper(mediaType).readValue(binary, PriceBatchResponseDTO.class))
+                .isEqualTo(jsonMapper.readValue(json, PriceBatchResponseDTO.class));
+    }
+
+    @ParameterizedTest(name = "Accept: {0}")
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    @DisplayName("Formatos binarios: la línea temporal se decodifica al mismo DTO que el JSON")
+    void getPriceTimeline_ShouldRoundTripToSameDto_ForBinaryFormats(String mediaType) throws Exception {
+        byte[] json = mockMvc.perform(get("/api/v1/prices/timeline")
+                        .with(jwt())
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T23:59:59"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] binary = mockMvc.perform(get("/api/v1/prices/timeline")
+                        .with(jwt())
+                        .accept(mediaType)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(binaryMapper(mediaType).readValue(binary, PriceTimelineResponseDTO.class))
+                .isEqualTo(jsonMapper.readValue(json, PriceTimelineResponseDTO.class))
+                .extracting(timeline -> timeline.segments().size()).isEqualTo(6);
+    }
+
+    @ParameterizedTest(name = "Accept: {0}")
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    @DisplayName("Formatos binarios: los errores 404 y 400 se codifican en el formato negociado")
+    void errors_ShouldBeEncodedInNegotiatedBinaryFormat(String mediaType) throws Exception {
+        byte[] notFound = mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .accept(mediaType)
+                        .param("applicationDate", "2026-01-20T21:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(binaryMapper(mediaType).readValue(notFound, Map.class))
+                .containsEntry("title", "Tarifa No Localizada")
+                .containsEntry("status", 404);
+
+        byte[] badRequest = mockMvc.perform(get("/api/v1/prices/timeline")
+                        .with(jwt())
+                        .accept(mediaType)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(binaryMapper(mediaType).readValue(badRequest, Map.class))
+                .containsEntry("status", 400);
+    }
+
+    private static ObjectMapper binaryMapper(String mediaType) {
+        return mediaType.contains("cbor") ? CBORMapper.builder().build() : SmileMapper.builder().build();
+    }
+
+    @Test
+    @DisplayName("Exportación: NDJSON con la tarifa vigente de cada producto de la cadena")
+    void exportPrices_ShouldStreamNdjson_ForBrandAtDate() throws Exception {
+        var result = mockMvc.perform(get("/api/v1/prices/export")
+                        .with(jwt())
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("brandId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"priceList\":2")));
+    }
+
+    private double segmentRequests(String result) {
+        return meterRegistry.get("prices.cache.segments.requests").tag("result", result).counter().count();
+    }
+}
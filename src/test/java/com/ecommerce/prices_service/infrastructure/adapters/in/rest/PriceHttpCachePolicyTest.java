@@ -0,0 +1,52 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Validadores de las respuestas de tarifa: el {@code ETag} solo depende de valores estables de la fila y del tramo.
+ */
+@DisplayName("HTTP - ETag de las tarifas")
+class PriceHttpCachePolicyTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 15, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 14, 18, 30);
+
+    private final PriceHttpCachePolicy policy = new PriceHttpCachePolicy(Duration.ofMinutes(5), false);
+
+    @Test
+    @DisplayName("Dos instancias iguales construidas por separado publican el mismo ETag")
+    void etag_ShouldMatch_ForEqualPricesBuiltSeparately() {
+        var first = new PriceSegment(FROM, TO, price(new BigDecimal("25.45")));
+        var second = new PriceSegment(FROM, TO, price(new BigDecimal("25.45")));
+
+        assertThat(policy.etag(first))
+                .isEqualTo(policy.etag(second))
+                .startsWith("\"2-");
+        assertThat(policy.matches(policy.etag(first), second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Cambiar el importe de la fila o los límites del tramo cambia el ETag")
+    void etag_ShouldChange_WhenRowOrSegmentChanges() {
+        var segment = new PriceSegment(FROM, TO, price(new BigDecimal("25.45")));
+
+        assertThat(policy.etag(new PriceSegment(FROM, TO, price(new BigDecimal("26.45")))))
+                .isNotEqualTo(policy.etag(segment));
+        assertThat(policy.etag(new PriceSegment(FROM, TO.plusHours(1), price(new BigDecimal("25.45")))))
+                .isNotEqualTo(policy.etag(segment));
+    }
+
+    private static Price price(BigDecimal amount) {
+        return new Price(2L, 1L, 35455L, 2, FROM, TO, amount, Currency.getInstance("EUR"), 1);
+    }
+}
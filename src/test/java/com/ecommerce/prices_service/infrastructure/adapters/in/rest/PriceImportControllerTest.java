@@ -0,0 +1,132 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.infrastructure.config.SecurityConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Carga masiva de tarifas: permiso dedicado, ejecución en segundo plano y recurso de estado.
+ * <p>
+ * Las tarifas se confirman desde el hilo de la carga, por lo que la prueba usa su propio contexto
+ * ({@code max-rejections=1}) y con él su propia base de datos en memoria, sin afectar al resto de suites.
+ * </p>
+ */
+@SpringBootTest(properties = "prices.import.max-rejections=1")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Integración - Carga masiva de tarifas")
+class PriceImportControllerTest {
+
+    private static final String CSV = """
+            brand_id,product_id,price_list,start_date,end_date,priority,price,currency
+            3,77777,1,2024-01-01T00:00:00,2024-12-31T23:59:59,0,10.00,EUR
+            3,77777,2,2024-06-01 00:00:00,2024-05-01 00:00:00,1,8.00,EUR
+            3,77777,3,2024-06-01T00:00:00,2024-06-30T23:59:59,1,-1,EUR
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteImportedTariffs() {
+        jdbcTemplate.update("DELETE FROM prices WHERE brand_id = 3 AND product_id = 77777");
+    }
+
+    @Test
+    @DisplayName("Seguridad: un token sin el permiso prices:import recibe 403")
+    void importPrices_ShouldBeForbidden_WithoutImportAuthority() throws Exception {
+        mockMvc.perform(post("/api/v1/prices/imports")
+                        .with(jwt())
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Carga CSV: 202 con Location; al terminar inserta las válidas y detalla solo el primer rechazo")
+    void importPrices_ShouldRunInBackground_AndReportCappedRejections() throws Exception {
+        String body = mockMvc.perform(authorized(post("/api/v1/prices/imports"))
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("http://localhost/api/v1/prices/imports/")))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+        String id = jsonMapper.readTree(body).get("id").asString();
+
+        JsonNode job = awaitFinished(id);
+
+        assertThat(job.get("status").asString()).isEqualTo("COMPLETED");
+        JsonNode report = job.get("report");
+        assertThat(report.get("read").asLong()).isEqualTo(3);
+        assertThat(report.get("inserted").asLong()).isEqualTo(1);
+        assertThat(report.get("rejected").asLong()).isEqualTo(2);
+        assertThat(report.get("rejections")).hasSize(1);
+        assertThat(report.get("rejections").get(0).get("line").asLong()).isEqualTo(3);
+        assertThat(report.get("rejections").get(0).get("reason").asString())
+                .isEqualTo("La fecha de inicio no puede ser posterior a la de fin");
+
+        mockMvc.perform(get("/api/v1/prices")
+                        .with(jwt())
+                        .param("applicationDate", "2024-06-15T12:00:00")
+                        .param("productId", "77777")
+                        .param("brandId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(1));
+    }
+
+    @Test
+    @DisplayName("Estado: una carga desconocida responde 404")
+    void getImport_ShouldReturnNotFound_ForUnknownJob() throws Exception {
+        mockMvc.perform(authorized(get("/api/v1/prices/imports/{id}", UUID.randomUUID())))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitFinished(String id) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            String body = mockMvc.perform(authorized(get("/api/v1/prices/imports/{id}", id)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = jsonMapper.readTree(body);
+            String status = job.get("status").asString();
+            if (!status.equals("PENDING") && !status.equals("RUNNING")) {
+                return job;
+            }
+            assertThat(System.nanoTime()).as("La carga %s no terminó a tiempo", id).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.with(jwt().authorities(new SimpleGrantedAuthority(SecurityConfig.IMPORT_AUTHORITY)));
+    }
+}
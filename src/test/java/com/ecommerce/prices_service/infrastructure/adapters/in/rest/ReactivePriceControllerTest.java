@@ -0,0 +1,119 @@
+package com.ecommerce.prices_service.infrastructure.adapters.in.rest;
+
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PriceR2dbcPersistenceAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Camino reactivo ({@code prices.reactive.enabled}): R2DBC sobre la misma base de datos H2 en memoria
+ * que el {@code DataSource} JDBC, de modo que ambos caminos leen las tarifas migradas por Flyway.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_test;DB_CLOSE_DELAY=-1",
+        "prices.reactive.enabled=true",
+        "prices.reactive.r2dbc.url=r2dbc:h2:mem:///reactive_test",
+        "prices.reactive.r2dbc.pool.initial-size=1"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Integración - Price API reactiva (R2DBC)")
+class ReactivePriceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PriceR2dbcPersistenceAdapter r2dbcAdapter;
+
+    @Autowired
+    private PricePersistenceAdapter jpaAdapter;
+
+    @ParameterizedTest(name = "Fecha {0} -> Tarifa {1}")
+    @CsvSource({
+            "2020-06-14T10:00:00, 1, 35.50",
+            "2020-06-14T16:00:00, 2, 25.45",
+            "2020-06-14T21:00:00, 1, 35.50",
+            "2020-06-15T10:00:00, 3, 30.50",
+            "2020-06-16T21:00:00, 4, 38.95"
+    })
+    @DisplayName("Mismos escenarios de negocio que GET /prices, resueltos de forma asíncrona")
+    void getPrice_ShouldReturnCorrectTariff_ForTechnicalScenarios(String date, int priceList, double price) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices/reactive")
+                        .with(jwt())
+                        .param("applicationDate", date)
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(priceList))
+                .andExpect(jsonPath("$.price").value(price));
+    }
+
+    @Test
+    @DisplayName("Error 404 con el mismo ProblemDetail que el camino bloqueante")
+    void getPrice_ShouldReturn404_WhenPriceNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/prices/reactive")
+                        .with(jwt())
+                        .param("applicationDate", "2026-01-20T21:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Tarifa No Localizada"))
+                .andExpect(jsonPath("$.queryContext.productId").value("99999"));
+    }
+
+    @Test
+    @DisplayName("Error 400 por validación antes de iniciar la consulta")
+    void getPrice_ShouldReturn400_WhenProductIdIsNotPositive() throws Exception {
+        mockMvc.perform(get("/api/v1/prices/reactive")
+                        .with(jwt())
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "-1")
+                        .param("brandId", "1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("El adaptador R2DBC selecciona la misma tarifa que JPA en los extremos de vigencia")
+    void findPriceByPriority_ShouldMatchJpaAdapter() {
+        LocalDateTime[] probes = {
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 1),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                LocalDateTime.of(2021, 1, 1, 0, 0)
+        };
+        for (LocalDateTime probe : probes) {
+            assertThat(r2dbcAdapter.findPriceByPriority(probe, 35455L, 1L).blockOptional())
+                    .as("fecha=%s", probe)
+                    .isEqualTo(jpaAdapter.findPriceByPriority(probe, 35455L, 1L));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.feed;
+
+import com.ecommerce.prices_service.application.ports.in.ExportPricesUseCase;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceCatalogSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ficheros del catálogo para marketplaces: nombre por instante, contenido CSV y publicación atómica.
+ */
+@DisplayName("Exportación - Fichero de precios del catálogo")
+class PriceCatalogFeedExporterTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 6, 15, 9, 30);
+    private static final LocalDateTime NIGHT = LocalDateTime.of(2024, 6, 15, 22, 0);
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @TempDir
+    private Path directory;
+
+    private List<Price> catalog = List.of(
+            price(1L, 35455L, 4, new BigDecimal("38.95")),
+            price(2L, 35455L, 1, new BigDecimal("10.50")));
+
+    @Test
+    @DisplayName("Un CSV por instante, nombrado por el instante y con las columnas de la carga masiva")
+    void export_ShouldWriteOneCsvPerInstant() throws Exception {
+        var exporter = new PriceCatalogFeedExporter(useCase(), directory, List.of(Duration.ofDays(1)));
+
+        List<Path> published = exporter.export(List.of(NIGHT, MORNING));
+
+        assertThat(published).containsExactly(
+                directory.resolve("prices-20240615T093000.csv"),
+                directory.resolve("prices-20240615T220000.csv"));
+        assertThat(Files.readAllLines(published.getFirst())).containsExactly(
+                PriceCatalogFeedExporter.HEADER,
+                "1,35455,4,2024-06-01T00:00:00,2024-06-30T23:59:59,1,38.95,EUR",
+                "2,35455,1,2024-06-01T00:00:00,2024-06-30T23:59:59,1,10.50,EUR");
+    }
+
+    @Test
+    @DisplayName("Publicación atómica: se sustituye el fichero anterior y no quedan temporales en el directorio")
+    void export_ShouldReplacePreviousFile_WithoutLeavingTemporaryFiles() throws Exception {
+        var exporter = new PriceCatalogFeedExporter(useCase(), directory, List.of(Duration.ofDays(1)));
+        Path target = exporter.export(List.of(MORNING)).getFirst();
+
+        catalog = List.of(price(1L, 35455L, 4, new BigDecimal("40.00")));
+        exporter.export(List.of(MORNING));
+
+        assertThat(Files.readAllLines(target)).containsExactly(
+                PriceCatalogFeedExporter.HEADER,
+                "1,35455,4,2024-06-01T00:00:00,2024-06-30T23:59:59,1,40.00,EUR");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(target);
+        }
+    }
+
+    private ExportPricesUseCase useCase() {
+        return new ExportPricesUseCase() {
+            @Override
+            public long exportWinningPrices(Long brandId, LocalDateTime date, Consumer<Price> sink) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<PriceCatalogSnapshot> resolveCatalog(List<LocalDateTime> instants) {
+                return instants.stream().sorted()
+                        .map(instant -> new PriceCatalogSnapshot(instant, catalog))
+                        .toList();
+            }
+        };
+    }
+
+    private static Price price(Long brandId, Long productId, int priceList, BigDecimal amount) {
+        return new Price((long) priceList, brandId, productId, priceList,
+                LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 6, 30, 23, 59, 59), amount, EUR, 1);
+    }
+}
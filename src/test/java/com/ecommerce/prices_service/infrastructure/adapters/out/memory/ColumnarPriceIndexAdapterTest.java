@@ -0,0 +1,131 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.memory;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el almacén columnar resuelve exactamente lo mismo que la consulta SQL
+ * {@code findTopPrice}, incluidos los empates de prioridad y las series modificadas tras la carga.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Equivalencia - Almacén columnar vs consulta SQL")
+class ColumnarPriceIndexAdapterTest {
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Misma tarifa que la consulta SQL en todos los extremos de vigencia")
+    void findPriceByPriority_ShouldMatchSqlQuery_AtEveryBoundary() {
+        // Empate de prioridad con la tarifa 2 y una tarifa solapada de otra cadena
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (1, '2020-06-14 16:00:00', '2020-06-14 17:00:00', 5, 35455, 1, 20.00, 'EUR')""");
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (2, '2020-06-14 00:00:00', '2020-06-30 23:59:59', 6, 35455, 3, 15.00, 'EUR')""");
+
+        var columnarAdapter = new ColumnarPriceIndexAdapter(priceJdbcRepository, transactionTemplate);
+        columnarAdapter.refresh();
+
+        List<LocalDateTime> probes = new ArrayList<>();
+        jdbcTemplate.query("SELECT start_date, end_date FROM prices", rs -> {
+            for (String column : List.of("start_date", "end_date")) {
+                LocalDateTime boundary = rs.getObject(column, LocalDateTime.class);
+                probes.add(boundary);
+                probes.add(boundary.minusSeconds(1));
+                probes.add(boundary.plusSeconds(1));
+                probes.add(boundary.plusNanos(1_000_000));
+            }
+        });
+
+        for (long brandId : new long[]{1L, 2L}) {
+            for (LocalDateTime probe : probes) {
+                assertThat(columnarAdapter.findPriceByPriority(probe, 35455L, brandId))
+                        .as("brandId=%d, fecha=%s", brandId, probe)
+                        .isEqualTo(pricePersistenceAdapter.findPriceByPriority(probe, 35455L, brandId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Las series notificadas tras la carga se resuelven con sus tarifas actuales")
+    void findPriceByPriority_ShouldReflectChangedKeys_AfterEvent() {
+        var columnarAdapter = new ColumnarPriceIndexAdapter(priceJdbcRepository, transactionTemplate);
+        columnarAdapter.refresh();
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        jdbcTemplate.update("UPDATE prices SET price = 99.99 WHERE price_list = 1");
+        assertThat(columnarAdapter.findPriceByPriority(date, 35455L, 1L)).map(Price::price)
+                .contains(new BigDecimal("35.50"));
+
+        columnarAdapter.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 35455L))));
+
+        assertThat(columnarAdapter.findPriceByPriority(date, 35455L, 1L)).map(Price::price)
+                .contains(new BigDecimal("99.99"));
+        assertThat(columnarAdapter.findPriceByPriority(date, 35455L, 1L))
+                .isEqualTo(pricePersistenceAdapter.findPriceByPriority(date, 35455L, 1L));
+    }
+
+    @Test
+    @DisplayName("Las series no representables en columnas se resuelven igual que la consulta SQL sin impedir la carga")
+    void refresh_ShouldServeUnrepresentableKeys_FromDatabase() {
+        long wideProduct = 1L << PriceColumnStore.PRODUCT_BITS;
+        String insert = """
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (?, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 7, ?, ?, 12.00, 'EUR')""";
+        // brandId de 17 bits, productId de 48 bits y prioridades fuera de short, una de ellas en una serie ya cargada
+        jdbcTemplate.update(insert, 1L << PriceColumnStore.BRAND_BITS, 35455L, 0);
+        jdbcTemplate.update(insert, 1L, wideProduct, 0);
+        jdbcTemplate.update(insert, 1L, 35456L, Short.MIN_VALUE - 1);
+        jdbcTemplate.update(insert, 1L, 35455L, Short.MAX_VALUE + 1);
+
+        var columnarAdapter = new ColumnarPriceIndexAdapter(priceJdbcRepository, transactionTemplate);
+        columnarAdapter.refresh();
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        List<PriceKey> keys = List.of(
+                new PriceKey(1L << PriceColumnStore.BRAND_BITS, 35455L),
+                new PriceKey(1L, wideProduct),
+                new PriceKey(1L, 35456L),
+                new PriceKey(1L, 35455L));
+        for (PriceKey key : keys) {
+            assertThat(columnarAdapter.findPriceByPriority(date, key.productId(), key.brandId()))
+                    .as("%s", key)
+                    .isPresent()
+                    .isEqualTo(pricePersistenceAdapter.findPriceByPriority(date, key.productId(), key.brandId()));
+        }
+        assertThat(columnarAdapter.findPriceByPriority(date, 35455L, 1L)).map(Price::priority)
+                .contains(Short.MAX_VALUE + 1);
+    }
+}
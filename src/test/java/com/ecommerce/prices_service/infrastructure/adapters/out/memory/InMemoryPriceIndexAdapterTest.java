@@ -0,0 +1,127 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.memory;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceRowMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.observability.PriceRequestTrace;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el índice en memoria resuelve exactamente lo mismo que la consulta SQL
+ * {@code findTopPrice}, incluidos los empates de prioridad.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Equivalencia - Índice en memoria vs consulta SQL")
+class InMemoryPriceIndexAdapterTest {
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Autowired
+    private PriceChangeJdbcRepository priceChangeJdbcRepository;
+
+    @Autowired
+    private PriceRowMapper priceRowMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Misma tarifa que la consulta SQL en todos los extremos de vigencia")
+    void findPriceByPriority_ShouldMatchSqlQuery_AtEveryBoundary() {
+        // Empate de prioridad con la tarifa 2 y una tarifa solapada de otra cadena
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (1, '2020-06-14 16:00:00', '2020-06-14 17:00:00', 5, 35455, 1, 20.00, 'EUR')""");
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (2, '2020-06-14 00:00:00', '2020-06-30 23:59:59', 6, 35455, 3, 15.00, 'EUR')""");
+
+        var inMemoryAdapter = new InMemoryPriceIndexAdapter(priceJdbcRepository, priceChangeJdbcRepository);
+        inMemoryAdapter.refresh();
+
+        List<LocalDateTime> probes = new ArrayList<>();
+        jdbcTemplate.query("SELECT start_date, end_date FROM prices", rs -> {
+            for (String column : List.of("start_date", "end_date")) {
+                LocalDateTime boundary = rs.getObject(column, LocalDateTime.class);
+                probes.add(boundary);
+                probes.add(boundary.minusSeconds(1));
+                probes.add(boundary.plusSeconds(1));
+            }
+        });
+
+        for (long brandId : new long[]{1L, 2L}) {
+            for (LocalDateTime probe : probes) {
+                assertThat(inMemoryAdapter.findPriceByPriority(probe, 35455L, brandId))
+                        .as("brandId=%d, fecha=%s", brandId, probe)
+                        .isEqualTo(pricePersistenceAdapter.findPriceByPriority(probe, 35455L, brandId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Un cambio notificado mientras se recarga la tabla no se pierde al publicar el índice nuevo")
+    void refresh_ShouldReplayChangesReceivedDuringReload() {
+        AtomicReference<InMemoryPriceIndexAdapter> adapter = new AtomicReference<>();
+        // La tarifa se confirma cuando el recorrido de la tabla ya ha terminado, y el sondeo la notifica antes
+        // de que se publique el índice nuevo
+        var repository = new PriceJdbcRepository(jdbcTemplate, priceRowMapper) {
+            @Override
+            public void forEachPrice(Consumer<Price> consumer) {
+                super.forEachPrice(consumer);
+                jdbcTemplate.update("""
+                        INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                        VALUES (1, '2020-06-14 00:00:00', '2020-06-30 23:59:59', 7, 91001, 0, 12.00, 'EUR')""");
+                adapter.get().onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 91001L))));
+            }
+        };
+        adapter.set(new InMemoryPriceIndexAdapter(repository, priceChangeJdbcRepository));
+
+        adapter.get().refresh();
+
+        assertThat(adapter.get().findPriceByPriority(LocalDateTime.of(2020, 6, 15, 10, 0), 91001L, 1L))
+                .map(Price::priceList)
+                .contains(7);
+    }
+
+    @Test
+    @DisplayName("La búsqueda en el índice se registra como etapa repository de la traza")
+    void findSegmentByPriority_ShouldRecordRepositoryStage() {
+        var inMemoryAdapter = new InMemoryPriceIndexAdapter(priceJdbcRepository, priceChangeJdbcRepository);
+        inMemoryAdapter.refresh();
+
+        PriceRequestTrace trace = PriceRequestTrace.begin();
+        try {
+            assertThat(inMemoryAdapter.findSegmentByPriority(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L))
+                    .isPresent();
+        } finally {
+            PriceRequestTrace.end();
+        }
+
+        assertThat(trace.stageNanos(PriceRequestTrace.Stage.REPOSITORY)).isPositive();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exportación en streaming de la tarifa ganadora de cada producto de una cadena.
+ * <p>
+ * El volumen y la memoria durante el recorrido se miden en {@code PriceExportBenchmark}.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integración - Exportación de precios en streaming")
+class PriceExportPersistenceAdapterTest {
+
+    private static final long BRAND_ID = 900L;
+
+    @Autowired
+    private PriceExportPersistenceAdapter priceExportPersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Entrega, ordenada por producto, solo la tarifa ganadora de cada producto vigente en la fecha")
+    void forEachWinningPrice_ShouldStreamWinnersInProductOrder() {
+        // Producto 3: tarifa base y promoción de mayor prioridad vigente en la fecha
+        insert(BRAND_ID, 3, "2026-01-01 00:00:00", 1, 0, "20.00");
+        insert(BRAND_ID, 3, "2026-06-01 00:00:00", 2, 1, "15.00");
+        // Producto 1: solo tarifa base
+        insert(BRAND_ID, 1, "2026-01-01 00:00:00", 1, 0, "30.00");
+        // Producto 2: la promoción aún no ha empezado en la fecha
+        insert(BRAND_ID, 2, "2026-01-01 00:00:00", 1, 0, "40.00");
+        insert(BRAND_ID, 2, "2026-08-01 00:00:00", 2, 1, "35.00");
+        // Producto 4: sin tarifa vigente en la fecha
+        insert(BRAND_ID, 4, "2026-09-01 00:00:00", 1, 0, "50.00");
+        // Otra cadena
+        insert(BRAND_ID + 1, 1, "2026-01-01 00:00:00", 1, 0, "60.00");
+
+        List<Price> exported = new ArrayList<>();
+        long count = priceExportPersistenceAdapter.forEachWinningPrice(
+                BRAND_ID, LocalDateTime.of(2026, 7, 1, 12, 0), exported::add);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).extracting(Price::productId).containsExactly(1L, 2L, 3L);
+        assertThat(exported).extracting(Price::priceList).containsExactly(1, 1, 2);
+        assertThat(exported).extracting(Price::brandId).containsOnly(BRAND_ID);
+    }
+
+    private void insert(long brandId, long productId, String start, int priceList, int priority, String price) {
+        jdbcTemplate.update("""
+                        INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                        VALUES (?, CAST(? AS TIMESTAMP), TIMESTAMP '2026-12-31 23:59:59', ?, ?, ?, CAST(? AS DECIMAL(10, 2)), 'EUR')""",
+                brandId, start, priceList, productId, priority, price);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.domain.model.PriceTimeline;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el adaptador JDBC resuelve exactamente lo mismo que el adaptador JPA.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Equivalencia - Adaptador JDBC vs adaptador JPA")
+class PriceJdbcPersistenceAdapterTest {
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Misma tarifa, solapes y tramo que JPA en todos los extremos de vigencia")
+    void shouldMatchJpaAdapter_AtEveryBoundary() {
+        // Empate de prioridad con la tarifa 2
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (1, '2020-06-14 16:00:00', '2020-06-14 17:00:00', 5, 35455, 1, 20.00, 'EUR')""");
+
+        var jdbcAdapter = new PriceJdbcPersistenceAdapter(priceJdbcRepository, false);
+
+        List<LocalDateTime> probes = new ArrayList<>();
+        jdbcTemplate.query("SELECT start_date, end_date FROM prices", rs -> {
+            for (String column : List.of("start_date", "end_date")) {
+                LocalDateTime boundary = rs.getObject(column, LocalDateTime.class);
+                probes.add(boundary);
+                probes.add(boundary.minusSeconds(1));
+                probes.add(boundary.plusSeconds(1));
+            }
+        });
+
+        for (LocalDateTime probe : probes) {
+            assertThat(jdbcAdapter.findPriceByPriority(probe, 35455L, 1L))
+                    .as("fecha=%s", probe)
+                    .isEqualTo(pricePersistenceAdapter.findPriceByPriority(probe, 35455L, 1L));
+            assertThat(jdbcAdapter.findPricesBetween(35455L, 1L, probe, probe.plusHours(2)))
+                    .as("solapes desde %s", probe)
+                    .containsExactlyInAnyOrderElementsOf(
+                            pricePersistenceAdapter.findPricesBetween(35455L, 1L, probe, probe.plusHours(2)));
+
+            Optional<PriceSegment> expectedSegment = twoQuerySegment(probe);
+            assertThat(jdbcAdapter.findSegmentByPriority(probe, 35455L, 1L))
+                    .as("tramo JDBC en %s", probe)
+                    .isEqualTo(expectedSegment);
+            assertThat(pricePersistenceAdapter.findSegmentByPriority(probe, 35455L, 1L))
+                    .as("tramo JPA en %s", probe)
+                    .isEqualTo(expectedSegment);
+        }
+    }
+
+    /**
+     * Tramo calculado como la implementación por defecto del puerto: ganadora y, después, sus solapes.
+     */
+    private Optional<PriceSegment> twoQuerySegment(LocalDateTime date) {
+        return pricePersistenceAdapter.findPriceByPriority(date, 35455L, 1L)
+                .flatMap(winner -> PriceTimeline.of(pricePersistenceAdapter.findPricesBetween(
+                        35455L, 1L, winner.startDate(), winner.endDate())).segmentAt(date));
+    }
+}
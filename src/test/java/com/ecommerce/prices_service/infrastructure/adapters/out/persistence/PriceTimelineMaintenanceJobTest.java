@@ -0,0 +1,172 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.mapper.PriceEntityMapper;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceTimelineJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Motor {@code timeline}: la línea temporal precalculada resuelve lo mismo que {@code findTopPrice} y
+ * admite reconstrucciones simultáneas de la misma serie.
+ * <p>
+ * Las tarifas se confirman (sin {@code @Transactional}) para que las vean los hilos de la prueba de
+ * concurrencia; el contexto propio ({@code engine=timeline}) tiene su propia base de datos en memoria.
+ * </p>
+ */
+@SpringBootTest(properties = "prices.repository.engine=timeline")
+@ActiveProfiles("test")
+@DisplayName("Integración - Línea temporal precalculada")
+class PriceTimelineMaintenanceJobTest {
+
+    private static final PriceKey KEY = new PriceKey(1L, 88801L);
+
+    @Autowired
+    private PriceTimelineMaintenanceJob maintenanceJob;
+
+    @Autowired
+    private PriceTimelinePersistenceAdapter timelineAdapter;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private PriceEntityMapper priceEntityMapper;
+
+    @Autowired
+    private PriceTimelineJdbcRepository priceTimelineRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void insertOverlappingTariffs() {
+        insert("2024-01-01 00:00:00", "2024-12-31 23:59:59", 0, "10.00");
+        insert("2024-03-01 00:00:00", "2024-06-30 23:59:59", 1, "11.00");
+        insert("2024-05-01 00:00:00", "2024-08-31 23:59:59", 2, "12.00");
+        // Empate de prioridad con la anterior: gana el identificador más alto
+        insert("2024-05-01 00:00:00", "2024-05-31 23:59:59", 2, "13.00");
+        // Hueco sin tarifa entre 2025-01-01 y 2025-02-01
+        insert("2025-02-01 00:00:00", "2025-02-28 23:59:59", 0, "14.00");
+    }
+
+    @AfterEach
+    void deleteTariffs() {
+        jdbcTemplate.update("DELETE FROM prices WHERE product_id = ?", KEY.productId());
+        jdbcTemplate.update("DELETE FROM price_timeline WHERE product_id = ?", KEY.productId());
+    }
+
+    @Test
+    @DisplayName("findTopPriceFromTimeline coincide con findTopPrice en todos los extremos de vigencia")
+    void timeline_ShouldMatchTopPrice_AtEveryBoundary() {
+        PriceKey seeded = new PriceKey(1L, 35455L);
+        maintenanceJob.rebuild(List.of(KEY, seeded));
+
+        for (PriceKey key : List.of(KEY, seeded)) {
+            for (LocalDateTime probe : boundaryProbes(key)) {
+                assertThat(timelineAdapter.findPriceByPriority(probe, key.productId(), key.brandId()))
+                        .as("serie=%s fecha=%s", key, probe)
+                        .isEqualTo(priceJpaRepository.findTopPrice(probe, key.productId(), key.brandId())
+                                .map(priceEntityMapper::toDomain));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Relleno: una pasada por páginas con cursor calcula las series sin tramos y no se repite")
+    void backfill_ShouldBuildMissingKeysInOnePass() {
+        jdbcTemplate.update("DELETE FROM price_timeline WHERE product_id = ?", KEY.productId());
+        // Páginas de dos series: el cursor tiene que recorrer varias páginas hasta llegar a la clave
+        var job = new PriceTimelineMaintenanceJob(priceTimelineRepository, 2);
+
+        job.backfill();
+        assertThat(timelineRows()).isNotEmpty();
+
+        jdbcTemplate.update("DELETE FROM price_timeline WHERE product_id = ?", KEY.productId());
+        job.backfill();
+        assertThat(priceTimelineRepository.findKeysWithoutTimeline(null, 1_000).withoutTimeline()).contains(KEY);
+    }
+
+    @Test
+    @DisplayName("Reconstruir de nuevo una serie sin cambios deja los mismos tramos")
+    void rebuild_ShouldBeIdempotent() {
+        maintenanceJob.rebuild(List.of(KEY));
+        List<String> first = timelineRows();
+
+        maintenanceJob.rebuild(List.of(KEY));
+
+        assertThat(first).isNotEmpty();
+        assertThat(timelineRows()).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Reconstrucciones simultáneas de la misma serie se serializan sin claves duplicadas")
+    void rebuild_ShouldSerializeConcurrentRebuildsOfTheSameKey() throws Exception {
+        maintenanceJob.rebuild(List.of(KEY));
+        List<String> expected = timelineRows();
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> rebuilds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                rebuilds.add(executor.submit(() -> {
+                    start.await();
+                    maintenanceJob.rebuild(List.of(KEY));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> rebuild : rebuilds) {
+                rebuild.get();
+            }
+        }
+
+        assertThat(timelineRows()).isEqualTo(expected);
+    }
+
+    private void insert(String start, String end, int priority, String price) {
+        jdbcTemplate.update("""
+                        INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                        VALUES (?, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), 1, ?, ?, CAST(? AS DECIMAL(10, 2)), 'EUR')""",
+                KEY.brandId(), start, end, KEY.productId(), priority, price);
+    }
+
+    private List<LocalDateTime> boundaryProbes(PriceKey key) {
+        List<LocalDateTime> probes = new ArrayList<>();
+        jdbcTemplate.query("SELECT start_date, end_date FROM prices WHERE product_id = ? AND brand_id = ?", rs -> {
+            for (String column : List.of("start_date", "end_date")) {
+                LocalDateTime boundary = rs.getObject(column, LocalDateTime.class);
+                probes.add(boundary);
+                probes.add(boundary.minusSeconds(1));
+                probes.add(boundary.plusSeconds(1));
+            }
+        }, key.productId(), key.brandId());
+        return probes;
+    }
+
+    private List<String> timelineRows() {
+        return jdbcTemplate.queryForList("""
+                        SELECT CONCAT(segment_start, '|', segment_end, '|', price_id) FROM price_timeline
+                        WHERE product_id = ? AND brand_id = ?
+                        ORDER BY segment_start""",
+                String.class, KEY.productId(), KEY.brandId());
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence;
+
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.entity.PriceEntity;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan de ejecución y resultados de la selección por el rango {@code validity} contra un PostgreSQL real, con el
+ * mismo SQL que ejecutan los adaptadores ({@link PriceJdbcRepository#topPriceSql}).
+ * <p>
+ * Solo se ejecuta si {@code PRICES_TEST_POSTGRES_URL} apunta a una base de datos local, por ejemplo
+ * {@code jdbc:postgresql://localhost:5432/prices_test} (usuario y clave en
+ * {@code PRICES_TEST_POSTGRES_USERNAME} / {@code PRICES_TEST_POSTGRES_PASSWORD}, por defecto {@code postgres}).
+ * Flyway aplica las migraciones de {@code db/vendor/postgresql}; los datos de cada test se revierten.
+ * </p>
+ */
+@SpringBootTest(properties = "prices.repository.jpa.validity-range=true")
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "PRICES_TEST_POSTGRES_URL", matches = ".+")
+@DisplayName("Persistencia - Vigencia tsrange con índice GiST (PostgreSQL)")
+class PriceValidityRangeQueryTest {
+
+    private static final long PRODUCT_ID = 990_001L;
+    private static final int HISTORY = 20_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PRICES_TEST_POSTGRES_URL"));
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("PRICES_TEST_POSTGRES_USERNAME"), "postgres"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("PRICES_TEST_POSTGRES_PASSWORD"), "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    /**
+     * Un producto con un histórico largo de tarifas diarias ya finalizadas y una tarifa vigente de larga
+     * duración: todas empiezan antes de {@link #NOW}, que es el peor caso del B-tree {@code idx_prices_query}.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, product_id, start_date, end_date, price_list, priority, price, currency)
+                SELECT 1, ?, TIMESTAMP '2020-01-01' + n * INTERVAL '1 hour',
+                       TIMESTAMP '2020-01-01' + n * INTERVAL '1 hour' + INTERVAL '59 minutes 59 seconds',
+                       1, MOD(n, 3), 10 + MOD(n, 100), 'EUR'
+                FROM generate_series(1, ?) AS n""", PRODUCT_ID, HISTORY);
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, product_id, start_date, end_date, price_list, priority, price, currency)
+                VALUES (1, ?, '2024-01-01 00:00:00', '2026-12-31 23:59:59', 2, 0, 49.99, 'EUR')""", PRODUCT_ID);
+        jdbcTemplate.execute("ANALYZE prices");
+    }
+
+    @Test
+    @DisplayName("La contención se resuelve como condición del índice GiST, no como filtro")
+    void validityRangeQuery_ShouldUseGistIndexCondition() {
+        String sql = PriceJdbcRepository.topPriceSql(true, "?", "?", "?");
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class,
+                PRODUCT_ID, 1L, Timestamp.valueOf(NOW)));
+
+        assertThat(plan).contains("idx_prices_validity");
+        assertThat(plan).containsPattern("Index Cond: .*validity @>");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Misma tarifa que la consulta por rango de fechas")
+    void findPriceByPriority_ShouldMatchBetweenQuery() {
+        List<LocalDateTime> probes = List.of(
+                NOW,
+                LocalDateTime.of(2020, 1, 1, 1, 0),
+                LocalDateTime.of(2020, 1, 1, 1, 59, 59),
+                LocalDateTime.of(2020, 1, 1, 1, 59, 59, 500_000_000),
+                LocalDateTime.of(2022, 3, 15, 8, 30),
+                LocalDateTime.of(2026, 12, 31, 23, 59, 59),
+                LocalDateTime.of(2027, 1, 1, 0, 0));
+
+        for (LocalDateTime probe : probes) {
+            assertThat(priceJpaRepository.findTopPriceByValidityRange(probe, PRODUCT_ID, 1L).map(PriceEntity::getId))
+                    .as("fecha=%s", probe)
+                    .isEqualTo(priceJpaRepository.findTopPrice(probe, PRODUCT_ID, 1L).map(PriceEntity::getId));
+            assertThat(priceJdbcRepository.findTopPrice(probe, PRODUCT_ID, 1L, true).map(Price::id))
+                    .as("fecha=%s", probe)
+                    .isEqualTo(priceJdbcRepository.findTopPrice(probe, PRODUCT_ID, 1L, false).map(Price::id));
+        }
+        List<PriceQuery> queries = probes.stream().map(probe -> new PriceQuery(probe, PRODUCT_ID, 1L)).toList();
+        assertThat(priceJdbcRepository.findTopPrices(queries, true))
+                .isEqualTo(priceJdbcRepository.findTopPrices(queries, false));
+        assertThat(pricePersistenceAdapter.findPriceByPriority(NOW, PRODUCT_ID, 1L))
+                .hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(2));
+    }
+}
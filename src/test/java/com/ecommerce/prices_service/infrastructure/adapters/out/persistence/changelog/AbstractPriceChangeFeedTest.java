@@ -0,0 +1,240 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cadena completa del changelog: trigger de {@code prices} → {@code price_changes} → {@link PriceChangeFeedPoller}
+ * → {@link PricesChangedEvent}, con los triggers del motor de cada subclase.
+ * <p>
+ * Las tarifas se confirman (sin {@code @Transactional}), porque el caso del hueco necesita dos transacciones en
+ * conexiones distintas. El sondeo programado se espacia ({@code poll-interval=PT1H}) para que solo lo invoque la
+ * prueba, en su propio hilo, y los eventos se capturen con {@link RecordApplicationEvents}.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "prices.change-feed.poll-interval=PT1H",
+        "prices.change-feed.gap-timeout=PT0.5S"
+})
+@ActiveProfiles("test")
+@RecordApplicationEvents
+abstract class AbstractPriceChangeFeedTest {
+
+    static final Duration GAP_TIMEOUT = Duration.ofMillis(500);
+
+    static final PriceKey FIRST = new PriceKey(1L, 92001L);
+    static final PriceKey SECOND = new PriceKey(1L, 92002L);
+    static final PriceKey THIRD = new PriceKey(1L, 92003L);
+
+    private static final String INSERT_PRICE = """
+            INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+            VALUES (?, CAST('2024-01-01 00:00:00' AS TIMESTAMP), CAST('2024-12-31 23:59:59' AS TIMESTAMP), 1, ?, 0, 10.00, 'EUR')""";
+
+    @Autowired
+    PriceChangeFeedPoller poller;
+
+    @Autowired
+    PriceChangeJdbcRepository priceChangeRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ApplicationEvents events;
+
+    @BeforeEach
+    void drainChangeFeed() throws InterruptedException {
+        long deadline = System.nanoTime() + GAP_TIMEOUT.multipliedBy(4).toNanos();
+        poller.poll();
+        // Un hueco de una prueba anterior (transacción revertida) se descarta tras gap-timeout
+        while (poller.currentVersion() < priceChangeRepository.findLatestVersion() && System.nanoTime() < deadline) {
+            Thread.sleep(GAP_TIMEOUT.toMillis() / 5);
+            poller.poll();
+        }
+        assertThat(poller.currentVersion()).isEqualTo(priceChangeRepository.findLatestVersion());
+        events.clear();
+    }
+
+    /**
+     * El changelog se conserva: borrar sus últimas filas haría retroceder {@code findLatestVersion}.
+     */
+    @AfterEach
+    void deleteTariffs() {
+        for (PriceKey key : List.of(FIRST, SECOND, THIRD)) {
+            jdbcTemplate.update("DELETE FROM prices WHERE product_id = ?", key.productId());
+        }
+    }
+
+    @Test
+    @DisplayName("Trigger: alta, cambio de clave y baja registran las series afectadas")
+    void trigger_ShouldRecordEveryModifiedKey() {
+        long before = priceChangeRepository.findLatestVersion();
+
+        insert(FIRST);
+        assertThat(keysRecordedAfter(before)).containsExactly(FIRST);
+
+        long afterInsert = priceChangeRepository.findLatestVersion();
+        jdbcTemplate.update("UPDATE prices SET product_id = ? WHERE product_id = ?",
+                SECOND.productId(), FIRST.productId());
+        assertThat(keysRecordedAfter(afterInsert)).containsExactlyInAnyOrder(FIRST, SECOND);
+
+        long afterUpdate = priceChangeRepository.findLatestVersion();
+        jdbcTemplate.update("DELETE FROM prices WHERE product_id = ?", SECOND.productId());
+        assertThat(keysRecordedAfter(afterUpdate)).containsExactly(SECOND);
+    }
+
+    @Test
+    @DisplayName("Sondeo: publica la serie modificada y avanza la versión de datos")
+    void poll_ShouldPublishChangedKeys_AndAdvanceVersion() {
+        insert(FIRST);
+
+        poller.poll();
+
+        assertThat(publishedKeys()).containsExactly(FIRST);
+        assertThat(poller.currentVersion()).isEqualTo(priceChangeRepository.findLatestVersion());
+    }
+
+    @Test
+    @DisplayName("Hueco: una versión menor confirmada tarde se publica y solo entonces avanza la versión")
+    void poll_ShouldPublishLateCommittedVersion_AndHoldVersionUntilTheGapCloses() throws SQLException {
+        long before = poller.currentVersion();
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            insert(slow, FIRST);
+            insert(SECOND);
+
+            poller.poll();
+            assertThat(publishedKeys()).containsExactly(SECOND);
+            assertThat(poller.currentVersion()).isEqualTo(before);
+
+            slow.commit();
+        }
+        events.clear();
+
+        poller.poll();
+
+        assertThat(publishedKeys()).containsExactly(FIRST);
+        assertThat(poller.currentVersion()).isEqualTo(priceChangeRepository.findLatestVersion());
+    }
+
+    @Test
+    @DisplayName("Hueco: una versión revertida se descarta tras gap-timeout sin publicar nada de ella")
+    void poll_ShouldSkipRolledBackVersion_AfterGapTimeout() throws Exception {
+        long before = poller.currentVersion();
+        try (Connection rolledBack = dataSource.getConnection()) {
+            rolledBack.setAutoCommit(false);
+            insert(rolledBack, FIRST);
+            insert(SECOND);
+            rolledBack.rollback();
+        }
+
+        poller.poll();
+        assertThat(poller.currentVersion()).isEqualTo(before);
+
+        Thread.sleep(GAP_TIMEOUT.plusMillis(100).toMillis());
+        poller.poll();
+
+        assertThat(publishedKeys()).containsExactly(SECOND);
+        assertThat(poller.currentVersion()).isEqualTo(priceChangeRepository.findLatestVersion());
+    }
+
+    @Test
+    @DisplayName("Hueco: el sondeo pagina más allá del hueco y publica todos los cambios posteriores")
+    void poll_ShouldPageBeyondOpenGap() throws SQLException {
+        List<PriceKey> published = new ArrayList<>();
+        PriceChangeFeedPoller paged = poller(1, published);
+        paged.poll();
+        published.clear();
+
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            insert(slow, FIRST);
+            insert(SECOND);
+            insert(THIRD);
+
+            paged.poll();
+            assertThat(published).contains(SECOND, THIRD).doesNotContain(FIRST);
+
+            slow.rollback();
+        }
+    }
+
+    @Test
+    @DisplayName("Arranque: un cambio confirmado tarde con versión menor que la última visible no se pierde")
+    void initialize_ShouldPublishChangeCommittedAfterStartup_WithLowerVersion() throws SQLException {
+        List<PriceKey> published = new ArrayList<>();
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            insert(slow, FIRST);
+            insert(SECOND);
+
+            PriceChangeFeedPoller started = poller(1000, published);
+            slow.commit();
+            started.poll();
+        }
+
+        assertThat(published).contains(FIRST, SECOND);
+    }
+
+    /**
+     * Sondeador independiente del de la aplicación, que arranca en este momento y acumula las claves publicadas.
+     */
+    private PriceChangeFeedPoller poller(int batchSize, List<PriceKey> published) {
+        PriceChangeFeedPoller started = new PriceChangeFeedPoller(priceChangeRepository,
+                event -> published.addAll(((PricesChangedEvent) event).keys()),
+                new SimpleMeterRegistry(), batchSize, GAP_TIMEOUT, Duration.ofDays(1));
+        started.initialize();
+        return started;
+    }
+
+    void insert(PriceKey key) {
+        jdbcTemplate.update(INSERT_PRICE, key.brandId(), key.productId());
+    }
+
+    private static void insert(Connection connection, PriceKey key) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_PRICE)) {
+            ps.setLong(1, key.brandId());
+            ps.setLong(2, key.productId());
+            ps.executeUpdate();
+        }
+    }
+
+    List<PriceKey> keysRecordedAfter(long version) {
+        return priceChangeRepository.findChangesAfter(version, 100).stream()
+                .map(PriceChangeJdbcRepository.PriceChange::key)
+                .toList();
+    }
+
+    private Set<PriceKey> publishedKeys() {
+        return events.stream(PricesChangedEvent.class)
+                .flatMap(event -> event.keys().stream())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog;
+
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Changelog con el trigger Java de H2 ({@link H2PriceChangeTrigger}), que registra una fila por tarifa modificada.
+ */
+@DisplayName("Integración - Changelog de precios (H2)")
+class PriceChangeFeedH2Test extends AbstractPriceChangeFeedTest {
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Changelog con los triggers PL/pgSQL a nivel de sentencia contra un PostgreSQL real.
+ * <p>
+ * Solo se ejecuta si {@code PRICES_TEST_POSTGRES_URL} apunta a una base de datos local (ver
+ * {@code PriceValidityRangeQueryTest}). Las filas confirmadas se borran al terminar cada prueba.
+ * </p>
+ */
+@EnabledIfEnvironmentVariable(named = "PRICES_TEST_POSTGRES_URL", matches = ".+")
+@DisplayName("Integración - Changelog de precios (PostgreSQL)")
+class PriceChangeFeedPostgresTest extends AbstractPriceChangeFeedTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PRICES_TEST_POSTGRES_URL"));
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("PRICES_TEST_POSTGRES_USERNAME"), "postgres"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("PRICES_TEST_POSTGRES_PASSWORD"), "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Test
+    @DisplayName("Trigger: una carga de varias tarifas de la misma serie deja una única fila de changelog")
+    void trigger_ShouldRecordOneChangePerKeyAndStatement() {
+        long before = priceChangeRepository.findLatestVersion();
+
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                SELECT ?, TIMESTAMP '2024-01-01' + n * INTERVAL '1 day', TIMESTAMP '2024-01-01' + n * INTERVAL '1 day',
+                       n, ?, 0, 10.00, 'EUR'
+                FROM generate_series(1, 100) AS n""", FIRST.brandId(), FIRST.productId());
+
+        assertThat(keysRecordedAfter(before)).containsExactly(FIRST);
+    }
+}
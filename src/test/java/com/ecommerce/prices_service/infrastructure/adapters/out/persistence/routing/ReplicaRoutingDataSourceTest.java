@@ -0,0 +1,170 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.persistence.routing;
+
+import com.ecommerce.prices_service.application.ports.out.PriceRepositoryPort;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Enrutado de lecturas con dos bases H2 como réplicas: {@code replica-1} al día (con importes
+ * alterados para distinguir su respuesta) y {@code replica-2} con un retraso simulado superior al umbral.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Persistencia - Enrutado de lecturas a réplicas")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_2 = "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1";
+    private static final String STANDBY = "jdbc:h2:mem:standby;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void replicas(DynamicPropertyRegistry registry) {
+        Flyway.configure().dataSource(REPLICA_1, "sa", "").locations("classpath:db/migration").load().migrate();
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_1, "sa", ""))
+                .update("UPDATE prices SET price = price + 1000");
+
+        registry.add("prices.datasource.replicas[0].name", () -> "replica-1");
+        registry.add("prices.datasource.replicas[0].url", () -> REPLICA_1);
+        registry.add("prices.datasource.replicas[0].username", () -> "sa");
+        registry.add("prices.datasource.replicas[0].maximum-pool-size", () -> "2");
+        registry.add("prices.datasource.replicas[1].name", () -> "replica-2");
+        registry.add("prices.datasource.replicas[1].url", () -> REPLICA_2);
+        registry.add("prices.datasource.replicas[1].username", () -> "sa");
+        registry.add("prices.datasource.replicas[1].maximum-pool-size", () -> "2");
+        registry.add("prices.datasource.replicas[1].lag-query", () -> "SELECT 3600");
+    }
+
+    @Test
+    @DisplayName("Las consultas de precio se sirven desde la réplica sana y las escrituras quedan en el primario")
+    void readOnlyLookups_ShouldUseHealthyReplica() {
+        var price = priceRepositoryPort.findPriceByPriority(LocalDateTime.parse("2020-06-14T10:00:00"), 35455L, 1L);
+
+        assertThat(price).isPresent();
+        assertThat(price.get().price()).isEqualByComparingTo(new BigDecimal("1035.50"));
+        assertThat(jdbcTemplate.queryForObject("SELECT price FROM prices WHERE price_list = 1", BigDecimal.class))
+                .isEqualByComparingTo(new BigDecimal("35.50"));
+
+        assertThat(meterRegistry.get("prices.datasource.reads").tag("target", "replica-1").counter().count())
+                .isPositive();
+        assertThat(meterRegistry.get("prices.datasource.replica.healthy").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("prices.datasource.replica.healthy").tag("replica", "replica-2").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("prices.datasource.replica.lag").tag("replica", "replica-2").gauge().value())
+                .isEqualTo(3600);
+    }
+
+    @Test
+    @DisplayName("El tramo vigente se resuelve entero en la réplica sana: ganadora y tarifas solapadas de la misma base")
+    void segmentLookup_ShouldReadWinnerAndOverlapsFromSameReplica() {
+        var segment = priceRepositoryPort.findSegmentByPriority(LocalDateTime.parse("2020-06-14T16:00:00"), 35455L, 1L);
+
+        assertThat(segment).isPresent();
+        assertThat(segment.get().price().price()).isEqualByComparingTo(new BigDecimal("1025.45"));
+        assertThat(segment.get().from()).isEqualTo(LocalDateTime.parse("2020-06-14T15:00:00"));
+    }
+
+    @Test
+    @DisplayName("Con credenciales explícitas se aplica el mismo reparto: sin réplicas sanas, la conexión es del primario")
+    void getConnectionWithCredentials_ShouldFallBackToPrimary() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        var unchecked = new ReplicaRoutingDataSource.Replica("unchecked", new HikariDataSource(), null);
+        try (var routing = new ReplicaRoutingDataSource(List.of(unchecked), Duration.ofSeconds(5), registry)) {
+            routing.setPrimary(new DriverManagerDataSource(REPLICA_1));
+
+            try (Connection connection = routing.getConnection("sa", "")) {
+                assertThat(connection.getMetaData().getUserName()).isEqualToIgnoringCase("sa");
+            }
+            assertThat(registry.get("prices.datasource.reads").tag("target", "primary").counter().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("PostgreSQL: una réplica que ha aplicado todo el WAL no tiene retraso aunque el primario lleve horas sin escrituras")
+    void postgresLagQuery_ShouldReportNoLag_WhenPrimaryIsIdle() {
+        var standby = new JdbcTemplate(new DriverManagerDataSource(STANDBY, "sa", ""));
+        String functions = StandbyFunctions.class.getName();
+        standby.execute("CREATE ALIAS IF NOT EXISTS PG_IS_IN_RECOVERY FOR \"" + functions + ".inRecovery\"");
+        standby.execute("CREATE ALIAS IF NOT EXISTS PG_LAST_WAL_RECEIVE_LSN FOR \"" + functions + ".receiveLsn\"");
+        standby.execute("CREATE ALIAS IF NOT EXISTS PG_LAST_WAL_REPLAY_LSN FOR \"" + functions + ".replayLsn\"");
+        standby.execute("CREATE ALIAS IF NOT EXISTS PG_LAST_XACT_REPLAY_TIMESTAMP FOR \"" + functions + ".lastReplay\"");
+
+        var registry = new SimpleMeterRegistry();
+        var pool = new HikariDataSource();
+        pool.setJdbcUrl(STANDBY);
+        pool.setUsername("sa");
+        var replica = new ReplicaRoutingDataSource.Replica("standby", pool,
+                ReplicaRoutingDataSource.POSTGRESQL_LAG_QUERY);
+        try (var routing = new ReplicaRoutingDataSource(List.of(replica), Duration.ofSeconds(5), registry)) {
+            // Última transacción aplicada hace una hora y todo el WAL recibido ya aplicado
+            StandbyFunctions.replayLsn = StandbyFunctions.RECEIVE_LSN;
+            routing.checkReplicas();
+            assertThat(registry.get("prices.datasource.replica.lag").tag("replica", "standby").gauge().value()).isZero();
+            assertThat(registry.get("prices.datasource.replica.healthy").tag("replica", "standby").gauge().value())
+                    .isEqualTo(1);
+
+            // WAL pendiente de aplicar: el retraso es la antigüedad de la última transacción aplicada
+            StandbyFunctions.replayLsn = "0/2FFFF00";
+            routing.checkReplicas();
+            assertThat(registry.get("prices.datasource.replica.lag").tag("replica", "standby").gauge().value())
+                    .isGreaterThan(3000);
+            assertThat(registry.get("prices.datasource.replica.healthy").tag("replica", "standby").gauge().value())
+                    .isZero();
+        }
+    }
+
+    /**
+     * Funciones de recuperación de PostgreSQL registradas como alias de H2 para simular una réplica en espera.
+     */
+    public static final class StandbyFunctions {
+
+        static final String RECEIVE_LSN = "0/3000060";
+        static volatile String replayLsn = RECEIVE_LSN;
+
+        public static boolean inRecovery() {
+            return true;
+        }
+
+        public static String receiveLsn() {
+            return RECEIVE_LSN;
+        }
+
+        public static String replayLsn() {
+            return replayLsn;
+        }
+
+        public static OffsetDateTime lastReplay() {
+            return OffsetDateTime.now().minusHours(1);
+        }
+    }
+}
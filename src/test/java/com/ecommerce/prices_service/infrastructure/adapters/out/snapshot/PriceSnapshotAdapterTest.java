@@ -0,0 +1,178 @@
+package com.ecommerce.prices_service.infrastructure.adapters.out.snapshot;
+
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.PricePersistenceAdapter;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.changelog.PriceChangeFeedPoller;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceChangeJdbcRepository;
+import com.ecommerce.prices_service.infrastructure.adapters.out.persistence.repository.PriceJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que la instantánea mapeada resuelve lo mismo que la consulta SQL y que los cambios
+ * posteriores a su versión se resuelven contra la base de datos.
+ * <p>
+ * El exportador graba la versión del sondeo del changelog; las pruebas sondean en su propia transacción
+ * ({@link PriceChangeFeedPoller#poll()}) para que esa versión incluya las tarifas que acaban de insertar.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Instantánea binaria de precios")
+class PriceSnapshotAdapterTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Autowired
+    private PricePersistenceAdapter pricePersistenceAdapter;
+
+    @Autowired
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Autowired
+    private PriceChangeJdbcRepository priceChangeRepository;
+
+    @Autowired
+    private PriceChangeFeedPoller changeFeedPoller;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("prices.snapshot");
+    }
+
+    @Test
+    @DisplayName("Misma tarifa que la consulta SQL en todos los extremos de vigencia")
+    void findPriceByPriority_ShouldMatchSqlQuery_AtEveryBoundary() throws Exception {
+        // Empate de prioridad con la tarifa 2, una tarifa de otra cadena y otra moneda
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (1, '2020-06-14 16:00:00', '2020-06-14 17:00:00', 5, 35455, 1, 20.00, 'EUR')""");
+        jdbcTemplate.update("""
+                INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, currency)
+                VALUES (2, '2020-06-14 00:00:00', '2020-06-30 23:59:59', 6, 35455, 3, 15.00, 'USD')""");
+
+        PriceSnapshotAdapter adapter = exportAndOpen();
+
+        List<LocalDateTime> probes = new ArrayList<>();
+        jdbcTemplate.query("SELECT start_date, end_date FROM prices", rs -> {
+            for (String column : List.of("start_date", "end_date")) {
+                LocalDateTime boundary = rs.getObject(column, LocalDateTime.class);
+                probes.add(boundary);
+                probes.add(boundary.minusSeconds(1));
+                probes.add(boundary.plusSeconds(1));
+                probes.add(boundary.plusNanos(1_000_000));
+            }
+        });
+
+        for (long brandId : new long[]{1L, 2L, 3L}) {
+            for (LocalDateTime probe : probes) {
+                assertThat(adapter.findPriceByPriority(probe, 35455L, brandId))
+                        .as("brandId=%d, fecha=%s", brandId, probe)
+                        .isEqualTo(pricePersistenceAdapter.findPriceByPriority(probe, 35455L, brandId));
+            }
+        }
+        assertThat(adapter.findPricesBetween(35455L, 1L, DATE, DATE.plusDays(1)))
+                .containsExactlyInAnyOrderElementsOf(pricePersistenceAdapter.findPricesBetween(35455L, 1L, DATE, DATE.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Las claves notificadas tras la carga se resuelven en base de datos")
+    void findPriceByPriority_ShouldQueryDatabase_ForKeysChangedAfterLoad() throws Exception {
+        PriceSnapshotAdapter adapter = exportAndOpen();
+        jdbcTemplate.update("UPDATE prices SET price = 99.99 WHERE price_list = 1");
+
+        // Sin notificación se sigue sirviendo la instantánea
+        assertThat(adapter.findPriceByPriority(DATE, 35455L, 1L)).map(Price::price).contains(new BigDecimal("35.50"));
+
+        adapter.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 35455L))));
+
+        assertThat(adapter.findPriceByPriority(DATE, 35455L, 1L)).map(Price::price).contains(new BigDecimal("99.99"));
+    }
+
+    @Test
+    @DisplayName("Al cargar una instantánea se recuperan del changelog los cambios posteriores a su versión")
+    void reload_ShouldCatchUpFromChangelog_WhenSnapshotIsBehind() throws Exception {
+        export();
+        jdbcTemplate.update("UPDATE prices SET price = 99.99 WHERE price_list = 1");
+
+        PriceSnapshotAdapter adapter = newAdapter(changeFeedPoller);
+        adapter.reload();
+
+        assertThat(adapter.findPriceByPriority(DATE, 35455L, 1L)).map(Price::price).contains(new BigDecimal("99.99"));
+    }
+
+    @Test
+    @DisplayName("Una instantánea por delante del sondeo local no se mapea hasta que este la alcanza")
+    void reload_ShouldWaitForChangeFeed_WhenSnapshotIsAhead() throws Exception {
+        jdbcTemplate.update("UPDATE prices SET price = 99.99 WHERE price_list = 1");
+        long exported = export();
+        assertThat(exported).isPositive();
+
+        // Sondeo sin inicializar (versión 0): como uno que aún espera un hueco anterior a la instantánea. Sin
+        // gap-timeout, los huecos de transacciones revertidas por otras pruebas se descartan en el sondeo siguiente
+        var behind = new PriceChangeFeedPoller(priceChangeRepository, event -> { }, new SimpleMeterRegistry(),
+                1000, Duration.ZERO, Duration.ofDays(1));
+        var meterRegistry = new SimpleMeterRegistry();
+        PriceSnapshotAdapter adapter = new PriceSnapshotAdapter(priceJdbcRepository, priceChangeRepository, behind,
+                meterRegistry, path, Duration.ofDays(1), 10, 100, false);
+
+        adapter.reload();
+        assertThat(meterRegistry.get("prices.snapshot.version").gauge().value()).isEqualTo(-1);
+
+        for (int i = 0; i < 100 && behind.currentVersion() < exported; i++) {
+            behind.poll();
+        }
+        adapter.reload();
+        assertThat(meterRegistry.get("prices.snapshot.version").gauge().value()).isEqualTo(exported);
+    }
+
+    private long export() throws Exception {
+        changeFeedPoller.poll();
+        return new PriceSnapshotExporter(priceJdbcRepository, changeFeedPoller, transactionTemplate, path).export();
+    }
+
+    private PriceSnapshotAdapter exportAndOpen() throws Exception {
+        export();
+        PriceSnapshotAdapter adapter = newAdapter(changeFeedPoller);
+        adapter.reload();
+        return adapter;
+    }
+
+    private PriceSnapshotAdapter newAdapter(PriceChangeFeedPoller poller) {
+        return new PriceSnapshotAdapter(priceJdbcRepository, priceChangeRepository, poller, new SimpleMeterRegistry(),
+                path, Duration.ofDays(1), 10, 100, false);
+    }
+}
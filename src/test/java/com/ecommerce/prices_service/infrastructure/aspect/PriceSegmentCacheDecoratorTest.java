@@ -0,0 +1,222 @@
+package com.ecommerce.prices_service.infrastructure.aspect;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.event.PricesChangedEvent;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceKey;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Caché - Tramos de vigencia por producto y cadena")
+class PriceSegmentCacheDecoratorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 15, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 14, 18, 30);
+    private static final PriceSegment SEGMENT = segment(2L, FROM, TO);
+    private static final PriceSegment NEXT_SEGMENT = segment(1L, TO, TO.plusHours(6));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingUseCase delegate = new RecordingUseCase();
+    private final PriceSegmentCacheDecorator decorator =
+            new PriceSegmentCacheDecorator(delegate, true, meterRegistry, 100, Duration.ofMinutes(10), Duration.ZERO);
+
+    @Test
+    @DisplayName("Cualquier fecha dentro de un tramo conocido se sirve sin llamar al caso de uso")
+    void resolveSegment_ShouldServeDatesInsideKnownSegmentFromCache() {
+        assertThat(decorator.resolveSegment(FROM.plusMinutes(10), 35455L, 1L)).isEqualTo(SEGMENT);
+        assertThat(decorator.resolveSegment(FROM, 35455L, 1L)).isEqualTo(SEGMENT);
+        assertThat(decorator.resolveSegment(TO.minusNanos(1), 35455L, 1L)).isEqualTo(SEGMENT);
+
+        assertThat(delegate.resolved).hasSize(1);
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("El fin del tramo es exclusivo: esa fecha se resuelve y su tramo se añade a la clave")
+    void resolveSegment_ShouldMissAtSegmentEndAndKeepBothSegments() {
+        decorator.resolveSegment(FROM, 35455L, 1L);
+
+        assertThat(decorator.resolveSegment(TO, 35455L, 1L)).isEqualTo(NEXT_SEGMENT);
+        assertThat(decorator.resolveSegment(FROM.plusHours(1), 35455L, 1L)).isEqualTo(SEGMENT);
+        assertThat(decorator.resolveSegment(TO.plusHours(1), 35455L, 1L)).isEqualTo(NEXT_SEGMENT);
+
+        assertThat(delegate.resolved).containsExactly(FROM, TO);
+    }
+
+    @Test
+    @DisplayName("Un tramo de otra clave no sirve para la consulta")
+    void resolveSegment_ShouldNotShareSegmentsAcrossKeys() {
+        decorator.resolveSegment(FROM, 35455L, 1L);
+        decorator.resolveSegment(FROM, 35455L, 2L);
+
+        assertThat(delegate.resolved).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("findKnownSegment solo consulta la caché: nunca resuelve ni cuenta la consulta")
+    void findKnownSegment_ShouldNeverDelegate() {
+        assertThat(decorator.findKnownSegment(FROM, 35455L, 1L)).isEmpty();
+
+        decorator.resolveSegment(FROM, 35455L, 1L);
+
+        assertThat(decorator.findKnownSegment(FROM.plusHours(1), 35455L, 1L)).contains(SEGMENT);
+        assertThat(decorator.findKnownSegment(TO, 35455L, 1L)).isEmpty();
+        assertThat(delegate.resolved).containsExactly(FROM);
+        assertThat(requests("hit")).isZero();
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PricesChangedEvent descarta solo las claves modificadas")
+    void onPricesChanged_ShouldInvalidateOnlyChangedKeys() {
+        decorator.resolveSegment(FROM, 35455L, 1L);
+        decorator.resolveSegment(FROM, 99999L, 1L);
+
+        decorator.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 35455L))));
+        decorator.resolveSegment(FROM, 35455L, 1L);
+        decorator.resolveSegment(FROM, 99999L, 1L);
+
+        assertThat(delegate.resolved).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Las claves modificadas se invalidan de nuevo pasado el retraso de las réplicas")
+    void onPricesChanged_ShouldInvalidateAgain_AfterReplicaLag() throws InterruptedException {
+        var lagging = new PriceSegmentCacheDecorator(delegate, true, meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofMillis(50));
+        lagging.resolveSegment(FROM, 35455L, 1L);
+
+        lagging.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 35455L))));
+        // Relectura inmediata (p. ej. desde una réplica retrasada): vuelve a la caché
+        lagging.resolveSegment(FROM, 35455L, 1L);
+        assertThat(lagging.findKnownSegment(FROM, 35455L, 1L)).isPresent();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (lagging.findKnownSegment(FROM, 35455L, 1L).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        lagging.resolveSegment(FROM, 35455L, 1L);
+
+        assertThat(delegate.resolved).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Un tramo resuelto mientras llega una invalidación no se almacena")
+    void resolveSegment_ShouldDiscardSegmentResolvedBeforeConcurrentInvalidation() {
+        delegate.duringResolution = () ->
+                decorator.onPricesChanged(new PricesChangedEvent(Set.of(new PriceKey(1L, 35455L))));
+        decorator.resolveSegment(FROM, 35455L, 1L);
+
+        delegate.duringResolution = () -> { };
+        decorator.resolveSegment(FROM, 35455L, 1L);
+
+        assertThat(delegate.resolved).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("El lote sirve desde caché las consultas con tramo conocido y delega solo el resto")
+    void executeBatch_ShouldDelegateOnlyUncachedQueries() {
+        decorator.resolveSegment(FROM, 35455L, 1L);
+        PriceQuery cached = new PriceQuery(FROM.plusHours(1), 35455L, 1L);
+        PriceQuery pending = new PriceQuery(TO.plusHours(1), 35455L, 1L);
+
+        Map<PriceQuery, Price> result = decorator.executeBatch(List.of(cached, pending));
+
+        assertThat(result).containsEntry(cached, SEGMENT.price()).containsEntry(pending, NEXT_SEGMENT.price());
+        assertThat(delegate.batches).containsExactly(List.of(pending));
+    }
+
+    @Test
+    @DisplayName("Con la caché desactivada el lote se delega completo y no cuenta aciertos ni fallos")
+    void executeBatch_ShouldBypassCache_WhenDisabled() {
+        var disabled = new PriceSegmentCacheDecorator(delegate, false, meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ZERO);
+        List<PriceQuery> queries = List.of(new PriceQuery(FROM, 35455L, 1L), new PriceQuery(TO, 35455L, 1L));
+
+        assertThat(disabled.executeBatch(queries)).hasSize(2);
+
+        assertThat(delegate.batches).containsExactly(queries);
+        assertThat(requests("hit")).isZero();
+        assertThat(requests("miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("Añadir un tramo a una clave no prorroga la expiración de los tramos que ya tenía")
+    void resolveSegment_ShouldKeepFirstWriteExpiry_WhenSegmentsAreAdded() throws InterruptedException {
+        var expiring = new PriceSegmentCacheDecorator(delegate, true, meterRegistry, 100, Duration.ofMillis(400),
+                Duration.ZERO);
+        long firstWrite = System.nanoTime();
+        expiring.resolveSegment(FROM, 35455L, 1L);
+        Thread.sleep(300);
+        expiring.resolveSegment(TO, 35455L, 1L);
+
+        long deadline = firstWrite + Duration.ofSeconds(5).toNanos();
+        while (expiring.findKnownSegment(FROM, 35455L, 1L).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Con expiración por escritura el primer tramo habría seguido en caché hasta ~700 ms
+        assertThat(Duration.ofNanos(System.nanoTime() - firstWrite)).isLessThan(Duration.ofMillis(650));
+        assertThat(expiring.findKnownSegment(TO, 35455L, 1L)).isEmpty();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("prices.cache.segments.requests").tag("result", result).counter().count();
+    }
+
+    private static PriceSegment segment(long id, LocalDateTime from, LocalDateTime to) {
+        return new PriceSegment(from, to, new Price(id, 1L, 35455L, (int) id, from, to,
+                new BigDecimal("25.45"), Currency.getInstance("EUR"), 1));
+    }
+
+    /**
+     * Caso de uso que devuelve {@link #SEGMENT} o {@link #NEXT_SEGMENT} según la fecha y registra las llamadas.
+     */
+    private static final class RecordingUseCase implements GetPriceUseCase {
+
+        private final List<LocalDateTime> resolved = new ArrayList<>();
+        private final List<List<PriceQuery>> batches = new ArrayList<>();
+        private Runnable duringResolution = () -> { };
+
+        @Override
+        public Price execute(LocalDateTime date, Long productId, Long brandId) {
+            return resolveSegment(date, productId, brandId).price();
+        }
+
+        @Override
+        public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+            resolved.add(date);
+            duringResolution.run();
+            return SEGMENT.contains(date) ? SEGMENT : NEXT_SEGMENT;
+        }
+
+        @Override
+        public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+            batches.add(List.copyOf(queries));
+            Map<PriceQuery, Price> result = new HashMap<>();
+            queries.forEach(query -> result.put(query, (SEGMENT.contains(query.date()) ? SEGMENT : NEXT_SEGMENT).price()));
+            return result;
+        }
+
+        @Override
+        public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+            return List.of();
+        }
+    }
+}
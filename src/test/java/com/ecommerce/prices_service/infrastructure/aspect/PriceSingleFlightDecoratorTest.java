@@ -0,0 +1,128 @@
+package com.ecommerce.prices_service.infrastructure.aspect;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Resiliencia - Agrupación de consultas concurrentes (single-flight)")
+class PriceSingleFlightDecoratorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 15, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 14, 18, 30);
+    private static final PriceSegment SEGMENT = new PriceSegment(FROM, TO, new Price(2L, 1L, 35455L, 2,
+            FROM, TO, new BigDecimal("25.45"), Currency.getInstance("EUR"), 1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("Las consultas concurrentes dentro del tramo comparten una única llamada")
+    void resolveSegment_ShouldCoalesceConcurrentLookups() throws Exception {
+        var decorator = new PriceSingleFlightDecorator(blockingUseCase(() -> SEGMENT), true, meterRegistry);
+
+        List<FutureTask<PriceSegment>> tasks = startConcurrently(decorator, 10);
+
+        for (var task : tasks) {
+            assertThat(task.get()).isSameAs(SEGMENT);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("prices.singleflight.coalesced").counter().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Un error de infraestructura se propaga a todas las consultas agrupadas")
+    void resolveSegment_ShouldPropagateErrorsToEveryWaiter() throws Exception {
+        var decorator = new PriceSingleFlightDecorator(blockingUseCase(() -> {
+            throw new IllegalStateException("conexión rechazada");
+        }), true, meterRegistry);
+
+        List<FutureTask<PriceSegment>> tasks = startConcurrently(decorator, 5);
+
+        for (var task : tasks) {
+            assertThatThrownBy(task::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    /**
+     * Lanza una consulta líder que queda bloqueada en el caso de uso y, mientras tanto, el resto;
+     * libera al líder cuando todas esperan su resultado.
+     */
+    private List<FutureTask<PriceSegment>> startConcurrently(PriceSingleFlightDecorator decorator, int count)
+            throws InterruptedException {
+        List<FutureTask<PriceSegment>> tasks = new ArrayList<>();
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime date = FROM.plusMinutes(i);
+            var task = new FutureTask<>(() -> decorator.resolveSegment(date, 35455L, 1L));
+            tasks.add(task);
+            Thread thread = Thread.ofPlatform().start(task);
+            if (i == 0) {
+                while (calls.get() == 0) {
+                    Thread.onSpinWait();
+                }
+            } else {
+                waiters.add(thread);
+            }
+        }
+        for (Thread waiter : waiters) {
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        return tasks;
+    }
+
+    private GetPriceUseCase blockingUseCase(Supplier<PriceSegment> result) {
+        return new GetPriceUseCase() {
+            @Override
+            public Price execute(LocalDateTime date, Long productId, Long brandId) {
+                return resolveSegment(date, productId, brandId).price();
+            }
+
+            @Override
+            public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+                calls.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return result.get();
+            }
+
+            @Override
+            public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+                return Map.of();
+            }
+
+            @Override
+            public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+                return List.of();
+            }
+        };
+    }
+}
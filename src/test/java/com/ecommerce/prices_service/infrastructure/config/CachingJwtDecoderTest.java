@@ -0,0 +1,66 @@
+package com.ecommerce.prices_service.infrastructure.config;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Seguridad - Caché de JWT validados")
+class CachingJwtDecoderTest {
+
+    private final SecretKey key = HmacJwtKeys.secretKey("esta-es-una-clave-secreta-de-32-caracteres-minimo");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(
+            NimbusJwtDecoder.withSecretKey(key).build(), 100, Duration.ofMinutes(5), meterRegistry);
+
+    @Test
+    @DisplayName("Un token repetido se sirve desde caché y se contabiliza como acierto")
+    void decode_ShouldReuseValidatedToken() {
+        String token = mint(Instant.now().plusSeconds(300));
+
+        var first = decoder.decode(token);
+        var second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtDecoder").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un token caducado o con firma alterada nunca se acepta")
+    void decode_ShouldRejectExpiredOrTamperedTokens() {
+        String expired = mint(Instant.now().minusSeconds(120));
+        assertThatThrownBy(() -> decoder.decode(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(expired)).isInstanceOf(JwtException.class);
+
+        String valid = mint(Instant.now().plusSeconds(300));
+        decoder.decode(valid);
+        String tampered = valid.substring(0, valid.length() - 2) + (valid.endsWith("AA") ? "BB" : "AA");
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    private String mint(Instant expiresAt) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("catalog-service")
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+}
@@ -0,0 +1,196 @@
+package com.ecommerce.prices_service.infrastructure.observability;
+
+import com.ecommerce.prices_service.infrastructure.config.HmacJwtKeys;
+import com.ecommerce.prices_service.infrastructure.observability.PriceStageMetrics.Outcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Traza por etapas de {@code GET /api/v1/prices}: timers {@code prices.request.stage} por etapa y resultado,
+ * filtro de ruta y muestreo del log de peticiones lentas.
+ * <p>
+ * Las peticiones llevan un JWT real firmado con {@code prices.security.jwt-secret} (no el post-procesador
+ * {@code jwt()} de Spring Security), para que la etapa {@code jwt_decode} pase por el decodificador. Con
+ * {@code slow-threshold=PT0S} toda consulta es lenta y se registra en el log.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "prices.tracing.slow-threshold=PT0S",
+        "prices.tracing.slow-log-per-second=1000"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Observabilidad - Traza por etapas de la consulta de precio")
+class PriceRequestTracingFilterTest {
+
+    private static final String STAGE_TIMER = "prices.request.stage";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${prices.security.jwt-secret}")
+    private String jwtSecret;
+
+    @Test
+    @DisplayName("200: cada etapa recorrida suma una muestra con outcome=found y la consulta lenta se registra con su desglose")
+    void getPrice_ShouldRecordEveryStage_WithFoundOutcome(CapturedOutput output) throws Exception {
+        List<String> stages = List.of("jwt_decode", "validation", "repository", "dto_mapping", "serialization");
+        Map<String, Long> before = counts(stages, Outcome.FOUND);
+
+        // Parámetros en la URI para que el log de lentas reciba la query string
+        mockMvc.perform(bearer(get("/api/v1/prices?applicationDate=2020-06-14T10:00:00&productId=35455&brandId=1"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertThat(counts(stages, Outcome.FOUND))
+                .allSatisfy((stage, count) -> assertThat(count).as(stage).isEqualTo(before.get(stage) + 1));
+        assertThat(output).contains("Consulta de precio lenta")
+                .contains("productId=35455")
+                .contains("jwt_decode=");
+    }
+
+    @Test
+    @DisplayName("CBOR: el mapeo al DTO y la escritura del conversor binario también se registran")
+    void getPriceBinary_ShouldRecordDtoMappingAndSerialization() throws Exception {
+        List<String> stages = List.of("dto_mapping", "serialization");
+        Map<String, Long> before = counts(stages, Outcome.FOUND);
+
+        mockMvc.perform(bearer(get("/api/v1/prices"))
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk());
+
+        assertThat(counts(stages, Outcome.FOUND))
+                .allSatisfy((stage, count) -> assertThat(count).as(stage).isEqualTo(before.get(stage) + 1));
+    }
+
+    @Test
+    @DisplayName("404: las etapas se etiquetan con outcome=not_found")
+    void getPrice_ShouldTagStages_WithNotFoundOutcome() throws Exception {
+        List<String> stages = List.of("jwt_decode", "validation");
+        Map<String, Long> before = counts(stages, Outcome.NOT_FOUND);
+
+        mockMvc.perform(bearer(get("/api/v1/prices"))
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound());
+
+        assertThat(counts(stages, Outcome.NOT_FOUND))
+                .allSatisfy((stage, count) -> assertThat(count).as(stage).isEqualTo(before.get(stage) + 1));
+    }
+
+    @Test
+    @DisplayName("400: la decodificación del token se etiqueta con outcome=error")
+    void getPrice_ShouldTagStages_WithErrorOutcome() throws Exception {
+        long before = count("jwt_decode", Outcome.ERROR);
+
+        mockMvc.perform(bearer(get("/api/v1/prices"))
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "-1")
+                        .param("brandId", "1"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(count("jwt_decode", Outcome.ERROR)).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Filtro de ruta: el resto de endpoints de precios no registran etapas")
+    void otherEndpoints_ShouldNotBeTraced() throws Exception {
+        long before = totalCount();
+
+        mockMvc.perform(bearer(get("/api/v1/prices/timeline"))
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T23:59:59"))
+                .andExpect(status().isOk());
+        mockMvc.perform(bearer(post("/api/v1/prices:batch"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1}]}"""))
+                .andExpect(status().isOk());
+
+        assertThat(totalCount()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Resultado: se deriva del código HTTP de la respuesta")
+    void outcome_ShouldBeDerivedFromStatus() {
+        assertThat(Outcome.of(200)).isEqualTo(Outcome.FOUND);
+        assertThat(Outcome.of(304)).isEqualTo(Outcome.FOUND);
+        assertThat(Outcome.of(404)).isEqualTo(Outcome.NOT_FOUND);
+        assertThat(Outcome.of(429)).isEqualTo(Outcome.REJECTED);
+        assertThat(Outcome.of(503)).isEqualTo(Outcome.REJECTED);
+        assertThat(Outcome.of(400)).isEqualTo(Outcome.ERROR);
+        assertThat(Outcome.of(401)).isEqualTo(Outcome.ERROR);
+        assertThat(Outcome.of(500)).isEqualTo(Outcome.ERROR);
+    }
+
+    @Test
+    @DisplayName("Log de lentas: como mucho slow-log-per-second trazas por segundo; el contador se reinicia al cambiar de segundo")
+    void sampleSlowLog_ShouldLimitTracesPerSecond() {
+        var filter = new PriceRequestTracingFilter(new SimpleMeterRegistry(), true, Duration.ZERO, 2);
+        long second = 1_700_000_000_000L;
+
+        assertThat(filter.sampleSlowLog(second)).isTrue();
+        assertThat(filter.sampleSlowLog(second + 400)).isTrue();
+        assertThat(filter.sampleSlowLog(second + 999)).isFalse();
+
+        assertThat(filter.sampleSlowLog(second + 1_000)).isTrue();
+        assertThat(filter.sampleSlowLog(second + 1_500)).isTrue();
+        assertThat(filter.sampleSlowLog(second + 1_600)).isFalse();
+    }
+
+    private Map<String, Long> counts(List<String> stages, Outcome outcome) {
+        return stages.stream().collect(Collectors.toMap(Function.identity(), stage -> count(stage, outcome)));
+    }
+
+    private long count(String stage, Outcome outcome) {
+        return meterRegistry.get(STAGE_TIMER)
+                .tag("stage", stage)
+                .tag("outcome", outcome.name().toLowerCase())
+                .timer().count();
+    }
+
+    private long totalCount() {
+        return meterRegistry.find(STAGE_TIMER).timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private MockHttpServletRequestBuilder bearer(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION,
+                "Bearer " + HmacJwtKeys.mintToken(jwtSecret, "catalog-service", Duration.ofMinutes(5)));
+    }
+}
@@ -0,0 +1,181 @@
+package com.ecommerce.prices_service.infrastructure.resilience;
+
+import com.ecommerce.prices_service.application.ports.in.GetPriceUseCase;
+import com.ecommerce.prices_service.domain.exception.PriceNotFoundException;
+import com.ecommerce.prices_service.domain.model.Price;
+import com.ecommerce.prices_service.domain.model.PriceQuery;
+import com.ecommerce.prices_service.domain.model.PriceSegment;
+import com.ecommerce.prices_service.infrastructure.aspect.PriceUseCaseDecorator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Algoritmo del limitador con reloj y latencias simuladas: cada llamada dura exactamente lo que indica la prueba.
+ * Con {@code smoothing = 1} cada recálculo se aplica entero, lo que permite comprobar valores exactos.
+ */
+@DisplayName("Resiliencia - Limitador de concurrencia adaptativo")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private long now = 1_000_000_000L;
+    private int pendingConnections;
+
+    @Test
+    @DisplayName("Concede plazas hasta el límite, rechaza sin esperar por encima y vuelve a conceder al liberar")
+    void acquire_ShouldRejectImmediately_WhenLimitIsReached() {
+        var limiter = limiter(3, 1, 10, 100);
+        List<Long> held = acquire(limiter, 3);
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("3 llamadas");
+        assertThat(meterRegistry.get("prices.limiter.rejections").counter().count()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+
+        limiter.release(held.getFirst(), false);
+
+        limiter.acquire();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Con latencia estable y el límite aprovechado, crece en √límite")
+    void release_ShouldGrowLimit_WhenLatencyIsStableUnderLoad() {
+        var limiter = limiter(16, 1, 100, 100);
+
+        completeAfter(limiter, acquire(limiter, 16), FAST, 1);
+
+        // 16 + √16 = 20
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Sin carga (menos de la mitad del límite en curso) el límite no se mueve")
+    void release_ShouldKeepLimit_WhenLoadIsLow() {
+        var limiter = limiter(16, 1, 100, 100);
+
+        completeAfter(limiter, acquire(limiter, 7), FAST, 7);
+
+        assertThat(limiter.getLimit()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Si la latencia crece sobre la media larga, el límite se reduce según el gradiente")
+    void release_ShouldShrinkLimit_WhenLatencyRises() {
+        var limiter = limiter(16, 1, 100, 100);
+        // Media larga de 10 ms con poca carga (no mueve el límite)
+        completeAfter(limiter, acquire(limiter, 1), FAST, 1);
+
+        completeAfter(limiter, acquire(limiter, 16), SLOW, 1);
+
+        // Gradiente 1,5 · ~11,8 ms / 100 ms, acotado a 0,5: 16 · 0,5 + √16 = 12
+        assertThat(limiter.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("El límite nunca baja del mínimo ni supera el máximo")
+    void release_ShouldClampLimitBetweenMinAndMax() {
+        var growing = limiter(10, 1, 12, 100);
+        completeAfter(growing, acquire(growing, 10), FAST, 1);
+        assertThat(growing.getLimit()).isEqualTo(12);
+
+        var shrinking = limiter(10, 4, 100, 100);
+        for (int i = 0; i < 50; i++) {
+            shrinking.release(shrinking.acquire(), true);
+        }
+        assertThat(shrinking.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Hilos esperando conexión en Hikari reducen el límite aunque la latencia sea buena")
+    void release_ShouldBackOff_WhenThreadsAwaitConnection() {
+        var limiter = limiter(20, 1, 100, 100);
+        pendingConnections = 3;
+
+        completeAfter(limiter, acquire(limiter, 1), FAST, 1);
+
+        // 20 · 0,9
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("El decorador libera la plaza si la llamada falla; solo los fallos de infraestructura reducen el límite")
+    void decorator_ShouldReleaseSlot_WhenCallThrows() {
+        var limiter = limiter(20, 1, 100, 100);
+
+        var notFound = new PriceUseCaseDecorator(
+                throwingUseCase(() -> new PriceNotFoundException("Sin tarifa aplicable")), limiter);
+        assertThatThrownBy(() -> notFound.resolveSegment(LocalDateTime.now(), 35455L, 1L))
+                .isInstanceOf(PriceNotFoundException.class);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        var broken = new PriceUseCaseDecorator(
+                throwingUseCase(() -> new IllegalStateException("conexión rechazada")), limiter);
+        assertThatThrownBy(() -> broken.resolveSegment(LocalDateTime.now(), 35455L, 1L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, int longWindow) {
+        var settings = new AdaptiveConcurrencyLimiter.Settings(initialLimit, minLimit, maxLimit, 1.0, 1.5, longWindow);
+        return new AdaptiveConcurrencyLimiter("test", settings, () -> pendingConnections, meterRegistry, () -> now);
+    }
+
+    private static List<Long> acquire(AdaptiveConcurrencyLimiter limiter, int calls) {
+        List<Long> starts = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            starts.add(limiter.acquire());
+        }
+        return starts;
+    }
+
+    /**
+     * Libera las primeras {@code count} llamadas tras {@code latency}; el resto siguen en curso.
+     */
+    private void completeAfter(AdaptiveConcurrencyLimiter limiter, List<Long> starts, Duration latency, int count) {
+        now += latency.toNanos();
+        for (int i = 0; i < count; i++) {
+            limiter.release(starts.get(i), false);
+        }
+    }
+
+    private static GetPriceUseCase throwingUseCase(Supplier<RuntimeException> error) {
+        return new GetPriceUseCase() {
+            @Override
+            public Price execute(LocalDateTime date, Long productId, Long brandId) {
+                throw error.get();
+            }
+
+            @Override
+            public PriceSegment resolveSegment(LocalDateTime date, Long productId, Long brandId) {
+                throw error.get();
+            }
+
+            @Override
+            public Map<PriceQuery, Price> executeBatch(List<PriceQuery> queries) {
+                throw error.get();
+            }
+
+            @Override
+            public List<PriceSegment> resolveTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+                throw error.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.prices_service.infrastructure.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calentamiento con el servidor web en un puerto aleatorio: las consultas se repiten por HTTP contra
+ * {@code localhost}, con un JWT firmado por el propio servicio.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "prices.warmup.enabled=true",
+        "prices.warmup.sample-size=10",
+        "prices.warmup.requests=200",
+        "prices.warmup.concurrency=4"
+})
+@ActiveProfiles("test")
+@DisplayName("Integración - Calentamiento previo a readiness")
+class PriceWarmupRunnerTest {
+
+    @Autowired
+    private PriceWarmupRunner warmupRunner;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("El servicio pasa a aceptar tráfico tras el calentamiento del arranque y publica su resultado")
+    void startup_ShouldWarmUpBeforeAcceptingTraffic() {
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(meterRegistry.get("prices.warmup.requests").gauge().value()).isEqualTo(200);
+        assertThat(meterRegistry.get("prices.warmup.latency").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Repite las consultas configuradas por HTTP sin fallos e informa de la latencia posterior")
+    void warmUp_ShouldReplayRequestsAndReportLatency() {
+        long traced = tracedRequests();
+
+        PriceWarmupRunner.Report report = warmupRunner.warmUp();
+
+        // Las repeticiones atraviesan seguridad y el filtro de traza (el filtro registra tras responder)
+        assertThat(tracedRequests()).isGreaterThan(traced);
+        assertThat(report.requests()).isEqualTo(200);
+        assertThat(report.failures()).isZero();
+        assertThat(report.duration()).isPositive();
+        assertThat(report.p50()).isPositive().isLessThanOrEqualTo(report.p99());
+        assertThat(report.p99()).isLessThanOrEqualTo(report.max());
+        assertThat(report.max()).isLessThan(Duration.ofSeconds(2));
+    }
+
+    private long tracedRequests() {
+        return meterRegistry.find("prices.request.stage").tag("stage", "jwt_decode").timers().stream()
+                .mapToLong(Timer::count).sum();
+    }
+}